@@ -0,0 +1,76 @@
+package io.github.chikitlo.common.benchmark.jmh;
+
+import io.github.chikitlo.common.constant.DateConstants;
+import io.github.chikitlo.common.util.DateColumn;
+import io.github.chikitlo.common.util.DateUtils;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.Date;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * DateUtils parsing and formatting of typical date strings, one value per call and as a whole column.
+ * <p>
+ * Single-value benchmarks cycle through a column of values so the inputs vary like in an import.
+ * </p>
+ *
+ * @author Jack Lo
+ * @version 1.0
+ * @date 2026/10/18 21:23
+ */
+@State(Scope.Thread)
+@BenchmarkMode({Mode.Throughput, Mode.AverageTime})
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class DateBenchmark {
+    private static final int COLUMN_SIZE = 4096;
+    private static final String CUSTOM_PATTERN = "dd/MM/yyyy HH:mm:ss";
+
+    private String[] dateTimes;
+    private String[] customDateTimes;
+    private Date[] dates;
+    private int index;
+
+    @Setup
+    public void setUp() {
+        dateTimes = Payloads.dateTimes(COLUMN_SIZE, 256);
+        customDateTimes = Payloads.dateTimes(COLUMN_SIZE, 256, CUSTOM_PATTERN);
+        dates = new Date[COLUMN_SIZE];
+        for (int i = 0; i < COLUMN_SIZE; i++) {
+            dates[i] = DateUtils.stringToDate(dateTimes[i], Payloads.ZONE);
+        }
+    }
+
+    private int next() {
+        index = (index + 1) & (COLUMN_SIZE - 1);
+        return index;
+    }
+
+    @Benchmark
+    public Date parse() {
+        return DateUtils.parse(dateTimes[next()], DateConstants.YYYY_MM_DD_HH_MM_SS, Payloads.ZONE);
+    }
+
+    @Benchmark
+    public Date parseCustomPattern() {
+        return DateUtils.parse(customDateTimes[next()], CUSTOM_PATTERN, Payloads.ZONE);
+    }
+
+    @Benchmark
+    public String format() {
+        return DateUtils.format(dates[next()], DateConstants.YYYY_MM_DD_HH_MM_SS, Payloads.ZONE);
+    }
+
+    @Benchmark
+    public String getCurrentTime() {
+        return DateUtils.getCurrentTime(DateConstants.YYYY_MM_DD_HH_MM_SS);
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(COLUMN_SIZE)
+    public DateColumn parseColumn() {
+        return DateUtils.parseColumn(dateTimes, DateConstants.YYYY_MM_DD_HH_MM_SS, Payloads.ZONE);
+    }
+}
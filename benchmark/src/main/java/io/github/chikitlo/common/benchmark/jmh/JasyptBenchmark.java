@@ -0,0 +1,44 @@
+package io.github.chikitlo.common.benchmark.jmh;
+
+import io.github.chikitlo.common.util.JasyptUtils;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * JasyptUtils encryption and decryption of a short secret with the default algorithm.
+ * <p>
+ * Each call derives a key from its own salt, so a call takes milliseconds; the iterations are longer to collect enough
+ * calls.
+ * </p>
+ *
+ * @author Jack Lo
+ * @version 1.0
+ * @date 2026/10/18 21:23
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode({Mode.Throughput, Mode.AverageTime})
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 2, time = 3)
+@Measurement(iterations = 5, time = 3)
+@Fork(1)
+public class JasyptBenchmark {
+    private static final String SECRET = "jdbc-password-7f3a9c";
+
+    private String cipherText;
+
+    @Setup
+    public void setUp() {
+        cipherText = JasyptUtils.encrypt(SECRET, Payloads.PASSWORD);
+    }
+
+    @Benchmark
+    public String encrypt() {
+        return JasyptUtils.encrypt(SECRET, Payloads.PASSWORD);
+    }
+
+    @Benchmark
+    public String decrypt() {
+        return JasyptUtils.decrypt(cipherText, Payloads.PASSWORD);
+    }
+}
@@ -0,0 +1,179 @@
+package io.github.chikitlo.common.benchmark.jmh;
+
+import io.github.chikitlo.common.util.JsonUtils;
+import lombok.extern.slf4j.Slf4j;
+import org.openjdk.jmh.profile.GCProfiler;
+import org.openjdk.jmh.results.format.ResultFormatType;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.ChainedOptionsBuilder;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+import tools.jackson.core.type.TypeReference;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.*;
+
+/**
+ * Runs the JMH benchmarks of this package with the gc profiler and compares the results to a baseline.
+ * <p>
+ * Every benchmark reports throughput and average time; the gc profiler adds the allocation rate, of which the bytes
+ * allocated per operation ({@code gc.alloc.rate.norm}) are compared as they don't depend on the machine. The results are
+ * written in the JMH JSON format, so the file of one run is the baseline of the next.
+ * </p>
+ * <p>
+ * A benchmark regresses when its throughput drops, or its average time or allocation per operation grows, by more than
+ * the threshold against the baseline. Regressions are logged and make the runner exit with status 1.
+ * </p>
+ * <p>
+ * Usage: {@code java -jar benchmark/target/benchmarks.jar [<result.json> [<baseline.json>]]}, tuned with the system
+ * properties {@code jmhbench.include} (benchmark regex), {@code jmhbench.threshold} (default 0.10),
+ * {@code jmhbench.forks}, {@code jmhbench.warmupIterations} and {@code jmhbench.measurementIterations}.
+ * </p>
+ *
+ * @author Jack Lo
+ * @version 1.0
+ * @date 2026/10/18 21:25
+ */
+@Slf4j
+public final class JmhBenchmarkRunner {
+    private static final String ALLOCATION_METRIC = "gc.alloc.rate.norm";
+    /**
+     * Allocation differences below this number of bytes per operation are noise, e.g. a TLAB refill.
+     */
+    private static final double ALLOCATION_NOISE_BYTES = 16;
+
+    private JmhBenchmarkRunner() {
+        throw new UnsupportedOperationException("This is a utility class and cannot be instantiated");
+    }
+
+    /**
+     * A metric of one benchmark compared to its baseline.
+     *
+     * @param benchmark
+     * @param metric
+     * @param unit
+     * @param baseline
+     * @param current
+     * @param regression
+     */
+    public record Comparison(String benchmark, String metric, String unit, double baseline, double current, boolean regression) {
+        /**
+         * Relative change against the baseline, positive when the value grew.
+         */
+        public double change() {
+            return baseline == 0 ? 0 : (current - baseline) / baseline;
+        }
+    }
+
+    public static void main(String[] args) throws RunnerException, IOException {
+        Path output = Paths.get(args.length > 0 ? args[0] : "target/jmh-result.json");
+        Path baseline = args.length > 1 ? Paths.get(args[1]) : null;
+        double threshold = Double.parseDouble(System.getProperty("jmhbench.threshold", "0.10"));
+
+        Path parent = output.toAbsolutePath().getParent();
+        Files.createDirectories(parent);
+        ChainedOptionsBuilder options = new OptionsBuilder()
+                .include(System.getProperty("jmhbench.include", JmhBenchmarkRunner.class.getPackageName() + "\\..*Benchmark"))
+                .addProfiler(GCProfiler.class)
+                .resultFormat(ResultFormatType.JSON)
+                .result(output.toString());
+        Optional.ofNullable(Integer.getInteger("jmhbench.forks")).ifPresent(options::forks);
+        Optional.ofNullable(Integer.getInteger("jmhbench.warmupIterations")).ifPresent(options::warmupIterations);
+        Optional.ofNullable(Integer.getInteger("jmhbench.measurementIterations")).ifPresent(options::measurementIterations);
+        new Runner(options.build()).run();
+        log.info("Benchmark results written to {}", output.toAbsolutePath());
+
+        if (baseline != null) {
+            List<Comparison> comparisons = compare(baseline, output, threshold);
+            long regressions = comparisons.stream().filter(Comparison::regression).count();
+            if (regressions > 0) {
+                log.error("{} metric(s) regressed by more than {}% against {}", regressions, Math.round(threshold * 100), baseline.toAbsolutePath());
+                System.exit(1);
+            }
+            log.info("No regression above {}% against {}", Math.round(threshold * 100), baseline.toAbsolutePath());
+        }
+    }
+
+    /**
+     * Compare two JMH JSON result files and log one line per metric.
+     *
+     * @param baseline  JMH JSON results of the reference run
+     * @param current   JMH JSON results of the run to check
+     * @param threshold tolerated relative change, e.g. 0.10 for 10%
+     * @return comparisons of the benchmarks present in both files
+     * @throws IOException
+     */
+    public static List<Comparison> compare(Path baseline, Path current, double threshold) throws IOException {
+        Map<String, Map<String, Object>> baselineResults = readResults(baseline);
+        List<Comparison> comparisons = new ArrayList<>();
+        for (Map.Entry<String, Map<String, Object>> entry : readResults(current).entrySet()) {
+            Map<String, Object> reference = baselineResults.get(entry.getKey());
+            if (reference == null) {
+                log.info("{}: no baseline", entry.getKey());
+                continue;
+            }
+
+            Map<String, Object> primary = metric(entry.getValue(), "primaryMetric");
+            Map<String, Object> referencePrimary = metric(reference, "primaryMetric");
+            double baselineScore = score(referencePrimary);
+            double currentScore = score(primary);
+            boolean throughput = "thrpt".equals(entry.getValue().get("mode"));
+            boolean regression = throughput ? currentScore < baselineScore * (1 - threshold) : currentScore > baselineScore * (1 + threshold);
+            comparisons.add(new Comparison(entry.getKey(), throughput ? "throughput" : "averageTime", String.valueOf(primary.get("scoreUnit")),
+                    baselineScore, currentScore, regression));
+
+            Map<String, Object> allocation = metric(metric(entry.getValue(), "secondaryMetrics"), ALLOCATION_METRIC);
+            Map<String, Object> referenceAllocation = metric(metric(reference, "secondaryMetrics"), ALLOCATION_METRIC);
+            if (!allocation.isEmpty() && !referenceAllocation.isEmpty()) {
+                double baselineBytes = score(referenceAllocation);
+                double currentBytes = score(allocation);
+                comparisons.add(new Comparison(entry.getKey(), ALLOCATION_METRIC, String.valueOf(allocation.get("scoreUnit")), baselineBytes, currentBytes,
+                        currentBytes > baselineBytes * (1 + threshold) && currentBytes - baselineBytes > ALLOCATION_NOISE_BYTES));
+            }
+        }
+
+        for (Comparison comparison : comparisons) {
+            String line = String.format("%-70s %-18s %14.3f -> %14.3f %-10s %+7.1f%%", comparison.benchmark(), comparison.metric(),
+                    comparison.baseline(), comparison.current(), comparison.unit(), comparison.change() * 100);
+            if (comparison.regression()) {
+                log.warn("REGRESSION {}", line);
+            } else {
+                log.info("           {}", line);
+            }
+        }
+        return comparisons;
+    }
+
+    /**
+     * Results of a JMH JSON file keyed by benchmark, without the package of this class, mode and parameters.
+     */
+    private static Map<String, Map<String, Object>> readResults(Path path) throws IOException {
+        List<Map<String, Object>> results = JsonUtils.parseObject(Files.readString(path), new TypeReference<List<Map<String, Object>>>() {
+        });
+        Map<String, Map<String, Object>> keyed = new LinkedHashMap<>();
+        for (Map<String, Object> result : results) {
+            String benchmark = String.valueOf(result.get("benchmark")).replace(JmhBenchmarkRunner.class.getPackageName() + ".", "");
+            StringBuilder key = new StringBuilder().append(benchmark).append(" [").append(result.get("mode")).append(']');
+            Object params = result.get("params");
+            if (params instanceof Map<?, ?> map && !map.isEmpty()) {
+                key.append(' ').append(new TreeMap<>(map));
+            }
+            keyed.put(key.toString(), result);
+        }
+        return keyed;
+    }
+
+    @SuppressWarnings("unchecked")
+    private static Map<String, Object> metric(Map<String, Object> source, String name) {
+        Object value = source.get(name);
+        return value instanceof Map ? (Map<String, Object>) value : Map.of();
+    }
+
+    private static double score(Map<String, Object> metric) {
+        Object score = metric.get("score");
+        return score instanceof Number number ? number.doubleValue() : Double.NaN;
+    }
+}
@@ -0,0 +1,51 @@
+package io.github.chikitlo.common.benchmark.jmh;
+
+import io.github.chikitlo.common.dto.ApiResult;
+import io.github.chikitlo.common.util.JsonUtils;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * JsonUtils serialization and deserialization of small and large DTOs, and ApiResult envelopes.
+ *
+ * @author Jack Lo
+ * @version 1.0
+ * @date 2026/10/18 21:22
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode({Mode.Throughput, Mode.AverageTime})
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class JsonBenchmark {
+    @Param({"small", "large"})
+    private String payload;
+
+    private Payloads.Order order;
+    private String json;
+    private ApiResult<Payloads.Order> apiResult;
+
+    @Setup
+    public void setUp() {
+        order = Payloads.order("small".equals(payload) ? 3 : 2000);
+        json = JsonUtils.toJsonString(order);
+        apiResult = ApiResult.ok(order);
+    }
+
+    @Benchmark
+    public String toJsonString() {
+        return JsonUtils.toJsonString(order);
+    }
+
+    @Benchmark
+    public Payloads.Order parseObject() {
+        return JsonUtils.parseObject(json, Payloads.Order.class);
+    }
+
+    @Benchmark
+    public String apiResultToJsonString() {
+        return JsonUtils.toJsonString(apiResult);
+    }
+}
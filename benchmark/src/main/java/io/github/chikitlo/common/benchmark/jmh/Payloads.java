@@ -0,0 +1,137 @@
+package io.github.chikitlo.common.benchmark.jmh;
+
+import io.github.chikitlo.common.constant.DateConstants;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeFormatter;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+
+/**
+ * Deterministic payloads shared by the JMH benchmarks.
+ * <p>
+ * Orders stand in for the DTOs of a typical service: a small one is a single order with a few lines, about half a
+ * kilobyte of JSON, a large one carries thousands of lines, a few hundred kilobytes. CSV rows and date strings mimic
+ * the imported files, with dates repeating as they do in real columns. The same seed always gives the same payloads,
+ * so runs of different versions measure the same work.
+ * </p>
+ *
+ * @author Jack Lo
+ * @version 1.0
+ * @date 2026/10/18 21:20
+ */
+public final class Payloads {
+    public static final String ZONE = "Asia/Hong_Kong";
+    public static final String PASSWORD = "benchmark-password";
+
+    private static final long SEED = 20251221L;
+    private static final String[] STATUSES = {"CREATED", "PAID", "SHIPPED", "DELIVERED", "CANCELLED"};
+    private static final String[] CURRENCIES = {"HKD", "USD", "CNY", "EUR"};
+
+    private Payloads() {
+        throw new UnsupportedOperationException("This is a utility class and cannot be instantiated");
+    }
+
+    /**
+     * A line of an order.
+     */
+    @Data
+    @NoArgsConstructor
+    @AllArgsConstructor
+    public static class LineItem {
+        private String sku;
+        private String description;
+        private int quantity;
+        private BigDecimal unitPrice;
+    }
+
+    /**
+     * An order with its lines.
+     */
+    @Data
+    @NoArgsConstructor
+    @AllArgsConstructor
+    public static class Order {
+        private String orderId;
+        private String customerId;
+        private String status;
+        private String currency;
+        private BigDecimal totalAmount;
+        private String createdAt;
+        private List<String> tags;
+        private Map<String, String> attributes;
+        private List<LineItem> items;
+    }
+
+    /**
+     * Order of a number of lines: 3 for a small payload, 2000 for a large one.
+     */
+    public static Order order(int lineCount) {
+        Random random = new Random(SEED + lineCount);
+        List<LineItem> items = new ArrayList<>(lineCount);
+        BigDecimal total = BigDecimal.ZERO;
+        for (int i = 0; i < lineCount; i++) {
+            BigDecimal unitPrice = BigDecimal.valueOf(100 + random.nextInt(99_900), 2);
+            int quantity = 1 + random.nextInt(20);
+            items.add(new LineItem(String.format("SKU-%06d", random.nextInt(1_000_000)), "Item " + i + " of the catalogue, standard packaging", quantity, unitPrice));
+            total = total.add(unitPrice.multiply(BigDecimal.valueOf(quantity)));
+        }
+
+        Map<String, String> attributes = new LinkedHashMap<>();
+        attributes.put("channel", "web");
+        attributes.put("region", "APAC");
+        attributes.put("promotion", "SPRING-" + random.nextInt(100));
+        return new Order(String.format("ORD-%010d", random.nextInt(Integer.MAX_VALUE)), String.format("CUST-%08d", random.nextInt(100_000_000)),
+                STATUSES[random.nextInt(STATUSES.length)], CURRENCIES[random.nextInt(CURRENCIES.length)], total,
+                dateTimes(1, 1)[0], List.of("priority", "gift"), attributes, items);
+    }
+
+    /**
+     * Date-time strings in {@link DateConstants#YYYY_MM_DD_HH_MM_SS} drawn from a number of distinct values.
+     */
+    public static String[] dateTimes(int count, int distinct) {
+        return dateTimes(count, distinct, DateConstants.YYYY_MM_DD_HH_MM_SS);
+    }
+
+    public static String[] dateTimes(int count, int distinct, String pattern) {
+        Random random = new Random(SEED + distinct);
+        DateTimeFormatter formatter = DateTimeFormatter.ofPattern(pattern);
+        LocalDateTime start = LocalDateTime.of(2025, 1, 1, 0, 0);
+        String[] pool = new String[distinct];
+        for (int i = 0; i < distinct; i++) {
+            pool[i] = start.plusSeconds(random.nextInt(365 * 86_400)).format(formatter);
+        }
+
+        String[] values = new String[count];
+        for (int i = 0; i < count; i++) {
+            values[i] = pool[random.nextInt(distinct)];
+        }
+        return values;
+    }
+
+    /**
+     * CSV-style rows of id, trade time, account, amount and email, split into fields.
+     */
+    public static String[][] csvRows(int count) {
+        Random random = new Random(SEED + count);
+        String[] dates = dateTimes(count, Math.max(1, count / 10));
+        String[][] rows = new String[count][];
+        for (int i = 0; i < count; i++) {
+            rows[i] = new String[]{
+                    String.valueOf(100_000 + i),
+                    dates[i],
+                    "ACCOUNT-" + (random.nextInt(997)),
+                    random.nextInt(1_000_000) + "." + String.format("%02d", random.nextInt(100)),
+                    "user" + random.nextInt(10_000) + "@example.com"
+            };
+        }
+        return rows;
+    }
+}
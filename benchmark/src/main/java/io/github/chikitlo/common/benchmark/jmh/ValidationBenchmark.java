@@ -0,0 +1,90 @@
+package io.github.chikitlo.common.benchmark.jmh;
+
+import io.github.chikitlo.common.validation.callback.ValidateCallBack;
+import io.github.chikitlo.common.validation.core.FluentValidator;
+import io.github.chikitlo.common.validation.core.ValidationError;
+import io.github.chikitlo.common.validation.core.ValidatorContext;
+import io.github.chikitlo.common.validation.core.ValidatorElement;
+import io.github.chikitlo.common.validation.validator.RegexValidator;
+import io.github.chikitlo.common.validation.validator.Validator;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Regex validation of CSV rows, field by field and through a whole FluentValidator pass.
+ * <p>
+ * The FluentValidator pass uses a silent callback, the default one logs every pass at error level.
+ * </p>
+ *
+ * @author Jack Lo
+ * @version 1.0
+ * @date 2026/10/18 21:24
+ */
+@State(Scope.Thread)
+@BenchmarkMode({Mode.Throughput, Mode.AverageTime})
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class ValidationBenchmark {
+    private static final int ROW_COUNT = 100;
+    private static final String[] FIELD_NAMES = {"id", "tradeTime", "account", "amount", "email"};
+
+    private final RegexValidator[] validators = {
+            new RegexValidator("\\d+", "id must be numeric"),
+            new RegexValidator("\\d{4}-\\d{2}-\\d{2} \\d{2}:\\d{2}:\\d{2}", "trade time must be yyyy-MM-dd HH:mm:ss"),
+            new RegexValidator("ACCOUNT-\\d+", "account must be ACCOUNT-<number>"),
+            new RegexValidator("\\d+(\\.\\d{1,2})?", "amount must have at most 2 decimals"),
+            new RegexValidator("[^@\\s]+@[^@\\s]+\\.[a-z]+", "email is invalid")
+    };
+    private final ValidateCallBack silentCallBack = new ValidateCallBack() {
+        @Override
+        public void onSuccess(ValidatorContext context, List<ValidatorElement> validatorElementList) {
+        }
+
+        @Override
+        public void onFail(ValidatorContext context, List<ValidatorElement> validatorElementList, List<ValidationError> errors) {
+        }
+
+        @Override
+        public void onUncaughtException(ValidatorContext context, Validator validator, Exception e, Object target) throws Exception {
+            throw e;
+        }
+    };
+
+    private String[][] rows;
+    private int index;
+
+    @Setup
+    public void setUp() {
+        rows = Payloads.csvRows(ROW_COUNT);
+    }
+
+    @Benchmark
+    public boolean regexValidator() {
+        String[] row = rows[index];
+        index = (index + 1) % ROW_COUNT;
+
+        ValidatorContext context = new ValidatorContext();
+        boolean valid = true;
+        for (int field = 0; field < FIELD_NAMES.length; field++) {
+            ValidationError errorInfo = ValidationError.builder().fieldName(FIELD_NAMES[field]).target(row[field]).lineNumber(index).build();
+            valid &= validators[field].validate(context, row[field], errorInfo);
+        }
+        return valid;
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(ROW_COUNT)
+    public FluentValidator doValidate() {
+        FluentValidator validator = FluentValidator.newInstance().failOver();
+        for (int row = 0; row < ROW_COUNT; row++) {
+            for (int field = 0; field < FIELD_NAMES.length; field++) {
+                validator.on(FIELD_NAMES[field], rows[row][field], row + 1, validators[field]);
+            }
+        }
+        return validator.doValidate(silentCallBack);
+    }
+}
@@ -0,0 +1,203 @@
+package io.github.chikitlo.common.benchmark.s3;
+
+import io.github.chikitlo.common.util.JsonUtils;
+import io.github.chikitlo.common.util.LocalS3Server;
+import io.github.chikitlo.common.util.S3BulkExecutor;
+import io.github.chikitlo.common.util.S3Utils;
+import lombok.extern.slf4j.Slf4j;
+import software.amazon.awssdk.core.sync.RequestBody;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.*;
+import java.util.function.DoubleSupplier;
+import java.util.stream.IntStream;
+import java.util.zip.GZIPOutputStream;
+
+/**
+ * Throughput benchmark of S3Utils against a {@link LocalS3Server}.
+ * <p>
+ * Measures listing pages/sec, upload/download MB/s across object sizes and concurrency levels, and gzip decompression
+ * MB/s, then writes the results as JSON so runs of different versions can be diffed. Every scenario is warmed up once
+ * and measured {@code s3bench.iterations} times.
+ * </p>
+ * <p>
+ * Usage: {@code mvn -f benchmark/pom.xml compile exec:java [-Dexec.args="<output.json> <label>"]}. The stand-in is
+ * tuned with the system properties {@code s3bench.latencyMillis}, {@code s3bench.bandwidthMBps},
+ * {@code s3bench.throttleRate}, {@code s3bench.iterations} and {@code s3bench.listingObjects}.
+ * </p>
+ *
+ * @author Jack Lo
+ * @version 1.0
+ * @date 2026/10/18 19:02
+ */
+@Slf4j
+public final class S3Benchmark {
+    private static final String BUCKET = "benchmark";
+    private static final double MB = 1024.0 * 1024.0;
+    private static final int[] OBJECT_SIZES = {64 * 1024, 1024 * 1024, 8 * 1024 * 1024};
+    private static final int[] CONCURRENCY_LEVELS = {1, 8, 32};
+    private static final long TRANSFER_BYTES_PER_RUN = 64L * 1024 * 1024;
+
+    private final S3Utils s3Utils;
+    private final LocalS3Server server;
+    private final int iterations;
+    private final List<BenchmarkResult> results = new ArrayList<>();
+
+    private S3Benchmark(S3Utils s3Utils, LocalS3Server server, int iterations) {
+        this.s3Utils = s3Utils;
+        this.server = server;
+        this.iterations = iterations;
+    }
+
+    /**
+     * One measured metric of one scenario.
+     *
+     * @param scenario
+     * @param params
+     * @param unit
+     * @param mean
+     * @param min
+     * @param max
+     */
+    public record BenchmarkResult(String scenario, Map<String, Object> params, String unit, double mean, double min, double max) {
+    }
+
+    public static void main(String[] args) throws IOException {
+        Path output = Paths.get(args.length > 0 ? args[0] : "target/s3-benchmark.json");
+        String label = args.length > 1 ? args[1] : Objects.toString(S3Utils.class.getPackage().getImplementationVersion(), "dev");
+
+        try (LocalS3Server server = LocalS3Server.builder()
+                .latency(Duration.ofMillis(Long.getLong("s3bench.latencyMillis", 0)))
+                .bandwidthBytesPerSecond((long) (Double.parseDouble(System.getProperty("s3bench.bandwidthMBps", "0")) * MB))
+                .throttleRate(Double.parseDouble(System.getProperty("s3bench.throttleRate", "0")))
+                .start()) {
+            server.createBucket(BUCKET);
+            try (S3Utils s3Utils = S3Utils.builder()
+                    .endpoint(server.getEndpoint())
+                    .accessKeyId("benchmark")
+                    .secretAccessKey("benchmark")
+                    .region("us-east-1")
+                    .listingIndexDirectory(server.getRoot().resolve("listing-index").toString())
+                    .build()) {
+                S3Benchmark benchmark = new S3Benchmark(s3Utils, server, Integer.getInteger("s3bench.iterations", 3));
+                benchmark.listing(Integer.getInteger("s3bench.listingObjects", 2000));
+                benchmark.transfer();
+                benchmark.gzipDecompression();
+                benchmark.export(output, label);
+            }
+        }
+    }
+
+    private void listing(int objectCount) {
+        String prefix = "listing/";
+        List<String> keys = IntStream.range(0, objectCount).mapToObj(i -> String.format("%sobject-%08d", prefix, i)).toList();
+        s3Utils.bulk().maxConcurrency(32).execute(keys, key -> s3Utils.uploadFile(BUCKET, key, RequestBody.fromString(key)));
+
+        measure("listPrefixObjects", Map.of("objects", objectCount), "pages/s",
+                () -> countRequests("ListObjectsV2", () -> s3Utils.listPrefixObjects(BUCKET, prefix)));
+        measure("listingIndex.rebuild", Map.of("objects", objectCount), "pages/s",
+                () -> countRequests("ListObjectsV2", () -> s3Utils.listingIndex(BUCKET, prefix).rebuild()));
+    }
+
+    private void transfer() {
+        for (int objectSize : OBJECT_SIZES) {
+            byte[] payload = new byte[objectSize];
+            new Random(objectSize).nextBytes(payload);
+            int objectCount = (int) Math.max(4, TRANSFER_BYTES_PER_RUN / objectSize);
+            List<String> keys = IntStream.range(0, objectCount).mapToObj(i -> "transfer/" + objectSize + "/" + i).toList();
+            double totalMegabytes = (double) objectSize * objectCount / MB;
+
+            for (int concurrency : CONCURRENCY_LEVELS) {
+                Map<String, Object> params = Map.of("objectSize", objectSize, "concurrency", concurrency, "objects", objectCount);
+                measure("upload", params, "MB/s", () -> {
+                    requireSuccess(s3Utils.bulk().maxConcurrency(concurrency).execute(keys, key -> s3Utils.uploadFile(BUCKET, key, RequestBody.fromBytes(payload))));
+                    return totalMegabytes;
+                });
+                measure("download", params, "MB/s", () -> {
+                    requireSuccess(s3Utils.bulk().maxConcurrency(concurrency).execute(keys, key -> s3Utils.getObject(BUCKET, key)));
+                    return totalMegabytes;
+                });
+            }
+        }
+    }
+
+    private void gzipDecompression() throws IOException {
+        StringBuilder csv = new StringBuilder();
+        for (int i = 0; csv.length() < 16 * 1024 * 1024; i++) {
+            csv.append(i).append(",2025-12-21 03:03:00,ACCOUNT-").append(i % 997).append(",").append(i * 31 % 100_000).append(".25\n");
+        }
+        byte[] raw = csv.toString().getBytes(StandardCharsets.UTF_8);
+        ByteArrayOutputStream compressed = new ByteArrayOutputStream();
+        try (GZIPOutputStream gzip = new GZIPOutputStream(compressed)) {
+            gzip.write(raw);
+        }
+
+        int fileCount = 4;
+        for (int i = 0; i < fileCount; i++) {
+            s3Utils.uploadFile(BUCKET, "gzip/source/part-" + i + ".csv.gz", RequestBody.fromBytes(compressed.toByteArray()));
+        }
+
+        Map<String, Object> params = Map.of("files", fileCount, "uncompressedSize", raw.length, "compressedSize", compressed.size());
+        measure("decompressGzipPrefix", params, "MB/s", () -> {
+            s3Utils.decompressGzipPrefix(BUCKET, "gzip/source/", BUCKET, "gzip/target");
+            return (double) raw.length * fileCount / MB;
+        });
+    }
+
+    /**
+     * Run a scenario once for warm-up, then {@code iterations} times. The work returns the amount of units it
+     * processed, the reported rate is units per second.
+     */
+    private void measure(String scenario, Map<String, Object> params, String unit, DoubleSupplier work) {
+        work.getAsDouble();
+
+        double[] rates = new double[iterations];
+        for (int i = 0; i < iterations; i++) {
+            long startNanos = System.nanoTime();
+            double units = work.getAsDouble();
+            rates[i] = units / ((System.nanoTime() - startNanos) / 1e9);
+        }
+
+        BenchmarkResult result = new BenchmarkResult(scenario, new TreeMap<>(params), unit,
+                Arrays.stream(rates).average().orElse(0), Arrays.stream(rates).min().orElse(0), Arrays.stream(rates).max().orElse(0));
+        results.add(result);
+        log.info("{} {}: {} {}", scenario, params, String.format("%.2f", result.mean()), unit);
+    }
+
+    private double countRequests(String operation, Runnable action) {
+        long before = server.getRequestCount(operation);
+        action.run();
+        return server.getRequestCount(operation) - before;
+    }
+
+    private void export(Path output, String label) throws IOException {
+        Map<String, Object> report = new LinkedHashMap<>();
+        report.put("label", label);
+        report.put("timestamp", Instant.now().toString());
+        report.put("javaVersion", System.getProperty("java.version"));
+        report.put("availableProcessors", Runtime.getRuntime().availableProcessors());
+        report.put("virtualThreads", S3BulkExecutor.isVirtualThreadSupported());
+        report.put("results", results);
+
+        Path parent = output.toAbsolutePath().getParent();
+        Files.createDirectories(parent);
+        Files.writeString(output, JsonUtils.toJsonString(report));
+        log.info("Benchmark results written to {}", output.toAbsolutePath());
+    }
+
+    private static void requireSuccess(List<? extends S3BulkExecutor.Result<?>> results) {
+        results.stream()
+                .filter(result -> !result.isSuccess())
+                .findFirst()
+                .ifPresent(result -> {
+                    throw new IllegalStateException("Benchmark operation failed on item " + result.index(), result.error());
+                });
+    }
+}
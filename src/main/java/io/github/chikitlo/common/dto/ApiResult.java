@@ -1,6 +1,7 @@
 package io.github.chikitlo.common.dto;
 
 import com.fasterxml.jackson.annotation.JsonFormat;
+import io.github.chikitlo.common.util.DateUtils;
 
 import java.time.LocalDateTime;
 import java.util.Collection;
@@ -23,7 +24,7 @@ public record ApiResult<T>(String code,
         }
 
         if (time == null) {
-            time = LocalDateTime.now();
+            time = DateUtils.getClock().localDateTime();
         }
     }
 
@@ -36,7 +37,7 @@ public record ApiResult<T>(String code,
     }
 
     public static <T> ApiResult<T> of(String code, String message, T data) {
-        return new ApiResult<>(code, message, data, LocalDateTime.now());
+        return new ApiResult<>(code, message, data, DateUtils.getClock().localDateTime());
     }
 
     public static <T> ApiResult<T> of(ApiStatus status, T data) {
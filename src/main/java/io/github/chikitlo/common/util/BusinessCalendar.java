@@ -0,0 +1,391 @@
+package io.github.chikitlo.common.util;
+
+import lombok.extern.slf4j.Slf4j;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.DateTimeException;
+import java.time.DayOfWeek;
+import java.time.LocalDate;
+import java.time.YearMonth;
+import java.time.format.DateTimeFormatter;
+import java.time.format.DateTimeParseException;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.EnumSet;
+import java.util.HashSet;
+import java.util.Objects;
+import java.util.Set;
+import java.util.Spliterator;
+import java.util.Spliterators;
+import java.util.function.Consumer;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
+
+/**
+ * Business-day calendar over a range of years.
+ * <p>
+ * Working days are precomputed once into a bitset, one bit per day from January 1st of the first year to December 31st
+ * of the last, together with the number of working days before each 64-bit word. Checking a day is a bit test and
+ * counting the working days between two dates is two rank lookups with a popcount each, whatever their distance.
+ * Adding working days is a binary search over the word ranks followed by a select within one word. Listings are lazy
+ * streams walking the set bits.
+ * </p>
+ * <p>
+ * Days are working days unless they fall on a weekend day or a holiday; extra working days, such as make-up days on
+ * a weekend, override both. Holidays can be given as dates or loaded from files. Dates outside the year range are
+ * rejected with a {@link DateTimeException}. Once built, a calendar is immutable and thread-safe: its setters and
+ * {@link #build()} throw {@link IllegalStateException}.
+ * </p>
+ *
+ * @author Jack Lo
+ * @version 1.0
+ * @date 2026/10/18 20:45
+ */
+@Slf4j
+public final class BusinessCalendar {
+    private int firstYear = 1900;
+    private int lastYear = 2199;
+    private Set<DayOfWeek> weekendDays = EnumSet.of(DayOfWeek.SATURDAY, DayOfWeek.SUNDAY);
+    private final Set<LocalDate> holidays = new HashSet<>();
+    private final Set<LocalDate> extraWorkingDays = new HashSet<>();
+
+    private long firstEpochDay;
+    private int dayCount;
+    private long[] words;
+    private int[] ranks;
+    private volatile boolean built;
+
+    private BusinessCalendar() {
+
+    }
+
+    public static BusinessCalendar builder() {
+        return new BusinessCalendar();
+    }
+
+    /**
+     * Years covered by the calendar, 1900 to 2199 by default.
+     */
+    public BusinessCalendar years(int firstYear, int lastYear) {
+        checkNotBuilt();
+        if (firstYear > lastYear) {
+            throw new IllegalArgumentException("First year " + firstYear + " is after last year " + lastYear);
+        }
+        this.firstYear = firstYear;
+        this.lastYear = lastYear;
+        return this;
+    }
+
+    /**
+     * Non-working days of the week, Saturday and Sunday by default.
+     */
+    public BusinessCalendar weekendDays(DayOfWeek... weekendDays) {
+        checkNotBuilt();
+        this.weekendDays = weekendDays.length == 0 ? EnumSet.noneOf(DayOfWeek.class) : EnumSet.copyOf(Arrays.asList(weekendDays));
+        return this;
+    }
+
+    public BusinessCalendar holidays(Collection<LocalDate> holidays) {
+        checkNotBuilt();
+        this.holidays.addAll(holidays);
+        return this;
+    }
+
+    /**
+     * Load holidays from a UTF-8 file with one date per line, as {@code yyyy-MM-dd} or {@code yyyyMMdd}. Anything after
+     * the date, such as the holiday name, is ignored, as are blank lines and lines starting with {@code #}.
+     *
+     * @param path
+     * @return io.github.chikitlo.common.util.BusinessCalendar
+     * @throws java.io.UncheckedIOException     if the file cannot be read
+     * @throws java.lang.IllegalArgumentException if a line does not start with a date
+     * @throws java.lang.IllegalStateException    if the calendar is already built
+     * @author Jack Lo
+     * @date 2026/10/18 20:46
+     */
+    public BusinessCalendar holidays(Path path) {
+        checkNotBuilt();
+        this.holidays.addAll(readDates(path));
+        return this;
+    }
+
+    /**
+     * Days that are working days even if they fall on a weekend day or a holiday.
+     */
+    public BusinessCalendar extraWorkingDays(Collection<LocalDate> extraWorkingDays) {
+        checkNotBuilt();
+        this.extraWorkingDays.addAll(extraWorkingDays);
+        return this;
+    }
+
+    /**
+     * Load extra working days from a file in the format of {@link #holidays(Path)}.
+     */
+    public BusinessCalendar extraWorkingDays(Path path) {
+        checkNotBuilt();
+        this.extraWorkingDays.addAll(readDates(path));
+        return this;
+    }
+
+    /**
+     * Precompute the working days, after which the calendar can no longer be changed.
+     *
+     * @param
+     * @return io.github.chikitlo.common.util.BusinessCalendar
+     * @throws
+     * @author Jack Lo
+     * @date 2026/10/18 20:47
+     */
+    public BusinessCalendar build() {
+        checkNotBuilt();
+
+        LocalDate first = LocalDate.of(firstYear, 1, 1);
+        firstEpochDay = first.toEpochDay();
+        dayCount = (int) (LocalDate.of(lastYear, 12, 31).toEpochDay() - firstEpochDay + 1);
+        // A spare word keeps the rank of the day after the range in bounds.
+        words = new long[(dayCount >>> 6) + 1];
+        ranks = new int[words.length + 1];
+
+        int dayOfWeek = first.getDayOfWeek().getValue() - 1;
+        boolean[] weekend = new boolean[7];
+        weekendDays.forEach(day -> weekend[day.getValue() - 1] = true);
+        for (int day = 0; day < dayCount; day++, dayOfWeek = dayOfWeek == 6 ? 0 : dayOfWeek + 1) {
+            if (!weekend[dayOfWeek]) {
+                words[day >>> 6] |= 1L << day;
+            }
+        }
+        holidays.forEach(date -> setWorkingDay(date, false));
+        extraWorkingDays.forEach(date -> setWorkingDay(date, true));
+
+        for (int i = 0; i < words.length; i++) {
+            ranks[i + 1] = ranks[i] + Long.bitCount(words[i]);
+        }
+        built = true;
+        log.debug("Built business calendar {}-{}: {} working days, {} holidays, {} extra working days", firstYear, lastYear, ranks[words.length], holidays.size(), extraWorkingDays.size());
+
+        return this;
+    }
+
+    public boolean isBusinessDay(LocalDate date) {
+        int day = dayIndex(date);
+        return (words[day >>> 6] & 1L << day) != 0;
+    }
+
+    /**
+     * Number of working days from a date, inclusive, to another, exclusive. Negative if the second date is earlier.
+     *
+     * @param fromInclusive
+     * @param toExclusive
+     * @return int
+     * @throws java.time.DateTimeException if a date is outside the calendar years
+     * @author Jack Lo
+     * @date 2026/10/18 20:48
+     */
+    public int countBusinessDays(LocalDate fromInclusive, LocalDate toExclusive) {
+        return rank(endIndex(toExclusive)) - rank(dayIndex(fromInclusive));
+    }
+
+    /**
+     * The working day a number of working days after a date, or before it if negative. The date itself does not need to
+     * be a working day and does not count; 0 returns the date unchanged.
+     *
+     * @param date
+     * @param businessDays
+     * @return java.time.LocalDate
+     * @throws java.time.DateTimeException if a date or the result is outside the calendar years
+     * @author Jack Lo
+     * @date 2026/10/18 20:49
+     */
+    public LocalDate addBusinessDays(LocalDate date, int businessDays) {
+        int day = dayIndex(date);
+        if (businessDays == 0) {
+            return date;
+        }
+
+        // Rank of the target among all working days of the calendar.
+        long target = businessDays > 0 ? (long) rank(day + 1) + businessDays - 1 : (long) rank(day) + businessDays;
+        if (target < 0 || target >= ranks[words.length]) {
+            throw new DateTimeException(Math.abs(businessDays) + " business days " + (businessDays > 0 ? "after " : "before ") + date + " is outside the calendar years " + firstYear + "-" + lastYear);
+        }
+
+        return LocalDate.ofEpochDay(firstEpochDay + select((int) target));
+    }
+
+    /**
+     * Working days from a date, inclusive, to another, exclusive, generated lazily.
+     *
+     * @param fromInclusive
+     * @param toExclusive
+     * @return java.util.stream.Stream<java.time.LocalDate>
+     * @throws java.time.DateTimeException if a date is outside the calendar years
+     * @author Jack Lo
+     * @date 2026/10/18 20:49
+     */
+    public Stream<LocalDate> businessDays(LocalDate fromInclusive, LocalDate toExclusive) {
+        int from = dayIndex(fromInclusive);
+        int to = endIndex(toExclusive);
+        int size = Math.max(0, rank(to) - rank(from));
+        Spliterator<LocalDate> spliterator = new Spliterators.AbstractSpliterator<>(size, Spliterator.ORDERED | Spliterator.DISTINCT | Spliterator.SORTED | Spliterator.NONNULL | Spliterator.SIZED) {
+            private int next = nextWorkingDay(from, to);
+
+            @Override
+            public boolean tryAdvance(Consumer<? super LocalDate> action) {
+                if (next >= to) {
+                    return false;
+                }
+                action.accept(LocalDate.ofEpochDay(firstEpochDay + next));
+                next = nextWorkingDay(next + 1, to);
+                return true;
+            }
+
+            @Override
+            public Comparator<? super LocalDate> getComparator() {
+                return null;
+            }
+        };
+
+        return StreamSupport.stream(spliterator, false);
+    }
+
+    /**
+     * Last working day of each month from a month to another, both inclusive, generated lazily. Months without a
+     * working day are skipped.
+     *
+     * @param fromMonth
+     * @param toMonth
+     * @return java.util.stream.Stream<java.time.LocalDate>
+     * @throws java.time.DateTimeException if a month is outside the calendar years
+     * @author Jack Lo
+     * @date 2026/10/18 20:50
+     */
+    public Stream<LocalDate> lastBusinessDaysOfMonth(YearMonth fromMonth, YearMonth toMonth) {
+        dayIndex(fromMonth.atDay(1));
+        dayIndex(toMonth.atEndOfMonth());
+        return Stream.iterate(fromMonth, month -> !month.isAfter(toMonth), month -> month.plusMonths(1))
+                .map(month -> {
+                    int firstDay = dayIndex(month.atDay(1));
+                    int end = endIndex(month.atEndOfMonth().plusDays(1));
+                    int count = rank(end) - rank(firstDay);
+                    return count == 0 ? null : LocalDate.ofEpochDay(firstEpochDay + select(rank(end) - 1));
+                })
+                .filter(Objects::nonNull);
+    }
+
+    public int getFirstYear() {
+        return firstYear;
+    }
+
+    public int getLastYear() {
+        return lastYear;
+    }
+
+    private void setWorkingDay(LocalDate date, boolean working) {
+        if (date.getYear() < firstYear || date.getYear() > lastYear) {
+            return;
+        }
+
+        int day = (int) (date.toEpochDay() - firstEpochDay);
+        if (working) {
+            words[day >>> 6] |= 1L << day;
+        } else {
+            words[day >>> 6] &= ~(1L << day);
+        }
+    }
+
+    private void checkNotBuilt() {
+        if (built) {
+            throw new IllegalStateException("Business calendar is already built");
+        }
+    }
+
+    private int dayIndex(LocalDate date) {
+        if (!built) {
+            throw new IllegalStateException("Business calendar is not built");
+        }
+        long day = date.toEpochDay() - firstEpochDay;
+        if (day < 0 || day >= dayCount) {
+            throw new DateTimeException(date + " is outside the calendar years " + firstYear + "-" + lastYear);
+        }
+        return (int) day;
+    }
+
+    /**
+     * Index of an exclusive end date, which may be the day after the last year.
+     */
+    private int endIndex(LocalDate date) {
+        return date.toEpochDay() - firstEpochDay == dayCount ? dayCount : dayIndex(date);
+    }
+
+    /**
+     * Number of working days before a day index.
+     */
+    private int rank(int day) {
+        return ranks[day >>> 6] + Long.bitCount(words[day >>> 6] & (1L << day) - 1);
+    }
+
+    /**
+     * Day index of the working day of a rank.
+     */
+    private int select(int rank) {
+        int low = 0;
+        int high = words.length - 1;
+        // Smallest word whose end rank exceeds the target.
+        while (low < high) {
+            int middle = (low + high) >>> 1;
+            if (ranks[middle + 1] > rank) {
+                high = middle;
+            } else {
+                low = middle + 1;
+            }
+        }
+
+        long word = words[low];
+        for (int skip = rank - ranks[low]; skip > 0; skip--) {
+            word &= word - 1;
+        }
+        return (low << 6) + Long.numberOfTrailingZeros(word);
+    }
+
+    private int nextWorkingDay(int from, int to) {
+        int wordIndex = from >>> 6;
+        long word = words[wordIndex] & -1L << from;
+        while (word == 0) {
+            if ((++wordIndex << 6) >= to) {
+                return to;
+            }
+            word = words[wordIndex];
+        }
+        return Math.min(to, (wordIndex << 6) + Long.numberOfTrailingZeros(word));
+    }
+
+    private static Set<LocalDate> readDates(Path path) {
+        Set<LocalDate> dates = new HashSet<>();
+        try (BufferedReader reader = Files.newBufferedReader(path, StandardCharsets.UTF_8)) {
+            String line;
+            for (int lineNumber = 1; (line = reader.readLine()) != null; lineNumber++) {
+                String trimmed = line.strip();
+                if (trimmed.isEmpty() || trimmed.startsWith("#")) {
+                    continue;
+                }
+
+                String token = trimmed.split("[\\s,;]", 2)[0];
+                try {
+                    dates.add(LocalDate.parse(token, token.length() == 8 ? DateTimeFormatter.BASIC_ISO_DATE : DateTimeFormatter.ISO_LOCAL_DATE));
+                } catch (DateTimeParseException e) {
+                    throw new IllegalArgumentException("Invalid date at line " + lineNumber + " of " + path + ": " + line, e);
+                }
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException("Failed to read dates from " + path, e);
+        }
+
+        log.info("Loaded {} dates from {}", dates.size(), path);
+        return dates;
+    }
+}
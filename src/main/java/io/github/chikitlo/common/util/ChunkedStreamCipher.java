@@ -0,0 +1,582 @@
+package io.github.chikitlo.common.util;
+
+import lombok.extern.slf4j.Slf4j;
+import org.jasypt.exceptions.EncryptionInitializationException;
+import org.jasypt.exceptions.EncryptionOperationNotPossibleException;
+
+import javax.crypto.AEADBadTagException;
+import javax.crypto.Cipher;
+import javax.crypto.SecretKey;
+import javax.crypto.SecretKeyFactory;
+import javax.crypto.spec.GCMParameterSpec;
+import javax.crypto.spec.PBEKeySpec;
+import javax.crypto.spec.SecretKeySpec;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.security.GeneralSecurityException;
+import java.security.SecureRandom;
+import java.util.Arrays;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.stream.IntStream;
+
+/**
+ * Password-based encryption of streams and files in authenticated chunks.
+ * <p>
+ * The key is derived once per stream with PBKDF2 from the password and a random salt, then every chunk of plaintext
+ * is sealed with AES-GCM on its own: a nonce made of a random per-stream prefix and the chunk number, and the stream
+ * header plus a last-chunk flag as associated data. Reordered, modified or truncated data therefore fails
+ * authentication, and a chunk is only released once verified. Memory is a chunk buffer per worker whatever the size of
+ * the data. Since each chunk sits at a computable offset, files are processed by several workers at once with
+ * positional reads and writes.
+ * </p>
+ * <p>
+ * The header records the key size, iterations, chunk size, salt and nonce prefix, so decryption only needs the
+ * password. Full chunks are never the last one: the last chunk holds the remainder, possibly empty.
+ * </p>
+ *
+ * @author Jack Lo
+ * @version 1.0
+ * @date 2026/10/18 21:13
+ */
+@Slf4j
+public final class ChunkedStreamCipher {
+    public static final int DEFAULT_CHUNK_SIZE = 64 * 1024;
+    public static final int DEFAULT_ITERATIONS = 1000;
+
+    private static final int MAGIC = 0x4A454E43;
+    private static final byte VERSION = 1;
+    private static final int HEADER_LENGTH = 40;
+    private static final int SALT_LENGTH = 16;
+    private static final int NONCE_PREFIX_LENGTH = 8;
+    private static final int TAG_LENGTH = 16;
+    private static final int MAX_CHUNK_SIZE = 64 * 1024 * 1024;
+    private static final int MAX_ITERATIONS = 10_000_000;
+    private static final long MAX_CHUNKS = 1L << 32;
+    private static final SecureRandom RANDOM = new SecureRandom();
+
+    private final char[] password;
+    private final int keyBits;
+    private int chunkSize = DEFAULT_CHUNK_SIZE;
+    private int iterations = DEFAULT_ITERATIONS;
+    private int parallelism = Runtime.getRuntime().availableProcessors();
+
+    ChunkedStreamCipher(String algorithm, String password) {
+        this.keyBits = keyBits(algorithm);
+        this.password = password.toCharArray();
+    }
+
+    public ChunkedStreamCipher chunkSize(int chunkSize) {
+        if (chunkSize < 1 || chunkSize > MAX_CHUNK_SIZE) {
+            throw new IllegalArgumentException("Chunk size must be between 1 and " + MAX_CHUNK_SIZE);
+        }
+        this.chunkSize = chunkSize;
+        return this;
+    }
+
+    /**
+     * PBKDF2 iterations of the key derivation, {@value #DEFAULT_ITERATIONS} by default like Jasypt.
+     */
+    public ChunkedStreamCipher iterations(int iterations) {
+        if (iterations < 1 || iterations > MAX_ITERATIONS) {
+            throw new IllegalArgumentException("Iterations must be between 1 and " + MAX_ITERATIONS);
+        }
+        this.iterations = iterations;
+        return this;
+    }
+
+    /**
+     * Workers used for files, one per core by default.
+     */
+    public ChunkedStreamCipher parallelism(int parallelism) {
+        if (parallelism < 1) {
+            throw new IllegalArgumentException("Parallelism must be positive");
+        }
+        this.parallelism = parallelism;
+        return this;
+    }
+
+    /**
+     * Wrap a stream so that what is written to it is encrypted into it. Closing the returned stream writes the last
+     * chunk and closes the target.
+     *
+     * @param target
+     * @return java.io.OutputStream
+     * @throws
+     * @author Jack Lo
+     * @date 2026/10/18 21:15
+     */
+    public OutputStream encryptingStream(OutputStream target) {
+        return new EncryptingOutputStream(target, newHeader());
+    }
+
+    /**
+     * Wrap an encrypted stream so that reading it returns the plaintext.
+     *
+     * @param source
+     * @return java.io.InputStream
+     * @throws
+     * @author Jack Lo
+     * @date 2026/10/18 21:15
+     */
+    public InputStream decryptingStream(InputStream source) {
+        return new DecryptingInputStream(source);
+    }
+
+    /**
+     * Encrypt a stream into another, neither is closed.
+     *
+     * @param source
+     * @param target
+     * @return long number of plaintext bytes
+     * @throws java.io.UncheckedIOException if a stream fails
+     * @author Jack Lo
+     * @date 2026/10/18 21:16
+     */
+    public long encrypt(InputStream source, OutputStream target) {
+        try {
+            EncryptingOutputStream encrypting = new EncryptingOutputStream(target, newHeader());
+            long bytes = source.transferTo(encrypting);
+            encrypting.finish();
+            return bytes;
+        } catch (IOException e) {
+            throw new UncheckedIOException("Failed to encrypt stream", e);
+        }
+    }
+
+    /**
+     * Decrypt a stream into another, neither is closed.
+     *
+     * @param source
+     * @param target
+     * @return long number of plaintext bytes
+     * @throws java.io.UncheckedIOException                                  if a stream fails
+     * @throws org.jasypt.exceptions.EncryptionOperationNotPossibleException if the data is not authentic
+     * @author Jack Lo
+     * @date 2026/10/18 21:16
+     */
+    public long decrypt(InputStream source, OutputStream target) {
+        try {
+            return new DecryptingInputStream(source).transferTo(target);
+        } catch (IOException e) {
+            throw new UncheckedIOException("Failed to decrypt stream", e);
+        }
+    }
+
+    /**
+     * Encrypt a file into another, processing chunks in parallel. The target is deleted if the encryption fails.
+     *
+     * @param source
+     * @param target replaced if it exists
+     * @return long number of plaintext bytes
+     * @throws java.io.UncheckedIOException if a file cannot be read or written
+     * @author Jack Lo
+     * @date 2026/10/18 21:16
+     */
+    public long encrypt(Path source, Path target) {
+        long startTime = System.currentTimeMillis();
+        Header header = newHeader();
+        boolean created = false;
+        boolean completed = false;
+        try (FileChannel in = FileChannel.open(source, StandardOpenOption.READ);
+             FileChannel out = FileChannel.open(target, StandardOpenOption.CREATE, StandardOpenOption.TRUNCATE_EXISTING, StandardOpenOption.WRITE)) {
+            created = true;
+            long plainLength = in.size();
+            // Every full chunk is followed by another, the last one holds the remainder.
+            long chunks = plainLength / header.chunkSize + 1;
+            writeFully(out, ByteBuffer.wrap(header.bytes), 0);
+
+            processChunks(chunks, header, (chunk, plain, sealed, cipher) -> {
+                int length = (int) (chunk < chunks - 1 ? header.chunkSize : plainLength % header.chunkSize);
+                readFully(in, ByteBuffer.wrap(plain, 0, length), chunk * header.chunkSize);
+                int sealedLength = header.seal(cipher, chunk, chunk == chunks - 1, plain, length, sealed);
+                writeFully(out, ByteBuffer.wrap(sealed, 0, sealedLength), HEADER_LENGTH + chunk * header.sealedChunkSize());
+            });
+
+            completed = true;
+            log.info("Encrypted {} ({} bytes) into {} in {}ms", source, plainLength, target, System.currentTimeMillis() - startTime);
+            return plainLength;
+        } catch (IOException e) {
+            throw new UncheckedIOException("Failed to encrypt " + source, e);
+        } catch (UncheckedIOException e) {
+            throw new UncheckedIOException("Failed to encrypt " + source, e.getCause());
+        } finally {
+            if (created && !completed) {
+                deleteQuietly(target);
+            }
+        }
+    }
+
+    /**
+     * Decrypt a file into another, processing chunks in parallel. The target is deleted if the data is not authentic.
+     *
+     * @param source
+     * @param target replaced if it exists
+     * @return long number of plaintext bytes
+     * @throws java.io.UncheckedIOException                                  if a file cannot be read or written
+     * @throws org.jasypt.exceptions.EncryptionOperationNotPossibleException if the data is not authentic
+     * @author Jack Lo
+     * @date 2026/10/18 21:17
+     */
+    public long decrypt(Path source, Path target) {
+        long startTime = System.currentTimeMillis();
+        boolean created = false;
+        boolean completed = false;
+        try (FileChannel in = FileChannel.open(source, StandardOpenOption.READ)) {
+            byte[] headerBytes = new byte[HEADER_LENGTH];
+            if (in.size() < HEADER_LENGTH + TAG_LENGTH) {
+                throw new EncryptionOperationNotPossibleException("Encrypted file is truncated");
+            }
+            readFully(in, ByteBuffer.wrap(headerBytes), 0);
+            Header header = readHeader(headerBytes);
+
+            long sealedLength = in.size() - HEADER_LENGTH;
+            long chunks = sealedLength / header.sealedChunkSize() + 1;
+            long lastSealedLength = sealedLength % header.sealedChunkSize();
+            if (lastSealedLength < TAG_LENGTH) {
+                throw new EncryptionOperationNotPossibleException("Encrypted file is truncated");
+            }
+            long plainLength = sealedLength - chunks * TAG_LENGTH;
+
+            try (FileChannel out = FileChannel.open(target, StandardOpenOption.CREATE, StandardOpenOption.TRUNCATE_EXISTING, StandardOpenOption.WRITE)) {
+                created = true;
+                processChunks(chunks, header, (chunk, sealed, plain, cipher) -> {
+                    int length = (int) (chunk < chunks - 1 ? header.sealedChunkSize() : lastSealedLength);
+                    readFully(in, ByteBuffer.wrap(sealed, 0, length), HEADER_LENGTH + chunk * header.sealedChunkSize());
+                    int plainChunkLength = header.open(cipher, chunk, chunk == chunks - 1, sealed, length, plain);
+                    writeFully(out, ByteBuffer.wrap(plain, 0, plainChunkLength), chunk * header.chunkSize);
+                });
+            }
+
+            completed = true;
+            log.info("Decrypted {} ({} bytes) into {} in {}ms", source, plainLength, target, System.currentTimeMillis() - startTime);
+            return plainLength;
+        } catch (IOException e) {
+            throw new UncheckedIOException("Failed to decrypt " + source, e);
+        } catch (UncheckedIOException e) {
+            throw new UncheckedIOException("Failed to decrypt " + source, e.getCause());
+        } finally {
+            if (created && !completed) {
+                deleteQuietly(target);
+            }
+        }
+    }
+
+    private interface ChunkTask {
+        void run(long chunk, byte[] input, byte[] output, Cipher cipher) throws IOException;
+    }
+
+    /**
+     * Run a task over every chunk. Each worker owns its cipher and buffers and claims the next chunk from a shared
+     * cursor, so chunks are written out of order at their own offsets.
+     */
+    private void processChunks(long chunks, Header header, ChunkTask task) {
+        if (chunks > MAX_CHUNKS) {
+            throw new IllegalStateException("Too many chunks, use a larger chunk size");
+        }
+
+        AtomicLong cursor = new AtomicLong();
+        int workers = (int) Math.max(1, Math.min(parallelism, chunks));
+        IntStream.range(0, workers).parallel().forEach(worker -> {
+            Cipher cipher = newCipher();
+            byte[] input = new byte[header.sealedChunkSize()];
+            byte[] output = new byte[header.sealedChunkSize()];
+            try {
+                for (long chunk = cursor.getAndIncrement(); chunk < chunks; chunk = cursor.getAndIncrement()) {
+                    task.run(chunk, input, output, cipher);
+                }
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
+            }
+        });
+    }
+
+    private Header newHeader() {
+        byte[] salt = new byte[SALT_LENGTH];
+        byte[] noncePrefix = new byte[NONCE_PREFIX_LENGTH];
+        RANDOM.nextBytes(salt);
+        RANDOM.nextBytes(noncePrefix);
+
+        ByteBuffer header = ByteBuffer.allocate(HEADER_LENGTH)
+                .putInt(MAGIC)
+                .put(VERSION)
+                .put((byte) (keyBits / 8))
+                .putShort((short) 0)
+                .putInt(iterations)
+                .putInt(chunkSize)
+                .put(salt)
+                .put(noncePrefix);
+        return new Header(header.array(), deriveKey(salt, iterations, keyBits), chunkSize);
+    }
+
+    private Header readHeader(byte[] bytes) {
+        ByteBuffer header = ByteBuffer.wrap(bytes);
+        if (header.getInt() != MAGIC || header.get() != VERSION) {
+            throw new EncryptionOperationNotPossibleException("Not a chunked encrypted stream");
+        }
+        int headerKeyBits = header.get() * 8;
+        header.getShort();
+        int headerIterations = header.getInt();
+        int headerChunkSize = header.getInt();
+        if ((headerKeyBits != 128 && headerKeyBits != 256) || headerIterations < 1 || headerIterations > MAX_ITERATIONS || headerChunkSize < 1 || headerChunkSize > MAX_CHUNK_SIZE) {
+            throw new EncryptionOperationNotPossibleException("Invalid chunked encrypted stream header");
+        }
+
+        byte[] salt = Arrays.copyOfRange(bytes, header.position(), header.position() + SALT_LENGTH);
+        return new Header(bytes, deriveKey(salt, headerIterations, headerKeyBits), headerChunkSize);
+    }
+
+    private SecretKey deriveKey(byte[] salt, int keyIterations, int bits) {
+        PBEKeySpec keySpec = new PBEKeySpec(password, salt, keyIterations, bits);
+        try {
+            byte[] key = SecretKeyFactory.getInstance("PBKDF2WithHmacSHA512").generateSecret(keySpec).getEncoded();
+            return new SecretKeySpec(key, "AES");
+        } catch (GeneralSecurityException e) {
+            throw new EncryptionInitializationException("Failed to derive the stream key", e);
+        } finally {
+            keySpec.clearPassword();
+        }
+    }
+
+    private static Cipher newCipher() {
+        try {
+            return Cipher.getInstance("AES/GCM/NoPadding");
+        } catch (GeneralSecurityException e) {
+            throw new EncryptionInitializationException("AES/GCM is not available", e);
+        }
+    }
+
+    private static int keyBits(String algorithm) {
+        return switch (algorithm) {
+            case JasyptUtils.PBE_ALGORITHMS_HMAC_AES_256 -> 256;
+            case JasyptUtils.PBE_ALGORITHMS_HMAC_AES_128 -> 128;
+            default -> throw new IllegalArgumentException("Stream encryption requires an AES algorithm, not " + algorithm);
+        };
+    }
+
+    /**
+     * Stream header with the key derived from it.
+     */
+    private record Header(byte[] bytes, SecretKey key, int chunkSize) {
+        int sealedChunkSize() {
+            return chunkSize + TAG_LENGTH;
+        }
+
+        int seal(Cipher cipher, long chunk, boolean last, byte[] plain, int length, byte[] sealed) {
+            try {
+                init(cipher, Cipher.ENCRYPT_MODE, chunk, last);
+                return cipher.doFinal(plain, 0, length, sealed, 0);
+            } catch (GeneralSecurityException e) {
+                throw new EncryptionOperationNotPossibleException(e);
+            }
+        }
+
+        int open(Cipher cipher, long chunk, boolean last, byte[] sealed, int length, byte[] plain) {
+            try {
+                init(cipher, Cipher.DECRYPT_MODE, chunk, last);
+                return cipher.doFinal(sealed, 0, length, plain, 0);
+            } catch (AEADBadTagException e) {
+                throw new EncryptionOperationNotPossibleException("Chunk " + chunk + " failed authentication, wrong password or corrupted data");
+            } catch (GeneralSecurityException e) {
+                throw new EncryptionOperationNotPossibleException(e);
+            }
+        }
+
+        private void init(Cipher cipher, int mode, long chunk, boolean last) throws GeneralSecurityException {
+            byte[] nonce = new byte[12];
+            System.arraycopy(bytes, HEADER_LENGTH - NONCE_PREFIX_LENGTH, nonce, 0, NONCE_PREFIX_LENGTH);
+            nonce[8] = (byte) (chunk >>> 24);
+            nonce[9] = (byte) (chunk >>> 16);
+            nonce[10] = (byte) (chunk >>> 8);
+            nonce[11] = (byte) chunk;
+            cipher.init(mode, key, new GCMParameterSpec(TAG_LENGTH * 8, nonce));
+            cipher.updateAAD(bytes);
+            cipher.updateAAD(new byte[]{(byte) (last ? 1 : 0)});
+        }
+    }
+
+    private final class EncryptingOutputStream extends OutputStream {
+        private final OutputStream target;
+        private final Header header;
+        private final Cipher cipher = newCipher();
+        private final byte[] buffer;
+        private final byte[] sealed;
+        private int position;
+        private long chunk;
+        private boolean headerWritten;
+        private boolean finished;
+
+        private EncryptingOutputStream(OutputStream target, Header header) {
+            this.target = target;
+            this.header = header;
+            this.buffer = new byte[header.chunkSize];
+            this.sealed = new byte[header.sealedChunkSize()];
+        }
+
+        @Override
+        public void write(int b) throws IOException {
+            if (finished || position == buffer.length) {
+                write(new byte[]{(byte) b}, 0, 1);
+                return;
+            }
+            buffer[position++] = (byte) b;
+        }
+
+        @Override
+        public void write(byte[] bytes, int offset, int length) throws IOException {
+            if (finished) {
+                throw new IOException("Encrypting stream is closed");
+            }
+            while (length > 0) {
+                // A full chunk is only sealed once more data follows, as the last chunk is never full.
+                if (position == buffer.length) {
+                    sealChunk(false);
+                }
+                int count = Math.min(length, buffer.length - position);
+                System.arraycopy(bytes, offset, buffer, position, count);
+                position += count;
+                offset += count;
+                length -= count;
+            }
+        }
+
+        @Override
+        public void flush() throws IOException {
+            target.flush();
+        }
+
+        /**
+         * Write the last chunks without closing the target.
+         */
+        void finish() throws IOException {
+            if (finished) {
+                return;
+            }
+            if (position == buffer.length) {
+                sealChunk(false);
+            }
+            sealChunk(true);
+            finished = true;
+            target.flush();
+        }
+
+        @Override
+        public void close() throws IOException {
+            try {
+                finish();
+            } finally {
+                target.close();
+            }
+        }
+
+        private void sealChunk(boolean last) throws IOException {
+            if (!headerWritten) {
+                target.write(header.bytes);
+                headerWritten = true;
+            }
+            if (chunk >= MAX_CHUNKS) {
+                throw new IOException("Too many chunks, use a larger chunk size");
+            }
+            int length = header.seal(cipher, chunk++, last, buffer, position, sealed);
+            target.write(sealed, 0, length);
+            position = 0;
+        }
+    }
+
+    private final class DecryptingInputStream extends InputStream {
+        private final InputStream source;
+        private Header header;
+        private Cipher cipher;
+        private byte[] sealed;
+        private byte[] plain;
+        private int position;
+        private int limit;
+        private long chunk;
+        private boolean last;
+
+        private DecryptingInputStream(InputStream source) {
+            this.source = source;
+        }
+
+        @Override
+        public int read() throws IOException {
+            byte[] single = new byte[1];
+            return read(single, 0, 1) < 0 ? -1 : single[0] & 0xFF;
+        }
+
+        @Override
+        public int read(byte[] bytes, int offset, int length) throws IOException {
+            if (length == 0) {
+                return 0;
+            }
+            while (position == limit) {
+                if (last) {
+                    return -1;
+                }
+                openChunk();
+            }
+
+            int count = Math.min(length, limit - position);
+            System.arraycopy(plain, position, bytes, offset, count);
+            position += count;
+            return count;
+        }
+
+        @Override
+        public void close() throws IOException {
+            source.close();
+        }
+
+        private void openChunk() throws IOException {
+            if (header == null) {
+                byte[] headerBytes = source.readNBytes(HEADER_LENGTH);
+                if (headerBytes.length < HEADER_LENGTH) {
+                    throw new EncryptionOperationNotPossibleException("Encrypted stream is truncated");
+                }
+                header = readHeader(headerBytes);
+                cipher = newCipher();
+                sealed = new byte[header.sealedChunkSize()];
+                plain = new byte[header.sealedChunkSize()];
+            }
+
+            int length = source.readNBytes(sealed, 0, sealed.length);
+            if (length < TAG_LENGTH) {
+                throw new EncryptionOperationNotPossibleException("Encrypted stream is truncated");
+            }
+            // Only the last chunk is shorter than a full one.
+            last = length < sealed.length;
+            limit = header.open(cipher, chunk++, last, sealed, length, plain);
+            position = 0;
+        }
+    }
+
+    private static void readFully(FileChannel channel, ByteBuffer buffer, long position) throws IOException {
+        while (buffer.hasRemaining()) {
+            int read = channel.read(buffer, position);
+            if (read < 0) {
+                throw new IOException("Unexpected end of file");
+            }
+            position += read;
+        }
+    }
+
+    private static void writeFully(FileChannel channel, ByteBuffer buffer, long position) throws IOException {
+        while (buffer.hasRemaining()) {
+            position += channel.write(buffer, position);
+        }
+    }
+
+    private static void deleteQuietly(Path path) {
+        try {
+            Files.deleteIfExists(path);
+        } catch (IOException e) {
+            log.warn("Failed to delete {}: {}", path, e.getMessage());
+        }
+    }
+}
@@ -0,0 +1,170 @@
+package io.github.chikitlo.common.util;
+
+import lombok.extern.slf4j.Slf4j;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+
+/**
+ * Millisecond clock advanced by a background tick, with the current time cached as formatted strings and as a
+ * {@link LocalDateTime}.
+ * <p>
+ * A daemon thread stores {@code System.currentTimeMillis()} into a volatile field every tick, so reading the time is a
+ * plain field read. The formatted value of each {@link FixedDateLayout} and the {@code LocalDateTime} are cached with
+ * the time they were computed for: the first reader after the value changed, once per second for layouts without
+ * millis and once per tick otherwise, computes and publishes it, every other read returns the cached instance without
+ * allocating. The time lags the system clock by up to one tick, more if the ticking thread is not scheduled.
+ * </p>
+ * <p>
+ * The zone is either fixed when the clock is created, or the system default zone, which the ticking thread resolves
+ * once per tick so that a later {@link java.util.TimeZone#setDefault} is followed within a tick without readers
+ * resolving it themselves; cached values are also keyed by the zone. After {@link #close()} the clock reads the system
+ * clock and the system default zone directly, allocating on every call.
+ * </p>
+ *
+ * @author Jack Lo
+ * @version 1.0
+ * @date 2026/10/18 20:53
+ */
+@Slf4j
+public final class CoarseClock implements AutoCloseable {
+    /**
+     * Null to follow the system default zone.
+     */
+    private final ZoneId fixedZone;
+    private final ScheduledExecutorService ticker;
+    private final AtomicReferenceArray<Stamp<String>> formatted = new AtomicReferenceArray<>(FixedDateLayout.values().length);
+    private final AtomicReference<Stamp<LocalDateTime>> localDateTime = new AtomicReference<>();
+
+    private volatile long currentMillis = System.currentTimeMillis();
+    /**
+     * The zone as of the last tick, replaced only when it changed so cached values can be keyed on the instance.
+     */
+    private volatile ZoneId currentZone;
+    private volatile boolean ticking = true;
+
+    CoarseClock(ZoneId zone, Duration tick) {
+        if (tick.isNegative() || tick.isZero()) {
+            throw new IllegalArgumentException("Tick must be positive");
+        }
+        this.fixedZone = zone;
+        this.currentZone = zone == null ? ZoneId.systemDefault() : zone;
+
+        ticker = Executors.newSingleThreadScheduledExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "coarse-clock-tick");
+            thread.setDaemon(true);
+            return thread;
+        });
+        long tickMicros = Math.max(1, tick.toNanos() / 1_000);
+        ticker.scheduleAtFixedRate(this::tick, tickMicros, tickMicros, TimeUnit.MICROSECONDS);
+        log.info("Started coarse clock in {} ticking every {}", zone == null ? "the system default zone" : zone, tick);
+    }
+
+    private record Stamp<T>(long key, ZoneId zone, T value) {
+    }
+
+    private void tick() {
+        currentMillis = System.currentTimeMillis();
+        if (fixedZone == null) {
+            ZoneId zone = ZoneId.systemDefault();
+            if (!zone.equals(currentZone)) {
+                currentZone = zone;
+            }
+        }
+    }
+
+    /**
+     * Current epoch millis, as of the last tick.
+     *
+     * @param
+     * @return long
+     * @throws
+     * @author Jack Lo
+     * @date 2026/10/18 20:54
+     */
+    public long millis() {
+        return ticking ? currentMillis : System.currentTimeMillis();
+    }
+
+    public Instant instant() {
+        return Instant.ofEpochMilli(millis());
+    }
+
+    /**
+     * Current local date-time in the clock zone, the same instance until the next tick.
+     *
+     * @param
+     * @return java.time.LocalDateTime
+     * @throws
+     * @author Jack Lo
+     * @date 2026/10/18 20:55
+     */
+    public LocalDateTime localDateTime() {
+        long millis = millis();
+        ZoneId zone = getZone();
+        Stamp<LocalDateTime> stamp = localDateTime.get();
+        if (stamp != null && stamp.key() == millis && stamp.zone() == zone) {
+            return stamp.value();
+        }
+
+        Stamp<LocalDateTime> refreshed = new Stamp<>(millis, zone, LocalDateTime.ofInstant(Instant.ofEpochMilli(millis), zone));
+        localDateTime.compareAndSet(stamp, refreshed);
+        return refreshed.value();
+    }
+
+    /**
+     * Current time formatted in a layout and the clock zone, the same instance until the value changes.
+     *
+     * @param layout
+     * @return java.lang.String
+     * @throws
+     * @author Jack Lo
+     * @date 2026/10/18 20:55
+     */
+    public String format(FixedDateLayout layout) {
+        long millis = millis();
+        long key = layout.hasMillis() ? millis : Math.floorDiv(millis, 1_000L);
+        ZoneId zone = getZone();
+        int index = layout.ordinal();
+        Stamp<String> stamp = formatted.get(index);
+        if (stamp != null && stamp.key() == key && stamp.zone() == zone) {
+            return stamp.value();
+        }
+
+        Stamp<String> refreshed = new Stamp<>(key, zone, layout.format(millis, zone));
+        formatted.compareAndSet(index, stamp, refreshed);
+        return refreshed.value();
+    }
+
+    /**
+     * The fixed zone of the clock, or the system default zone as of the last tick.
+     */
+    public ZoneId getZone() {
+        if (fixedZone != null) {
+            return fixedZone;
+        }
+        return ticking ? currentZone : ZoneId.systemDefault();
+    }
+
+    /**
+     * Stop the ticking thread, the clock then reads the system clock on every call.
+     *
+     * @param
+     * @return
+     * @throws
+     * @author Jack Lo
+     * @date 2026/10/18 20:55
+     */
+    @Override
+    public void close() {
+        ticking = false;
+        ticker.shutdownNow();
+    }
+}
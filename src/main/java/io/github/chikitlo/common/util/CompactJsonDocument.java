@@ -0,0 +1,712 @@
+package io.github.chikitlo.common.util;
+
+import tools.jackson.core.JsonParser;
+import tools.jackson.core.JsonPointer;
+import tools.jackson.core.JsonToken;
+import tools.jackson.core.exc.StreamReadException;
+import tools.jackson.core.type.TypeReference;
+import tools.jackson.databind.ObjectReader;
+import tools.jackson.databind.node.JsonNodeType;
+import tools.jackson.databind.util.ByteBufferBackedInputStream;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * Read-only JSON document kept in one compact buffer.
+ * <p>
+ * The buffer holds the UTF-8 document followed by a tape: one fixed-size entry per value and per property name with
+ * its type, its byte range in the document, and the index of the entry after its subtree, so siblings are skipped in
+ * one step. Object entries also keep their number of children and name entries a hash of the name, so a lookup by
+ * path compares bytes only on a hash match and nothing is decoded on the way. The whole document costs its own size
+ * plus 16 bytes per value and name, against several objects per node for a {@link tools.jackson.databind.JsonNode}.
+ * </p>
+ * <p>
+ * Values are read from the buffer on demand: scalars are decoded when asked for, and any subtree is bound to a POJO
+ * through the {@link JsonUtils} profile straight from its bytes. The buffer can live on the heap, off-heap, or be
+ * memory-mapped from a file written by {@link #save(Path)}, which loads without parsing. A document is immutable and
+ * can be shared across threads.
+ * </p>
+ * <p>
+ * Of duplicate property names in an object, lookups by name and pointer find the first, where a {@code JsonNode}
+ * keeps the last; {@link Node#propertyNames()} and {@link Node#elements()} list all of them.
+ * </p>
+ *
+ * @author Jack Lo
+ * @version 1.0
+ * @date 2026/10/18 20:23
+ */
+public final class CompactJsonDocument {
+    private static final int MAGIC = 0x4A545031;
+    private static final int HEADER_SIZE = 12;
+    private static final int ENTRY_INTS = 4;
+    private static final int ENTRY_SIZE = ENTRY_INTS * Integer.BYTES;
+    private static final int MAX_COUNT = 0xFFFFFF;
+
+    // Entry types in the low nibble of the header word, the upper 24 bits hold a child count or a name hash.
+    private static final int OBJECT = 1;
+    private static final int ARRAY = 2;
+    private static final int STRING = 3;
+    private static final int INT = 4;
+    private static final int FLOAT = 5;
+    private static final int TRUE = 6;
+    private static final int FALSE = 7;
+    private static final int NULL = 8;
+    private static final int NAME = 9;
+    private static final int ESCAPED = 0x10;
+
+    private final ByteBuffer buffer;
+    private final int documentLength;
+    private final int entryCount;
+    private final int tapeOffset;
+
+    CompactJsonDocument(ByteBuffer buffer) {
+        if (buffer.capacity() < HEADER_SIZE || buffer.getInt(0) != MAGIC) {
+            throw new IllegalArgumentException("Not a compact JSON document");
+        }
+        this.buffer = buffer;
+        this.documentLength = buffer.getInt(4);
+        this.entryCount = buffer.getInt(8);
+        this.tapeOffset = HEADER_SIZE + documentLength;
+        if ((long) tapeOffset + (long) entryCount * ENTRY_SIZE != buffer.capacity()) {
+            throw new IllegalArgumentException("Truncated compact JSON document");
+        }
+    }
+
+    /**
+     * Index UTF-8 JSON into a compact document.
+     *
+     * @param json
+     * @param offHeap whether the buffer is allocated outside the Java heap
+     * @return io.github.chikitlo.common.util.CompactJsonDocument
+     * @throws tools.jackson.core.JacksonException if the JSON is malformed
+     * @author Jack Lo
+     * @date 2026/10/18 20:25
+     */
+    static CompactJsonDocument build(byte[] json, boolean offHeap) {
+        TapeBuilder tape = new TapeBuilder(json.length);
+        try (JsonParser parser = JsonUtils.getObjectMapper().createParser(json)) {
+            tape.index(parser, json);
+        }
+
+        long size = HEADER_SIZE + (long) json.length + (long) tape.entries * ENTRY_SIZE;
+        if (size > Integer.MAX_VALUE) {
+            throw new IllegalArgumentException("Document of " + json.length + " bytes is too large for a compact document");
+        }
+
+        ByteBuffer buffer = offHeap ? ByteBuffer.allocateDirect((int) size) : ByteBuffer.allocate((int) size);
+        buffer.putInt(MAGIC).putInt(json.length).putInt(tape.entries).put(json);
+        buffer.asIntBuffer().put(tape.ints, 0, tape.entries * ENTRY_INTS);
+        buffer.clear();
+
+        return new CompactJsonDocument(buffer);
+    }
+
+    /**
+     * Memory-map a document written by {@link #save(Path)}.
+     *
+     * @param path
+     * @return io.github.chikitlo.common.util.CompactJsonDocument
+     * @throws java.io.UncheckedIOException if the file cannot be mapped
+     * @author Jack Lo
+     * @date 2026/10/18 20:25
+     */
+    static CompactJsonDocument map(Path path) {
+        try (FileChannel channel = FileChannel.open(path, StandardOpenOption.READ)) {
+            if (channel.size() > Integer.MAX_VALUE) {
+                throw new IllegalArgumentException(path + " is too large for a compact document");
+            }
+            return new CompactJsonDocument(channel.map(FileChannel.MapMode.READ_ONLY, 0, channel.size()));
+        } catch (IOException e) {
+            throw new UncheckedIOException("Failed to map " + path, e);
+        }
+    }
+
+    /**
+     * Write the buffer to a file, to be memory-mapped later.
+     *
+     * @param path
+     * @return
+     * @throws java.io.UncheckedIOException if the file cannot be written
+     * @author Jack Lo
+     * @date 2026/10/18 20:25
+     */
+    public void save(Path path) {
+        try (FileChannel channel = FileChannel.open(path, StandardOpenOption.CREATE, StandardOpenOption.TRUNCATE_EXISTING, StandardOpenOption.WRITE)) {
+            ByteBuffer content = buffer.duplicate().clear();
+            while (content.hasRemaining()) {
+                channel.write(content);
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException("Failed to save compact JSON document to " + path, e);
+        }
+    }
+
+    public Node root() {
+        return new Node(0);
+    }
+
+    /**
+     * Look up a value by JSON Pointer.
+     *
+     * @param pointer
+     * @return io.github.chikitlo.common.util.CompactJsonDocument.Node null if there is no value at the pointer
+     * @throws
+     * @author Jack Lo
+     * @date 2026/10/18 20:26
+     */
+    public Node at(String pointer) {
+        return root().at(pointer);
+    }
+
+    /**
+     * Bind the value at a JSON Pointer to the given class.
+     *
+     * @param pointer
+     * @param clazz
+     * @return T null if there is no value at the pointer
+     * @throws
+     * @author Jack Lo
+     * @date 2026/10/18 20:26
+     */
+    public <T> T read(String pointer, Class<T> clazz) {
+        Node node = at(pointer);
+        return node == null ? null : node.as(clazz);
+    }
+
+    /**
+     * Bind the value at a JSON Pointer to the given generic type.
+     *
+     * @param pointer
+     * @param typeReference
+     * @return T null if there is no value at the pointer
+     * @throws
+     * @author Jack Lo
+     * @date 2026/10/18 20:26
+     */
+    public <T> T read(String pointer, TypeReference<T> typeReference) {
+        Node node = at(pointer);
+        return node == null ? null : node.as(typeReference);
+    }
+
+    /**
+     * Text of the value at a JSON Pointer, see {@link Node#asString()}.
+     *
+     * @param pointer
+     * @return java.lang.String null if there is no value at the pointer
+     * @throws
+     * @author Jack Lo
+     * @date 2026/10/18 20:26
+     */
+    public String getString(String pointer) {
+        Node node = at(pointer);
+        return node == null ? null : node.asString();
+    }
+
+    public int getDocumentLength() {
+        return documentLength;
+    }
+
+    /**
+     * Bytes used by the document and its tape.
+     */
+    public int getSizeInBytes() {
+        return buffer.capacity();
+    }
+
+    public boolean isOffHeap() {
+        return buffer.isDirect();
+    }
+
+    /**
+     * A value of the document: a position on the tape.
+     */
+    public final class Node {
+        private final int entry;
+
+        private Node(int entry) {
+            this.entry = entry;
+        }
+
+        public JsonNodeType getNodeType() {
+            return switch (type(entry)) {
+                case OBJECT -> JsonNodeType.OBJECT;
+                case ARRAY -> JsonNodeType.ARRAY;
+                case STRING -> JsonNodeType.STRING;
+                case INT, FLOAT -> JsonNodeType.NUMBER;
+                case TRUE, FALSE -> JsonNodeType.BOOLEAN;
+                default -> JsonNodeType.NULL;
+            };
+        }
+
+        public boolean isNull() {
+            return type(entry) == NULL;
+        }
+
+        /**
+         * Number of properties of an object or elements of an array, 0 for scalars.
+         */
+        public int size() {
+            int type = type(entry);
+            if (type != OBJECT && type != ARRAY) {
+                return 0;
+            }
+
+            int count = header(entry) >>> 8;
+            if (count < MAX_COUNT) {
+                return count;
+            }
+            // Saturated count, walk the children.
+            count = 0;
+            for (int child = entry + 1; child < next(entry); child = next(type == OBJECT ? child + 1 : child)) {
+                count++;
+            }
+            return count;
+        }
+
+        /**
+         * Property of an object, the first one of duplicate names.
+         *
+         * @param name
+         * @return io.github.chikitlo.common.util.CompactJsonDocument.Node null if this is not an object or has no such property
+         * @throws
+         * @author Jack Lo
+         * @date 2026/10/18 20:27
+         */
+        public Node get(String name) {
+            int child = findProperty(entry, name);
+            return child < 0 ? null : new Node(child);
+        }
+
+        /**
+         * Element of an array.
+         *
+         * @param index
+         * @return io.github.chikitlo.common.util.CompactJsonDocument.Node null if this is not an array or the index is out of range
+         * @throws
+         * @author Jack Lo
+         * @date 2026/10/18 20:27
+         */
+        public Node get(int index) {
+            int child = findElement(entry, index);
+            return child < 0 ? null : new Node(child);
+        }
+
+        /**
+         * Look up a value by JSON Pointer relative to this one.
+         *
+         * @param pointer
+         * @return io.github.chikitlo.common.util.CompactJsonDocument.Node null if there is no value at the pointer
+         * @throws
+         * @author Jack Lo
+         * @date 2026/10/18 20:27
+         */
+        public Node at(String pointer) {
+            int current = entry;
+            for (JsonPointer segment = JsonPointer.compile(pointer); !segment.matches() && current >= 0; segment = segment.tail()) {
+                int type = type(current);
+                if (type == OBJECT) {
+                    // Index segments also match an object property of the same name.
+                    current = findProperty(current, segment.mayMatchProperty() ? segment.getMatchingProperty() : String.valueOf(segment.getMatchingIndex()));
+                } else if (type == ARRAY && segment.mayMatchElement()) {
+                    current = findElement(current, segment.getMatchingIndex());
+                } else {
+                    current = -1;
+                }
+            }
+
+            return current < 0 ? null : new Node(current);
+        }
+
+        /**
+         * Property names of an object in document order, empty for other values.
+         */
+        public List<String> propertyNames() {
+            if (type(entry) != OBJECT) {
+                return List.of();
+            }
+
+            List<String> names = new ArrayList<>(size());
+            for (int child = entry + 1; child < next(entry); child = next(child + 1)) {
+                names.add(decodeString(child));
+            }
+            return names;
+        }
+
+        /**
+         * Elements of an array or property values of an object in document order, empty for scalars.
+         */
+        public List<Node> elements() {
+            int type = type(entry);
+            if (type != OBJECT && type != ARRAY) {
+                return List.of();
+            }
+
+            List<Node> elements = new ArrayList<>(size());
+            for (int child = entry + 1; child < next(entry); child = next(child)) {
+                if (type == OBJECT) {
+                    child++;
+                }
+                elements.add(new Node(child));
+            }
+            return elements;
+        }
+
+        /**
+         * Text of a scalar: strings unescaped, numbers as written, booleans as {@code true}/{@code false} and JSON
+         * {@code null} as an empty string. Objects and arrays are returned as their JSON.
+         */
+        public String asString() {
+            return switch (type(entry)) {
+                case STRING -> decodeString(entry);
+                case NULL -> "";
+                default -> rawText(entry);
+            };
+        }
+
+        /**
+         * Numbers, numeric strings and booleans as a long, JSON {@code null} as 0.
+         *
+         * @param
+         * @return long
+         * @throws java.lang.NumberFormatException if the value is not numeric or does not fit
+         * @author Jack Lo
+         * @date 2026/10/18 20:28
+         */
+        public long asLong() {
+            return switch (type(entry)) {
+                case INT -> parseLong(entry);
+                case FLOAT -> (long) Double.parseDouble(rawText(entry));
+                case STRING -> Long.parseLong(decodeString(entry).trim());
+                case TRUE -> 1L;
+                case FALSE, NULL -> 0L;
+                default -> throw new NumberFormatException("Not a scalar: " + getNodeType());
+            };
+        }
+
+        /**
+         * Numbers, numeric strings and booleans as a double, JSON {@code null} as 0.
+         *
+         * @param
+         * @return double
+         * @throws java.lang.NumberFormatException if the value is not numeric
+         * @author Jack Lo
+         * @date 2026/10/18 20:29
+         */
+        public double asDouble() {
+            return switch (type(entry)) {
+                case INT -> parseLong(entry);
+                case FLOAT -> Double.parseDouble(rawText(entry));
+                case STRING -> Double.parseDouble(decodeString(entry));
+                case TRUE -> 1D;
+                case FALSE, NULL -> 0D;
+                default -> throw new NumberFormatException("Not a scalar: " + getNodeType());
+            };
+        }
+
+        /**
+         * {@code true}, the string {@code "true"} in any case and non-zero numbers are true.
+         */
+        public boolean asBoolean() {
+            return switch (type(entry)) {
+                case TRUE -> true;
+                case STRING -> Boolean.parseBoolean(decodeString(entry).trim());
+                case INT, FLOAT -> asDouble() != 0D;
+                default -> false;
+            };
+        }
+
+        /**
+         * Bind this value to the given class, decoding only its own bytes.
+         *
+         * @param clazz
+         * @return T
+         * @throws tools.jackson.core.JacksonException if the value cannot be bound
+         * @author Jack Lo
+         * @date 2026/10/18 20:29
+         */
+        public <T> T as(Class<T> clazz) {
+            return materialize(entry, JsonUtils.getDefaultProfile().reader(clazz));
+        }
+
+        /**
+         * Bind this value to the given generic type, decoding only its own bytes.
+         *
+         * @param typeReference
+         * @return T
+         * @throws tools.jackson.core.JacksonException if the value cannot be bound
+         * @author Jack Lo
+         * @date 2026/10/18 20:29
+         */
+        public <T> T as(TypeReference<T> typeReference) {
+            return materialize(entry, JsonUtils.getDefaultProfile().reader(typeReference));
+        }
+
+        /**
+         * The JSON of this value as written in the document.
+         */
+        @Override
+        public String toString() {
+            return rawText(entry);
+        }
+    }
+
+    private int findProperty(int object, String name) {
+        if (type(object) != OBJECT) {
+            return -1;
+        }
+
+        int hash = name.hashCode() & MAX_COUNT;
+        int end = next(object);
+        for (int child = object + 1; child < end; child = next(child + 1)) {
+            if (header(child) >>> 8 == hash && nameEquals(child, name)) {
+                return child + 1;
+            }
+        }
+        return -1;
+    }
+
+    private int findElement(int array, int index) {
+        if (type(array) != ARRAY || index < 0) {
+            return -1;
+        }
+
+        int end = next(array);
+        int child = array + 1;
+        for (int i = 0; i < index && child < end; i++) {
+            child = next(child);
+        }
+        return child < end ? child : -1;
+    }
+
+    private boolean nameEquals(int nameEntry, String name) {
+        if ((header(nameEntry) & ESCAPED) != 0) {
+            return name.equals(decodeString(nameEntry));
+        }
+
+        // Compare ASCII in place, anything else through its UTF-8 bytes.
+        int from = HEADER_SIZE + start(nameEntry) + 1;
+        int length = end(nameEntry) - start(nameEntry) - 2;
+        int chars = name.length();
+        if (chars > length) {
+            return false;
+        }
+        for (int i = 0; i < chars; i++) {
+            char c = name.charAt(i);
+            if (c >= 0x80) {
+                return Arrays.equals(name.getBytes(StandardCharsets.UTF_8), bytes(from, length));
+            }
+            if (buffer.get(from + i) != c) {
+                return false;
+            }
+        }
+        return chars == length;
+    }
+
+    private String decodeString(int stringEntry) {
+        if ((header(stringEntry) & ESCAPED) != 0) {
+            return materialize(stringEntry, JsonUtils.getDefaultProfile().reader(String.class));
+        }
+
+        int from = HEADER_SIZE + start(stringEntry) + 1;
+        int length = end(stringEntry) - start(stringEntry) - 2;
+        if (buffer.hasArray()) {
+            return new String(buffer.array(), buffer.arrayOffset() + from, length, StandardCharsets.UTF_8);
+        }
+        return new String(bytes(from, length), StandardCharsets.UTF_8);
+    }
+
+    private String rawText(int valueEntry) {
+        int from = HEADER_SIZE + start(valueEntry);
+        int length = end(valueEntry) - start(valueEntry);
+        if (buffer.hasArray()) {
+            return new String(buffer.array(), buffer.arrayOffset() + from, length, StandardCharsets.UTF_8);
+        }
+        return new String(bytes(from, length), StandardCharsets.UTF_8);
+    }
+
+    /**
+     * Parse an integer from its ASCII digits in place, falling back to the JDK on overflow.
+     */
+    private long parseLong(int intEntry) {
+        int position = HEADER_SIZE + start(intEntry);
+        int end = HEADER_SIZE + end(intEntry);
+        boolean negative = buffer.get(position) == '-';
+        if (negative) {
+            position++;
+        }
+        if (end - position > 18) {
+            return Long.parseLong(rawText(intEntry));
+        }
+
+        long value = 0;
+        for (; position < end; position++) {
+            value = value * 10 + (buffer.get(position) - '0');
+        }
+        return negative ? -value : value;
+    }
+
+    private <T> T materialize(int valueEntry, ObjectReader reader) {
+        int from = HEADER_SIZE + start(valueEntry);
+        int length = end(valueEntry) - start(valueEntry);
+        if (buffer.hasArray()) {
+            return reader.readValue(buffer.array(), buffer.arrayOffset() + from, length);
+        }
+        return reader.readValue(new ByteBufferBackedInputStream(buffer.slice(from, length)));
+    }
+
+    private byte[] bytes(int from, int length) {
+        byte[] bytes = new byte[length];
+        buffer.get(from, bytes);
+        return bytes;
+    }
+
+    private int header(int entry) {
+        return buffer.getInt(tapeOffset + entry * ENTRY_SIZE);
+    }
+
+    private int type(int entry) {
+        return header(entry) & 0x0F;
+    }
+
+    private int start(int entry) {
+        return buffer.getInt(tapeOffset + entry * ENTRY_SIZE + 4);
+    }
+
+    private int end(int entry) {
+        return buffer.getInt(tapeOffset + entry * ENTRY_SIZE + 8);
+    }
+
+    private int next(int entry) {
+        return buffer.getInt(tapeOffset + entry * ENTRY_SIZE + 12);
+    }
+
+    /**
+     * Builds the tape from the token stream of the parser. Token start offsets come from the parser, the end of a
+     * property name, which the parser does not report, is found by scanning for its closing quote.
+     */
+    private static final class TapeBuilder {
+        private int[] ints;
+        private int entries;
+        private int[] containers = new int[32];
+        private int depth;
+
+        private TapeBuilder(int documentLength) {
+            // About one entry per 8 bytes of typical JSON.
+            this.ints = new int[Math.max(64, documentLength / 8 * ENTRY_INTS)];
+        }
+
+        private void index(JsonParser parser, byte[] json) {
+            JsonToken token;
+            while ((token = parser.nextToken()) != null) {
+                if (depth == 0 && entries > 0) {
+                    throw new StreamReadException(parser, "Trailing token " + token + " after the root value");
+                }
+
+                int start = (int) parser.currentTokenLocation().getByteOffset();
+                switch (token) {
+                    case PROPERTY_NAME -> {
+                        int end = start + 1;
+                        int flags = 0;
+                        while (json[end] != '"') {
+                            if (json[end] == '\\') {
+                                flags = ESCAPED;
+                                end++;
+                            }
+                            end++;
+                        }
+                        countChild();
+                        add(NAME | flags | (parser.currentName().hashCode() & MAX_COUNT) << 8, start, end + 1, entries + 1);
+                    }
+                    case START_OBJECT, START_ARRAY -> {
+                        if (depth > 0 && (ints[containers[depth - 1] * ENTRY_INTS] & 0x0F) == ARRAY) {
+                            countChild();
+                        }
+                        if (depth == containers.length) {
+                            containers = Arrays.copyOf(containers, depth * 2);
+                        }
+                        containers[depth++] = entries;
+                        add(token == JsonToken.START_OBJECT ? OBJECT : ARRAY, start, 0, 0);
+                    }
+                    case END_OBJECT, END_ARRAY -> {
+                        int container = containers[--depth] * ENTRY_INTS;
+                        ints[container + 2] = (int) parser.currentLocation().getByteOffset();
+                        ints[container + 3] = entries;
+                    }
+                    default -> {
+                        if (depth > 0 && (ints[containers[depth - 1] * ENTRY_INTS] & 0x0F) == ARRAY) {
+                            countChild();
+                        }
+                        int type = scalarType(token);
+                        if (type == STRING) {
+                            parser.finishToken();
+                        }
+                        int end = (int) parser.currentLocation().getByteOffset();
+                        // A number at the root is only known to end with the whitespace the parser consumed after it.
+                        while (end > start && isWhitespace(json[end - 1])) {
+                            end--;
+                        }
+                        int flags = type == STRING && containsBackslash(json, start, end) ? ESCAPED : 0;
+                        add(type | flags, start, end, entries + 1);
+                    }
+                }
+            }
+
+            if (entries == 0) {
+                throw new StreamReadException(parser, "No JSON content to index");
+            }
+        }
+
+        private void countChild() {
+            int header = containers[depth - 1] * ENTRY_INTS;
+            if (ints[header] >>> 8 < MAX_COUNT) {
+                ints[header] += 1 << 8;
+            }
+        }
+
+        private void add(int header, int start, int end, int next) {
+            int offset = entries * ENTRY_INTS;
+            if (offset + ENTRY_INTS > ints.length) {
+                ints = Arrays.copyOf(ints, ints.length + (ints.length >> 1));
+            }
+            ints[offset] = header;
+            ints[offset + 1] = start;
+            ints[offset + 2] = end;
+            ints[offset + 3] = next;
+            entries++;
+        }
+
+        private static int scalarType(JsonToken token) {
+            return switch (token) {
+                case VALUE_STRING -> STRING;
+                case VALUE_NUMBER_INT -> INT;
+                case VALUE_NUMBER_FLOAT -> FLOAT;
+                case VALUE_TRUE -> TRUE;
+                case VALUE_FALSE -> FALSE;
+                case VALUE_NULL -> NULL;
+                default -> throw new IllegalStateException("Unexpected token " + token);
+            };
+        }
+
+        private static boolean isWhitespace(byte b) {
+            return b == ' ' || b == '\t' || b == '\n' || b == '\r';
+        }
+
+        private static boolean containsBackslash(byte[] json, int start, int end) {
+            for (int i = start + 1; i < end - 1; i++) {
+                if (json[i] == '\\') {
+                    return true;
+                }
+            }
+            return false;
+        }
+    }
+}
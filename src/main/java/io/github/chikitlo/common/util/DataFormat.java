@@ -0,0 +1,58 @@
+package io.github.chikitlo.common.util;
+
+import lombok.Getter;
+
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Locale;
+import java.util.Map;
+
+/**
+ * Wire formats supported by {@link JsonUtils}, all sharing the same mapper configuration.
+ *
+ * @author Jack Lo
+ * @version 1.0
+ * @date 2026/10/18 19:58
+ */
+@Getter
+public enum DataFormat {
+    JSON("application/json"),
+    SMILE("application/x-jackson-smile"),
+    CBOR("application/cbor");
+
+    private final String contentType;
+
+    private static final Map<String, DataFormat> CONTENT_TYPE_INDEX;
+
+    static {
+        Map<String, DataFormat> map = new HashMap<>();
+        for (DataFormat item : values()) {
+            map.put(item.contentType, item);
+        }
+
+        CONTENT_TYPE_INDEX = Collections.unmodifiableMap(map);
+    }
+
+    DataFormat(String contentType) {
+        this.contentType = contentType;
+    }
+
+    /**
+     * Resolve a format from a content type, ignoring case and parameters such as {@code ; charset=UTF-8}.
+     *
+     * @param contentType
+     * @return io.github.chikitlo.common.util.DataFormat null if the content type is not supported
+     * @throws
+     * @author Jack Lo
+     * @date 2026/10/18 19:59
+     */
+    public static DataFormat fromContentType(String contentType) {
+        if (contentType == null) {
+            return null;
+        }
+
+        int parameters = contentType.indexOf(';');
+        String mediaType = (parameters < 0 ? contentType : contentType.substring(0, parameters)).trim().toLowerCase(Locale.ROOT);
+        return CONTENT_TYPE_INDEX.get(mediaType);
+    }
+}
@@ -0,0 +1,222 @@
+package io.github.chikitlo.common.util;
+
+import java.time.DateTimeException;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.time.format.DateTimeFormatter;
+import java.time.temporal.ChronoField;
+import java.time.temporal.TemporalAccessor;
+import java.util.ArrayList;
+import java.util.BitSet;
+import java.util.List;
+import java.util.RandomAccess;
+import java.util.stream.IntStream;
+
+/**
+ * Column of dates as primitive epoch millis, with a bitmap of the values that could not be parsed.
+ * <p>
+ * Columns are parsed and formatted in blocks of 64-aligned rows, so each block owns whole words of the error bitmap.
+ * Large columns split the blocks across the common fork-join pool. Each block keeps a direct-mapped cache of the last
+ * values seen, so a column with few distinct values, or with runs of the same value, parses or formats each of them
+ * about once per block. The {@code DateConstants} layouts go through {@link FixedDateLayout}, other patterns through a
+ * formatter; patterns without a time parse to the start of the day.
+ * </p>
+ *
+ * @author Jack Lo
+ * @version 1.0
+ * @date 2026/10/18 20:58
+ */
+public final class DateColumn {
+    /**
+     * Columns at least this long are processed in parallel.
+     */
+    public static final int PARALLEL_THRESHOLD = 16_384;
+
+    private static final int MIN_BLOCK_SIZE = 4_096;
+    private static final int CACHE_SIZE = 1_024;
+
+    private final long[] epochMillis;
+    private final long[] errorWords;
+    private final int errorCount;
+
+    private DateColumn(long[] epochMillis, long[] errorWords) {
+        this.epochMillis = epochMillis;
+        this.errorWords = errorWords;
+        int count = 0;
+        for (long word : errorWords) {
+            count += Long.bitCount(word);
+        }
+        this.errorCount = count;
+    }
+
+    /**
+     * Parse a column of strings in a pattern and zone.
+     *
+     * @param values  null and blank values are errors
+     * @param pattern
+     * @param zone
+     * @return io.github.chikitlo.common.util.DateColumn
+     * @throws java.lang.IllegalArgumentException if the pattern is invalid
+     * @author Jack Lo
+     * @date 2026/10/18 20:59
+     */
+    static DateColumn parse(List<String> values, String pattern, ZoneId zone) {
+        List<String> rows = values instanceof RandomAccess ? values : new ArrayList<>(values);
+        int size = rows.size();
+        long[] epochMillis = new long[size];
+        long[] errorWords = new long[(size + 63) >>> 6];
+        Parser parser = new Parser(FixedDateLayout.fromPattern(pattern), DateUtils.getCache().formatter(pattern), zone);
+
+        forEachBlock(size, (from, to) -> parser.parse(rows, from, to, epochMillis, errorWords));
+        return new DateColumn(epochMillis, errorWords);
+    }
+
+    /**
+     * Format a column of epoch millis in a pattern and zone, rows flagged in the error bitmap become null.
+     *
+     * @param epochMillis
+     * @param errorWords  error bitmap, null if there are no errors
+     * @param pattern
+     * @param zone
+     * @return java.lang.String[]
+     * @throws java.lang.IllegalArgumentException if the pattern is invalid
+     * @author Jack Lo
+     * @date 2026/10/18 21:00
+     */
+    static String[] format(long[] epochMillis, long[] errorWords, String pattern, ZoneId zone) {
+        String[] values = new String[epochMillis.length];
+        FixedDateLayout layout = FixedDateLayout.fromPattern(pattern);
+        DateTimeFormatter formatter = DateUtils.getCache().formatter(pattern);
+
+        forEachBlock(epochMillis.length, (from, to) -> {
+            long[] keys = new long[CACHE_SIZE];
+            String[] cached = new String[CACHE_SIZE];
+            for (int i = from; i < to; i++) {
+                if (errorWords != null && (errorWords[i >>> 6] & 1L << i) != 0) {
+                    continue;
+                }
+
+                long millis = epochMillis[i];
+                int slot = slot(Long.hashCode(millis));
+                if (cached[slot] == null || keys[slot] != millis) {
+                    keys[slot] = millis;
+                    cached[slot] = layout != null
+                            ? layout.format(millis, zone)
+                            : LocalDateTime.ofInstant(Instant.ofEpochMilli(millis), zone).format(formatter);
+                }
+                values[i] = cached[slot];
+            }
+        });
+        return values;
+    }
+
+    public int size() {
+        return epochMillis.length;
+    }
+
+    /**
+     * Epoch millis of each row, 0 for errors. The array is not copied.
+     */
+    public long[] getEpochMillis() {
+        return epochMillis;
+    }
+
+    public boolean isError(int index) {
+        if (index < 0 || index >= epochMillis.length) {
+            throw new IndexOutOfBoundsException(index);
+        }
+        return (errorWords[index >>> 6] & 1L << index) != 0;
+    }
+
+    public int getErrorCount() {
+        return errorCount;
+    }
+
+    /**
+     * Rows that could not be parsed, as a copy of the error bitmap.
+     */
+    public BitSet getErrors() {
+        return BitSet.valueOf(errorWords);
+    }
+
+    /**
+     * Format the column in a pattern and zone, errors become null.
+     *
+     * @param pattern
+     * @param zone
+     * @return java.lang.String[]
+     * @throws java.lang.IllegalArgumentException if the pattern is invalid
+     * @author Jack Lo
+     * @date 2026/10/18 21:01
+     */
+    public String[] format(String pattern, ZoneId zone) {
+        return format(epochMillis, errorCount == 0 ? null : errorWords, pattern, zone);
+    }
+
+    private interface Block {
+        void run(int from, int to);
+    }
+
+    private static void forEachBlock(int size, Block block) {
+        if (size < PARALLEL_THRESHOLD) {
+            block.run(0, size);
+            return;
+        }
+
+        // A few blocks per core for balance, each a multiple of 64 rows so no two share a bitmap word.
+        int blocksPerCore = 4 * Runtime.getRuntime().availableProcessors();
+        int blockSize = Math.max(MIN_BLOCK_SIZE, ((size / blocksPerCore) + 63) & ~63);
+        int blockCount = (size + blockSize - 1) / blockSize;
+        IntStream.range(0, blockCount).parallel().forEach(index -> block.run(index * blockSize, Math.min(size, (index + 1) * blockSize)));
+    }
+
+    private static int slot(int hash) {
+        return (hash ^ hash >>> 16) & (CACHE_SIZE - 1);
+    }
+
+    private record Parser(FixedDateLayout layout, DateTimeFormatter formatter, ZoneId zone) {
+        void parse(List<String> values, int from, int to, long[] epochMillis, long[] errorWords) {
+            String[] keys = new String[CACHE_SIZE];
+            long[] cachedMillis = new long[CACHE_SIZE];
+            boolean[] cachedErrors = new boolean[CACHE_SIZE];
+            for (int i = from; i < to; i++) {
+                String value = values.get(i);
+                if (value == null || value.isBlank()) {
+                    errorWords[i >>> 6] |= 1L << i;
+                    continue;
+                }
+
+                int slot = slot(value.hashCode());
+                if (!value.equals(keys[slot])) {
+                    keys[slot] = value;
+                    try {
+                        cachedMillis[slot] = parse(value);
+                        cachedErrors[slot] = false;
+                    } catch (DateTimeException | ArithmeticException e) {
+                        cachedMillis[slot] = 0;
+                        cachedErrors[slot] = true;
+                    }
+                }
+                if (cachedErrors[slot]) {
+                    errorWords[i >>> 6] |= 1L << i;
+                } else {
+                    epochMillis[i] = cachedMillis[slot];
+                }
+            }
+        }
+
+        private long parse(String value) {
+            if (layout != null) {
+                return layout.parseEpochMillis(value, zone);
+            }
+
+            TemporalAccessor parsed = formatter.parse(value);
+            if (parsed.isSupported(ChronoField.HOUR_OF_DAY)) {
+                return LocalDateTime.from(parsed).atZone(zone).toInstant().toEpochMilli();
+            }
+            return LocalDate.from(parsed).atStartOfDay(zone).toInstant().toEpochMilli();
+        }
+    }
+}
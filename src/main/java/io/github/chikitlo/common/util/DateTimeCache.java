@@ -0,0 +1,118 @@
+package io.github.chikitlo.common.util;
+
+import java.time.ZoneId;
+import java.time.format.DateTimeFormatter;
+import java.util.Iterator;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Function;
+
+/**
+ * Bounded cache of compiled {@link DateTimeFormatter}s by pattern and {@link ZoneId}s by id.
+ * <p>
+ * Both are immutable and thread-safe, but {@code DateTimeFormatter.ofPattern} parses the pattern on every call and
+ * {@code ZoneId.of} looks up the zone rules. A hit is a lock-free read of a concurrent map. Patterns and zone ids can
+ * come from input, so each map holds at most {@code maxSize} entries; beyond that an arbitrary entry is evicted to make
+ * room. Invalid patterns and ids are not cached, they fail as they would without the cache.
+ * </p>
+ *
+ * @author Jack Lo
+ * @version 1.0
+ * @date 2026/10/18 20:33
+ */
+public final class DateTimeCache {
+    public static final int DEFAULT_MAX_SIZE = 256;
+
+    private final int maxSize;
+    private final Map<String, DateTimeFormatter> formatters = new ConcurrentHashMap<>();
+    private final Map<String, ZoneId> zones = new ConcurrentHashMap<>();
+    private final LongAdder formatterHits = new LongAdder();
+    private final LongAdder formatterMisses = new LongAdder();
+    private final LongAdder zoneHits = new LongAdder();
+    private final LongAdder zoneMisses = new LongAdder();
+
+    DateTimeCache(int maxSize) {
+        if (maxSize < 1) {
+            throw new IllegalArgumentException("Max size must be positive");
+        }
+        this.maxSize = maxSize;
+    }
+
+    /**
+     * Counters and sizes, for monitoring.
+     *
+     * @param formatterHits
+     * @param formatterMisses
+     * @param formatters      number of cached formatters
+     * @param zoneHits
+     * @param zoneMisses
+     * @param zones           number of cached zones
+     */
+    public record Stats(long formatterHits, long formatterMisses, int formatters, long zoneHits, long zoneMisses, int zones) {
+    }
+
+    /**
+     * Get the formatter of a pattern, compiling it on a miss.
+     *
+     * @param pattern
+     * @return java.time.format.DateTimeFormatter
+     * @throws java.lang.IllegalArgumentException if the pattern is invalid
+     * @author Jack Lo
+     * @date 2026/10/18 20:34
+     */
+    public DateTimeFormatter formatter(String pattern) {
+        return lookup(formatters, pattern, DateTimeFormatter::ofPattern, formatterHits, formatterMisses);
+    }
+
+    /**
+     * Get the zone of an id, resolving it on a miss.
+     *
+     * @param zoneId
+     * @return java.time.ZoneId
+     * @throws java.time.DateTimeException if the zone id is invalid
+     * @author Jack Lo
+     * @date 2026/10/18 20:35
+     */
+    public ZoneId zone(String zoneId) {
+        return lookup(zones, zoneId, ZoneId::of, zoneHits, zoneMisses);
+    }
+
+    public Stats getStats() {
+        return new Stats(formatterHits.sum(), formatterMisses.sum(), formatters.size(), zoneHits.sum(), zoneMisses.sum(), zones.size());
+    }
+
+    /**
+     * Drop the cached formatters and zones, the counters are kept.
+     *
+     * @param
+     * @return
+     * @throws
+     * @author Jack Lo
+     * @date 2026/10/18 20:35
+     */
+    public void clear() {
+        formatters.clear();
+        zones.clear();
+    }
+
+    private <V> V lookup(Map<String, V> cache, String key, Function<String, V> factory, LongAdder hits, LongAdder misses) {
+        V value = cache.get(key);
+        if (value != null) {
+            hits.increment();
+            return value;
+        }
+
+        misses.increment();
+        value = factory.apply(key);
+        if (cache.size() >= maxSize) {
+            Iterator<String> keys = cache.keySet().iterator();
+            if (keys.hasNext()) {
+                keys.next();
+                keys.remove();
+            }
+        }
+        V previous = cache.putIfAbsent(key, value);
+        return previous != null ? previous : value;
+    }
+}
@@ -7,9 +7,12 @@ import org.apache.commons.lang3.StringUtils;
 import java.time.*;
 import java.time.format.DateTimeFormatter;
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.Calendar;
 import java.util.Date;
 import java.util.List;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
 
 /**
  * DateUtils
@@ -24,23 +27,90 @@ public final class DateUtils {
         throw new UnsupportedOperationException("This is a utility class and cannot be instantiated");
     }
 
+    private static final DateTimeCache CACHE = new DateTimeCache(DateTimeCache.DEFAULT_MAX_SIZE);
     private static final DateTimeFormatter YYYY_MM_DD_HH_MM_SS = DateTimeFormatter.ofPattern(DateConstants.YYYY_MM_DD_HH_MM_SS);
 
+    /**
+     * The formatter and zone cache behind the methods taking a pattern or a time zone as a string.
+     *
+     * @param
+     * @return io.github.chikitlo.common.util.DateTimeCache
+     * @throws
+     * @author Jack Lo
+     * @date 2026/10/18 20:35
+     */
+    public static DateTimeCache getCache() {
+        return CACHE;
+    }
+
+    /**
+     * The calendar of the workday listings without a calendar: Monday to Friday, no holidays.
+     *
+     * @param
+     * @return io.github.chikitlo.common.util.BusinessCalendar
+     * @throws
+     * @author Jack Lo
+     * @date 2026/10/18 20:50
+     */
+    public static BusinessCalendar getWeekdayCalendar() {
+        return WeekdaysHolder.WEEKDAYS;
+    }
+
+    /**
+     * The shared coarse clock, ticking every 10 milliseconds. Started on first use, it follows later changes of the
+     * system default zone.
+     *
+     * @param
+     * @return io.github.chikitlo.common.util.CoarseClock
+     * @throws
+     * @author Jack Lo
+     * @date 2026/10/18 20:56
+     */
+    public static CoarseClock getClock() {
+        return ClockHolder.CLOCK;
+    }
+
+    /**
+     * Create a coarse clock in a zone, to be closed when no longer used.
+     *
+     * @param zoneId null to follow the system default zone
+     * @param tick
+     * @return io.github.chikitlo.common.util.CoarseClock
+     * @throws
+     * @author Jack Lo
+     * @date 2026/10/18 20:56
+     */
+    public static CoarseClock coarseClock(ZoneId zoneId, Duration tick) {
+        return new CoarseClock(zoneId, tick);
+    }
+
+    /**
+     * Current time in the specified format and the system default zone. The {@link DateConstants} patterns are served
+     * from the shared {@link CoarseClock}, as of its last tick.
+     */
     public static String getCurrentTime(String format) {
-        return LocalDateTime.now().format(DateTimeFormatter.ofPattern(format));
+        FixedDateLayout layout = FixedDateLayout.fromPattern(format);
+        if (layout != null) {
+            return ClockHolder.CLOCK.format(layout);
+        }
+        return LocalDateTime.now().format(CACHE.formatter(format));
     }
 
     public static String format(Date date, String format, String timezone) {
-        return format(date, DateTimeFormatter.ofPattern(format), timezone);
+        FixedDateLayout layout = FixedDateLayout.fromPattern(format);
+        if (layout != null) {
+            return layout.format(date.getTime(), zoneOf(timezone));
+        }
+        return format(date, CACHE.formatter(format), timezone);
     }
 
     public static String format(Date date, DateTimeFormatter formatter, String timezone) {
-        LocalDateTime localDateTime = StringUtils.isEmpty(timezone) ? dateToLocalDateTime(date) : dateToLocalDateTime(date, ZoneId.of(timezone));
+        LocalDateTime localDateTime = StringUtils.isEmpty(timezone) ? dateToLocalDateTime(date) : dateToLocalDateTime(date, CACHE.zone(timezone));
         return format(localDateTime, formatter);
     }
 
     public static String format(LocalDateTime localDateTime, String format) {
-        return format(localDateTime, DateTimeFormatter.ofPattern(format));
+        return format(localDateTime, CACHE.formatter(format));
     }
 
     public static String format(LocalDateTime localDateTime, DateTimeFormatter formatter) {
@@ -48,11 +118,11 @@ public final class DateUtils {
     }
 
     public static String dateToString(Date date) {
-        return format(date, YYYY_MM_DD_HH_MM_SS, null);
+        return FixedDateLayout.YYYY_MM_DD_HH_MM_SS.format(date.getTime(), ZoneId.systemDefault());
     }
 
     public static String dateToString(Date date, String timezone) {
-        return format(date, YYYY_MM_DD_HH_MM_SS, timezone);
+        return FixedDateLayout.YYYY_MM_DD_HH_MM_SS.format(date.getTime(), zoneOf(timezone));
     }
 
     public static String dateToString(ZonedDateTime zonedDateTime) {
@@ -60,7 +130,7 @@ public final class DateUtils {
     }
 
     public static String dateToString(ZonedDateTime zonedDateTime, String timezone) {
-        return dateToString(zonedDateTime, ZoneId.of(timezone));
+        return dateToString(zonedDateTime, CACHE.zone(timezone));
     }
 
     public static String dateToString(ZonedDateTime zonedDateTime, ZoneId zoneId) {
@@ -68,7 +138,11 @@ public final class DateUtils {
     }
 
     public static Date parse(String date, String format, String timezone) {
-        return parse(date, DateTimeFormatter.ofPattern(format), timezone);
+        FixedDateLayout layout = FixedDateLayout.fromPattern(format);
+        if (layout != null && layout.hasTime()) {
+            return new Date(layout.parseEpochMillis(date, zoneOf(timezone)));
+        }
+        return parse(date, CACHE.formatter(format), timezone);
     }
 
     public static Date parse(String date, DateTimeFormatter formatter, String timezone) {
@@ -76,23 +150,57 @@ public final class DateUtils {
         if (StringUtils.isEmpty(timezone)) {
             return localDateTimeToDate(localDateTime);
         }
-        return localDateTimeToDate(localDateTime, ZoneId.of(timezone));
+        return localDateTimeToDate(localDateTime, CACHE.zone(timezone));
+    }
+
+    /**
+     * Parse a column of dates into epoch millis, flagging the values that cannot be parsed instead of failing.
+     *
+     * @param dates
+     * @param format
+     * @param timezone system default if empty
+     * @return io.github.chikitlo.common.util.DateColumn
+     * @throws java.lang.IllegalArgumentException if the format is invalid
+     * @author Jack Lo
+     * @date 2026/10/18 21:02
+     */
+    public static DateColumn parseColumn(List<String> dates, String format, String timezone) {
+        return DateColumn.parse(dates, format, zoneOf(timezone));
+    }
+
+    public static DateColumn parseColumn(String[] dates, String format, String timezone) {
+        return parseColumn(Arrays.asList(dates), format, timezone);
+    }
+
+    /**
+     * Format a column of epoch millis.
+     *
+     * @param epochMillis
+     * @param format
+     * @param timezone    system default if empty
+     * @return java.lang.String[]
+     * @throws java.lang.IllegalArgumentException if the format is invalid
+     * @author Jack Lo
+     * @date 2026/10/18 21:02
+     */
+    public static String[] formatColumn(long[] epochMillis, String format, String timezone) {
+        return DateColumn.format(epochMillis, null, format, zoneOf(timezone));
     }
 
     public static ZonedDateTime parseZonedDateTime(String date, DateTimeFormatter formatter, String timezone) {
         ZonedDateTime zonedDateTime = ZonedDateTime.parse(date, formatter);
         if (StringUtils.isNotEmpty(timezone)) {
-            return zonedDateTime.withZoneSameInstant(ZoneId.of(timezone));
+            return zonedDateTime.withZoneSameInstant(CACHE.zone(timezone));
         }
         return zonedDateTime;
     }
 
     public static Date stringToDate(String date) {
-        return parse(date, YYYY_MM_DD_HH_MM_SS, null);
+        return new Date(FixedDateLayout.YYYY_MM_DD_HH_MM_SS.parseEpochMillis(date, ZoneId.systemDefault()));
     }
 
     public static Date stringToDate(String date, String timezone) {
-        return parse(date, YYYY_MM_DD_HH_MM_SS, timezone);
+        return new Date(FixedDateLayout.YYYY_MM_DD_HH_MM_SS.parseEpochMillis(date, zoneOf(timezone)));
     }
 
     public static ZonedDateTime stringToZonedDateTime(String date) {
@@ -151,19 +259,41 @@ public final class DateUtils {
      * @date 2025/12/21 03:03
      */
     public static List<String> listLastNMonthsWorkdays(int month, String dateFormat) {
-        List<String> workdays = new ArrayList<>();
+        return listLastNMonthsWorkdays(month, dateFormat, WeekdaysHolder.WEEKDAYS);
+    }
+
+    /**
+     * List last N months' business days(T-1, except today) of a calendar in the specified date format.
+     *
+     * @param month
+     * @param dateFormat
+     * @param calendar
+     * @return java.util.List<java.lang.String>
+     * @throws java.time.DateTimeException if the months are outside the calendar years
+     * @author Jack Lo
+     * @date 2026/10/18 20:51
+     */
+    public static List<String> listLastNMonthsWorkdays(int month, String dateFormat, BusinessCalendar calendar) {
+        return streamLastNMonthsWorkdays(month, dateFormat, calendar).collect(Collectors.toCollection(ArrayList::new));
+    }
+
+    /**
+     * Stream last N months' business days(T-1, except today) of a calendar, each day is formatted when consumed.
+     *
+     * @param month
+     * @param dateFormat
+     * @param calendar
+     * @return java.util.stream.Stream<java.lang.String>
+     * @throws java.time.DateTimeException if the months are outside the calendar years
+     * @author Jack Lo
+     * @date 2026/10/18 20:51
+     */
+    public static Stream<String> streamLastNMonthsWorkdays(int month, String dateFormat, BusinessCalendar calendar) {
         LocalDate endDate = LocalDate.now().minusDays(1);
         LocalDate startDate = endDate.minusMonths(month);
-        DateTimeFormatter formatter = DateTimeFormatter.ofPattern(dateFormat);
+        DateTimeFormatter formatter = CACHE.formatter(dateFormat);
 
-        for (LocalDate date = startDate; date.isBefore(endDate); date = date.plusDays(1)) {
-            DayOfWeek dayOfWeek = date.getDayOfWeek();
-            if (dayOfWeek != DayOfWeek.SATURDAY && dayOfWeek != DayOfWeek.SUNDAY) {
-                workdays.add(date.format(formatter));
-            }
-        }
-
-        return workdays;
+        return calendar.businessDays(startDate, endDate).map(formatter::format);
     }
 
     /**
@@ -177,19 +307,38 @@ public final class DateUtils {
      * @date 2025/12/21 03:12
      */
     public static List<String> listLastNYearsMonthEnds(int year, String dateFormat) {
-        List<String> monthEnds = new ArrayList<>();
+        return streamLastNYearsMonthEnds(year, dateFormat).collect(Collectors.toCollection(ArrayList::new));
+    }
+
+    /**
+     * Stream last N years' month ends, each month end is formatted when consumed.
+     *
+     * @param year
+     * @param dateFormat
+     * @return java.util.stream.Stream<java.lang.String>
+     * @throws
+     * @author Jack Lo
+     * @date 2026/10/18 20:52
+     */
+    public static Stream<String> streamLastNYearsMonthEnds(int year, String dateFormat) {
         LocalDate endDate = LocalDate.now();
-        LocalDate startDate = endDate.minusYears(year).withDayOfMonth(1);
-        DateTimeFormatter formatter = DateTimeFormatter.ofPattern(dateFormat);
-
-        LocalDate current = startDate.withDayOfMonth(startDate.lengthOfMonth());
-        while (current.isBefore(endDate)) {
-            monthEnds.add(current.format(formatter));
-            LocalDate next = current.plusMonths(1);
-            current = next.withDayOfMonth(next.lengthOfMonth());
-        }
+        YearMonth startMonth = YearMonth.from(endDate.minusYears(year));
+        DateTimeFormatter formatter = CACHE.formatter(dateFormat);
+
+        return Stream.iterate(startMonth.atEndOfMonth(), monthEnd -> monthEnd.isBefore(endDate), monthEnd -> YearMonth.from(monthEnd).plusMonths(1).atEndOfMonth())
+                .map(formatter::format);
+    }
+
+    private static final class ClockHolder {
+        private static final CoarseClock CLOCK = new CoarseClock(null, Duration.ofMillis(10));
+    }
+
+    private static final class WeekdaysHolder {
+        private static final BusinessCalendar WEEKDAYS = BusinessCalendar.builder().build();
+    }
 
-        return monthEnds;
+    private static ZoneId zoneOf(String timezone) {
+        return StringUtils.isEmpty(timezone) ? ZoneId.systemDefault() : CACHE.zone(timezone);
     }
 
     private static LocalDateTime dateToLocalDateTime(Date date) {
@@ -0,0 +1,188 @@
+package io.github.chikitlo.common.util;
+
+import lombok.extern.slf4j.Slf4j;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Properties;
+import java.util.Set;
+
+/**
+ * Startup resolver of encrypted {@code ENC(...)} configuration values.
+ * <p>
+ * Collects the properties of a service, decrypts the distinct encrypted values in parallel with
+ * {@link JasyptUtils#decryptAll(List, String, String)} and returns the properties with the plaintexts in place. Decrypted
+ * values are memoized per algorithm and password for the life of the process, so resolving the same value again, from
+ * another property source or a refresh, costs a map lookup. The memo is dropped with the encryptor by
+ * {@link JasyptUtils#evictEncryptor(String, String)} when the password is rotated.
+ * </p>
+ * <p>
+ * In a Spring Boot service using jasypt-spring-boot-starter, {@link JasyptPropertyInitializer} collects the encrypted
+ * values of the environment into a resolver before the context refreshes and serves the starter from its memo through
+ * {@link #resolveValue(String)}.
+ * </p>
+ * <p>
+ * The report gives the time spent decrypting so its share of the startup can be tracked. A value that cannot be
+ * decrypted is reported with its property, which is left out of the resolved properties rather than exposed as
+ * ciphertext.
+ * </p>
+ *
+ * @author Jack Lo
+ * @version 1.0
+ * @date 2026/10/18 21:08
+ */
+@Slf4j
+public final class EncryptedPropertyResolver {
+    public static final String DEFAULT_PREFIX = "ENC(";
+    public static final String DEFAULT_SUFFIX = ")";
+
+    private final String algorithm;
+    private final String password;
+    private final Map<String, String> properties = new LinkedHashMap<>();
+    private String prefix = DEFAULT_PREFIX;
+    private String suffix = DEFAULT_SUFFIX;
+
+    EncryptedPropertyResolver(String algorithm, String password) {
+        this.algorithm = algorithm;
+        this.password = password;
+    }
+
+    public EncryptedPropertyResolver prefix(String prefix) {
+        this.prefix = prefix;
+        return this;
+    }
+
+    public EncryptedPropertyResolver suffix(String suffix) {
+        this.suffix = suffix;
+        return this;
+    }
+
+    public EncryptedPropertyResolver properties(Map<String, String> properties) {
+        this.properties.putAll(properties);
+        return this;
+    }
+
+    public EncryptedPropertyResolver properties(Properties properties) {
+        for (String name : properties.stringPropertyNames()) {
+            this.properties.put(name, properties.getProperty(name));
+        }
+        return this;
+    }
+
+    /**
+     * Outcome of a resolution.
+     *
+     * @param properties    every property, encrypted ones replaced by their plaintext, failed ones left out
+     * @param encrypted     number of encrypted properties
+     * @param decrypted     number of distinct values decrypted
+     * @param memoized      number of encrypted properties served from the memo or a duplicate
+     * @param failures      failure of each property that could not be decrypted
+     * @param elapsedMillis wall-clock duration
+     */
+    public record Report(Map<String, String> properties, int encrypted, int decrypted, int memoized, Map<String, Throwable> failures, long elapsedMillis) {
+        public boolean isSuccess() {
+            return failures.isEmpty();
+        }
+    }
+
+    public boolean isEncrypted(String value) {
+        return value != null && value.length() >= prefix.length() + suffix.length() && value.startsWith(prefix) && value.endsWith(suffix);
+    }
+
+    /**
+     * Decrypt every encrypted property.
+     *
+     * @param
+     * @return io.github.chikitlo.common.util.EncryptedPropertyResolver.Report
+     * @throws org.jasypt.exceptions.EncryptionInitializationException if the algorithm is not available
+     * @author Jack Lo
+     * @date 2026/10/18 21:10
+     */
+    public Report resolve() {
+        long startTime = System.currentTimeMillis();
+        Map<String, String> memo = JasyptUtils.decryptedValues(algorithm, password);
+
+        int encrypted = 0;
+        Set<String> pending = new LinkedHashSet<>();
+        for (String value : properties.values()) {
+            if (isEncrypted(value)) {
+                encrypted++;
+                String cipherText = unwrap(value);
+                if (!memo.containsKey(cipherText)) {
+                    pending.add(cipherText);
+                }
+            }
+        }
+
+        Map<String, String> decryptedValues = new HashMap<>();
+        Map<String, Throwable> errors = new LinkedHashMap<>();
+        if (!pending.isEmpty()) {
+            List<String> cipherTexts = new ArrayList<>(pending);
+            for (JasyptUtils.Result result : JasyptUtils.decryptAll(cipherTexts, algorithm, password)) {
+                if (result.isSuccess()) {
+                    decryptedValues.put(cipherTexts.get(result.index()), result.value());
+                } else {
+                    errors.put(cipherTexts.get(result.index()), result.error());
+                }
+            }
+            // Looked up again, the memo taken above may have been evicted while decrypting.
+            JasyptUtils.decryptedValues(algorithm, password).putAll(decryptedValues);
+        }
+
+        Map<String, String> resolved = new LinkedHashMap<>();
+        Map<String, Throwable> failures = new LinkedHashMap<>();
+        properties.forEach((name, value) -> {
+            if (!isEncrypted(value)) {
+                resolved.put(name, value);
+                return;
+            }
+
+            String cipherText = unwrap(value);
+            Throwable error = errors.get(cipherText);
+            if (error != null) {
+                failures.put(name, error);
+                log.error("Failed to decrypt property {}: {}", name, error.toString());
+            } else {
+                resolved.put(name, decryptedValues.getOrDefault(cipherText, memo.get(cipherText)));
+            }
+        });
+
+        int decrypted = pending.size() - errors.size();
+        Report report = new Report(Collections.unmodifiableMap(resolved), encrypted, decrypted, encrypted - pending.size(), Collections.unmodifiableMap(failures), System.currentTimeMillis() - startTime);
+        log.info("Resolved {} encrypted of {} properties in {}ms, decrypted={}, memoized={}, failed={}", encrypted, properties.size(), report.elapsedMillis(), decrypted, report.memoized(), failures.size());
+        return report;
+    }
+
+    /**
+     * Resolve one value: a plaintext as it is, an encrypted value from the memo, decrypted and memoized on a miss.
+     *
+     * @param value
+     * @return java.lang.String
+     * @throws org.jasypt.exceptions.EncryptionOperationNotPossibleException if the value cannot be decrypted
+     * @author Jack Lo
+     * @date 2026/10/18 22:08
+     */
+    public String resolveValue(String value) {
+        if (!isEncrypted(value)) {
+            return value;
+        }
+
+        String cipherText = unwrap(value);
+        Map<String, String> memo = JasyptUtils.decryptedValues(algorithm, password);
+        String plainText = memo.get(cipherText);
+        if (plainText == null) {
+            plainText = JasyptUtils.decrypt(cipherText, algorithm, password);
+            memo.put(cipherText, plainText);
+        }
+        return plainText;
+    }
+
+    private String unwrap(String value) {
+        return value.substring(prefix.length(), value.length() - suffix.length()).strip();
+    }
+}
@@ -0,0 +1,430 @@
+package io.github.chikitlo.common.util;
+
+import io.github.chikitlo.common.constant.DateConstants;
+import lombok.Getter;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.time.ZoneOffset;
+import java.time.format.DateTimeFormatter;
+import java.time.zone.ZoneOffsetTransition;
+import java.time.zone.ZoneRules;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Allocation-free parsing and formatting of the fixed-width {@link DateConstants} patterns.
+ * <p>
+ * Digits are read straight from a {@link CharSequence} or ASCII bytes into epoch millis and written back into a
+ * caller-supplied {@link StringBuilder} or {@code char[]}, without the {@link DateTimeFormatter} machinery and its
+ * {@code LocalDateTime}, {@code ZonedDateTime} and {@code Instant} intermediates. The zone offset comes from a cached
+ * window between two transitions of the zone rules, so only crossing into another window resolves the rules again.
+ * </p>
+ * <p>
+ * Results are identical to the generic path: {@code LocalDateTime.parse(text, formatter).atZone(zone)} for patterns
+ * with a time, {@code LocalDate.parse(text, formatter).atStartOfDay(zone)} for date-only patterns, and
+ * {@code LocalDateTime.ofInstant(instant, zone).format(formatter)} when formatting. Anything the fast path does not
+ * handle itself, such as a malformed value, a day past the end of the month, a local time in a DST gap or overlap, or
+ * a year outside 1 to 9999, is delegated to the generic path with the same formatter, which also produces the same
+ * exceptions.
+ * </p>
+ *
+ * @author Jack Lo
+ * @version 1.0
+ * @date 2026/10/18 20:38
+ */
+public enum FixedDateLayout {
+    YYYY_MM_DD_HH_MM_SS_SSS(DateConstants.YYYY_MM_DD_HH_MM_SS_SSS),
+    YYYY_MM_DD_HH_MM_SS(DateConstants.YYYY_MM_DD_HH_MM_SS),
+    YYYY_MM_DD(DateConstants.YYYY_MM_DD),
+    YYYYMMDDHHMMSSSSS(DateConstants.YYYYMMDDHHMMSSSSS),
+    YYYYMMDDHHMMSS(DateConstants.YYYYMMDDHHMMSS),
+    YYYYMMDD(DateConstants.YYYYMMDD);
+
+    private static final long SECONDS_PER_DAY = 86_400L;
+    private static final Map<String, FixedDateLayout> PATTERN_INDEX;
+    private static final Map<ZoneId, OffsetWindow> OFFSET_WINDOWS = new ConcurrentHashMap<>();
+
+    @Getter
+    private final String pattern;
+    @Getter
+    private final int length;
+    @Getter
+    private final DateTimeFormatter formatter;
+
+    private final char[] template;
+    private final int yearIndex;
+    private final int monthIndex;
+    private final int dayIndex;
+    private final int hourIndex;
+    private final int minuteIndex;
+    private final int secondIndex;
+    private final int millisIndex;
+
+    static {
+        Map<String, FixedDateLayout> map = new HashMap<>();
+        for (FixedDateLayout item : values()) {
+            map.put(item.pattern, item);
+        }
+
+        PATTERN_INDEX = Collections.unmodifiableMap(map);
+    }
+
+    FixedDateLayout(String pattern) {
+        this.pattern = pattern;
+        this.length = pattern.length();
+        this.formatter = DateTimeFormatter.ofPattern(pattern);
+        this.template = pattern.toCharArray();
+        this.yearIndex = pattern.indexOf("yyyy");
+        this.monthIndex = pattern.indexOf("MM");
+        this.dayIndex = pattern.indexOf("dd");
+        this.hourIndex = pattern.indexOf("HH");
+        this.minuteIndex = pattern.indexOf("mm");
+        this.secondIndex = pattern.indexOf("ss");
+        this.millisIndex = pattern.indexOf("SSS");
+    }
+
+    /**
+     * Resolve a layout from its pattern.
+     *
+     * @param pattern
+     * @return io.github.chikitlo.common.util.FixedDateLayout null if the pattern has no fixed layout
+     * @throws
+     * @author Jack Lo
+     * @date 2026/10/18 20:39
+     */
+    public static FixedDateLayout fromPattern(String pattern) {
+        return pattern == null ? null : PATTERN_INDEX.get(pattern);
+    }
+
+    public boolean hasTime() {
+        return hourIndex >= 0;
+    }
+
+    public boolean hasMillis() {
+        return millisIndex >= 0;
+    }
+
+    /**
+     * Parse a value of this layout into epoch millis.
+     *
+     * @param text
+     * @param zone
+     * @return long
+     * @throws java.time.format.DateTimeParseException if the text does not match the layout
+     * @author Jack Lo
+     * @date 2026/10/18 20:40
+     */
+    public long parseEpochMillis(CharSequence text, ZoneId zone) {
+        if (text.length() == length) {
+            int year = digits(text, yearIndex, 4);
+            int month = digits(text, monthIndex, 2);
+            int day = digits(text, dayIndex, 2);
+            int hour = hourIndex < 0 ? 0 : digits(text, hourIndex, 2);
+            int minute = minuteIndex < 0 ? 0 : digits(text, minuteIndex, 2);
+            int second = secondIndex < 0 ? 0 : digits(text, secondIndex, 2);
+            int millis = millisIndex < 0 ? 0 : digits(text, millisIndex, 3);
+            if (separatorsMatch(text)) {
+                long epochMillis = toEpochMillis(year, month, day, hour, minute, second, millis, zone);
+                if (epochMillis != Long.MIN_VALUE) {
+                    return epochMillis;
+                }
+            }
+        }
+
+        return parseGeneric(text.toString(), zone);
+    }
+
+    /**
+     * Parse a value of this layout from ASCII bytes into epoch millis.
+     *
+     * @param text
+     * @param offset index of the first byte, the value spans {@link #getLength()} bytes
+     * @param zone
+     * @return long
+     * @throws java.time.format.DateTimeParseException if the bytes do not match the layout
+     * @author Jack Lo
+     * @date 2026/10/18 20:40
+     */
+    public long parseEpochMillis(byte[] text, int offset, ZoneId zone) {
+        if (offset >= 0 && text.length - offset >= length) {
+            int year = digits(text, offset + yearIndex, 4);
+            int month = digits(text, offset + monthIndex, 2);
+            int day = digits(text, offset + dayIndex, 2);
+            int hour = hourIndex < 0 ? 0 : digits(text, offset + hourIndex, 2);
+            int minute = minuteIndex < 0 ? 0 : digits(text, offset + minuteIndex, 2);
+            int second = secondIndex < 0 ? 0 : digits(text, offset + secondIndex, 2);
+            int millis = millisIndex < 0 ? 0 : digits(text, offset + millisIndex, 3);
+            if (separatorsMatch(text, offset)) {
+                long epochMillis = toEpochMillis(year, month, day, hour, minute, second, millis, zone);
+                if (epochMillis != Long.MIN_VALUE) {
+                    return epochMillis;
+                }
+            }
+        }
+
+        int available = Math.max(0, Math.min(length, text.length - Math.max(offset, 0)));
+        return parseGeneric(new String(text, Math.max(offset, 0), available, StandardCharsets.US_ASCII), zone);
+    }
+
+    /**
+     * Format epoch millis in this layout into a char array.
+     *
+     * @param epochMillis
+     * @param zone
+     * @param out
+     * @param offset
+     * @return int the index after the last char written
+     * @throws java.lang.IndexOutOfBoundsException if fewer than {@link #getLength()} chars are left in the array
+     * @author Jack Lo
+     * @date 2026/10/18 20:41
+     */
+    public int format(long epochMillis, ZoneId zone, char[] out, int offset) {
+        long epochSecond = Math.floorDiv(epochMillis, 1000L);
+        int offsetSeconds = offsetAtInstant(zone, epochSecond);
+        long localSecond = epochSecond + offsetSeconds;
+        long epochDay = Math.floorDiv(localSecond, SECONDS_PER_DAY);
+        long yearMonthDay = civilFromDays(epochDay);
+        int year = (int) (yearMonthDay >> 9);
+        if (year < 1 || year > 9999) {
+            String text = formatGeneric(epochMillis, zone);
+            text.getChars(0, text.length(), out, offset);
+            return offset + text.length();
+        }
+
+        System.arraycopy(template, 0, out, offset, length);
+        int secondOfDay = (int) Math.floorMod(localSecond, SECONDS_PER_DAY);
+        put(out, offset + yearIndex, year, 4);
+        put(out, offset + monthIndex, (int) (yearMonthDay >> 5) & 0x0F, 2);
+        put(out, offset + dayIndex, (int) yearMonthDay & 0x1F, 2);
+        if (hourIndex >= 0) {
+            put(out, offset + hourIndex, secondOfDay / 3600, 2);
+            put(out, offset + minuteIndex, secondOfDay / 60 % 60, 2);
+            put(out, offset + secondIndex, secondOfDay % 60, 2);
+        }
+        if (millisIndex >= 0) {
+            put(out, offset + millisIndex, (int) Math.floorMod(epochMillis, 1000L), 3);
+        }
+
+        return offset + length;
+    }
+
+    /**
+     * Append epoch millis formatted in this layout to a builder.
+     *
+     * @param epochMillis
+     * @param zone
+     * @param out
+     * @return java.lang.StringBuilder the builder
+     * @throws
+     * @author Jack Lo
+     * @date 2026/10/18 20:41
+     */
+    public StringBuilder format(long epochMillis, ZoneId zone, StringBuilder out) {
+        long epochSecond = Math.floorDiv(epochMillis, 1000L);
+        int offsetSeconds = offsetAtInstant(zone, epochSecond);
+        long localSecond = epochSecond + offsetSeconds;
+        long epochDay = Math.floorDiv(localSecond, SECONDS_PER_DAY);
+        long yearMonthDay = civilFromDays(epochDay);
+        int year = (int) (yearMonthDay >> 9);
+        if (year < 1 || year > 9999) {
+            return out.append(formatGeneric(epochMillis, zone));
+        }
+
+        int start = out.length();
+        out.append(template);
+        int secondOfDay = (int) Math.floorMod(localSecond, SECONDS_PER_DAY);
+        put(out, start + yearIndex, year, 4);
+        put(out, start + monthIndex, (int) (yearMonthDay >> 5) & 0x0F, 2);
+        put(out, start + dayIndex, (int) yearMonthDay & 0x1F, 2);
+        if (hourIndex >= 0) {
+            put(out, start + hourIndex, secondOfDay / 3600, 2);
+            put(out, start + minuteIndex, secondOfDay / 60 % 60, 2);
+            put(out, start + secondIndex, secondOfDay % 60, 2);
+        }
+        if (millisIndex >= 0) {
+            put(out, start + millisIndex, (int) Math.floorMod(epochMillis, 1000L), 3);
+        }
+
+        return out;
+    }
+
+    /**
+     * Format epoch millis in this layout.
+     *
+     * @param epochMillis
+     * @param zone
+     * @return java.lang.String
+     * @throws
+     * @author Jack Lo
+     * @date 2026/10/18 20:41
+     */
+    public String format(long epochMillis, ZoneId zone) {
+        return format(epochMillis, zone, new StringBuilder(length)).toString();
+    }
+
+    private long parseGeneric(String text, ZoneId zone) {
+        if (hasTime()) {
+            return LocalDateTime.parse(text, formatter).atZone(zone).toInstant().toEpochMilli();
+        }
+        return LocalDate.parse(text, formatter).atStartOfDay(zone).toInstant().toEpochMilli();
+    }
+
+    private String formatGeneric(long epochMillis, ZoneId zone) {
+        return LocalDateTime.ofInstant(Instant.ofEpochMilli(epochMillis), zone).format(formatter);
+    }
+
+    /**
+     * Epoch millis of valid local fields, or {@code Long.MIN_VALUE} when the generic path must decide.
+     */
+    private static long toEpochMillis(int year, int month, int day, int hour, int minute, int second, int millis, ZoneId zone) {
+        if (year < 1 || month < 1 || month > 12 || day < 1 || day > lengthOfMonth(year, month)
+                || hour < 0 || hour > 23 || minute < 0 || minute > 59 || second < 0 || second > 59 || millis < 0) {
+            return Long.MIN_VALUE;
+        }
+
+        long localSecond = daysFromCivil(year, month, day) * SECONDS_PER_DAY + hour * 3600L + minute * 60L + second;
+        OffsetWindow window = OFFSET_WINDOWS.get(zone);
+        if (window == null || localSecond < window.localFrom || localSecond >= window.localTo) {
+            window = refreshWindow(zone, LocalDateTime.ofEpochSecond(localSecond, 0, ZoneOffset.UTC).atZone(zone).toEpochSecond());
+            if (localSecond < window.localFrom || localSecond >= window.localTo) {
+                // In a gap or an overlap.
+                return Long.MIN_VALUE;
+            }
+        }
+
+        return (localSecond - window.offsetSeconds) * 1000L + millis;
+    }
+
+    private static int offsetAtInstant(ZoneId zone, long epochSecond) {
+        OffsetWindow window = OFFSET_WINDOWS.get(zone);
+        if (window == null || epochSecond < window.utcFrom || epochSecond >= window.utcTo) {
+            window = refreshWindow(zone, epochSecond);
+        }
+        return window.offsetSeconds;
+    }
+
+    /**
+     * Cache the window of the zone rules around an instant: the instants sharing its offset, and the local times that
+     * map to exactly one of them.
+     */
+    private static OffsetWindow refreshWindow(ZoneId zone, long epochSecond) {
+        ZoneRules rules = zone.getRules();
+        Instant instant = Instant.ofEpochSecond(epochSecond);
+        int offsetSeconds = rules.getOffset(instant).getTotalSeconds();
+        ZoneOffsetTransition previous = rules.previousTransition(instant.plusSeconds(1));
+        ZoneOffsetTransition next = rules.nextTransition(instant);
+
+        long utcFrom = previous == null ? Long.MIN_VALUE : previous.toEpochSecond();
+        long utcTo = next == null ? Long.MAX_VALUE : next.toEpochSecond();
+        long localFrom = previous == null ? Long.MIN_VALUE : utcFrom + Math.max(previous.getOffsetBefore().getTotalSeconds(), offsetSeconds);
+        long localTo = next == null ? Long.MAX_VALUE : utcTo + Math.min(offsetSeconds, next.getOffsetAfter().getTotalSeconds());
+
+        OffsetWindow window = new OffsetWindow(utcFrom, utcTo, localFrom, localTo, offsetSeconds);
+        OFFSET_WINDOWS.put(zone, window);
+        return window;
+    }
+
+    private boolean separatorsMatch(CharSequence text) {
+        for (int i = 0; i < length; i++) {
+            if (!Character.isLetter(template[i]) && text.charAt(i) != template[i]) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private boolean separatorsMatch(byte[] text, int offset) {
+        for (int i = 0; i < length; i++) {
+            if (!Character.isLetter(template[i]) && text[offset + i] != template[i]) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Value of ASCII digits, negative if any char is not a digit.
+     */
+    private static int digits(CharSequence text, int index, int count) {
+        int value = 0;
+        for (int i = index; i < index + count; i++) {
+            int digit = text.charAt(i) - '0';
+            if (digit < 0 || digit > 9) {
+                return Integer.MIN_VALUE;
+            }
+            value = value * 10 + digit;
+        }
+        return value;
+    }
+
+    private static int digits(byte[] text, int index, int count) {
+        int value = 0;
+        for (int i = index; i < index + count; i++) {
+            int digit = text[i] - '0';
+            if (digit < 0 || digit > 9) {
+                return Integer.MIN_VALUE;
+            }
+            value = value * 10 + digit;
+        }
+        return value;
+    }
+
+    private static void put(char[] out, int index, int value, int count) {
+        for (int i = index + count - 1; i >= index; i--) {
+            out[i] = (char) ('0' + value % 10);
+            value /= 10;
+        }
+    }
+
+    private static void put(StringBuilder out, int index, int value, int count) {
+        for (int i = index + count - 1; i >= index; i--) {
+            out.setCharAt(i, (char) ('0' + value % 10));
+            value /= 10;
+        }
+    }
+
+    private static int lengthOfMonth(int year, int month) {
+        return switch (month) {
+            case 2 -> (year & 3) == 0 && (year % 100 != 0 || year % 400 == 0) ? 29 : 28;
+            case 4, 6, 9, 11 -> 30;
+            default -> 31;
+        };
+    }
+
+    /**
+     * Days since 1970-01-01 of a proleptic Gregorian date (H. Hinnant's days_from_civil).
+     */
+    private static long daysFromCivil(int year, int month, int day) {
+        long y = month <= 2 ? year - 1 : year;
+        long era = Math.floorDiv(y, 400);
+        long yearOfEra = y - era * 400;
+        long dayOfYear = (153L * (month + (month > 2 ? -3 : 9)) + 2) / 5 + day - 1;
+        long dayOfEra = yearOfEra * 365 + yearOfEra / 4 - yearOfEra / 100 + dayOfYear;
+        return era * 146_097 + dayOfEra - 719_468;
+    }
+
+    /**
+     * Date of days since 1970-01-01 packed as {@code year << 9 | month << 5 | day} (H. Hinnant's civil_from_days).
+     */
+    private static long civilFromDays(long epochDay) {
+        long z = epochDay + 719_468;
+        long era = Math.floorDiv(z, 146_097);
+        long dayOfEra = z - era * 146_097;
+        long yearOfEra = (dayOfEra - dayOfEra / 1460 + dayOfEra / 36_524 - dayOfEra / 146_096) / 365;
+        long dayOfYear = dayOfEra - (365 * yearOfEra + yearOfEra / 4 - yearOfEra / 100);
+        long monthIndex = (5 * dayOfYear + 2) / 153;
+        long day = dayOfYear - (153 * monthIndex + 2) / 5 + 1;
+        long month = monthIndex < 10 ? monthIndex + 3 : monthIndex - 9;
+        long year = yearOfEra + era * 400 + (month <= 2 ? 1 : 0);
+        return year << 9 | month << 5 | day;
+    }
+
+    private record OffsetWindow(long utcFrom, long utcTo, long localFrom, long localTo, int offsetSeconds) {
+    }
+}
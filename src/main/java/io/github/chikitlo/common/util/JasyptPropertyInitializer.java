@@ -0,0 +1,105 @@
+package io.github.chikitlo.common.util;
+
+import com.ulisesbocchio.jasyptspringboot.EncryptablePropertyResolver;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.ApplicationContextInitializer;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.core.env.ConfigurableEnvironment;
+import org.springframework.core.env.EnumerablePropertySource;
+import org.springframework.core.env.PropertySource;
+
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Serves the {@code ENC(...)} properties of jasypt-spring-boot-starter from values decrypted in parallel.
+ * <p>
+ * The starter decrypts every encrypted property on its first access, one after the other, each paying a key
+ * derivation. Before the context refreshes, this initializer collects the encrypted values of every enumerable property
+ * source, decrypts them in parallel through {@link EncryptedPropertyResolver#resolve()}, and registers the resolver as
+ * the starter's {@code encryptablePropertyResolver} bean, which then answers from the memo. A value missed by the
+ * collection, e.g. from a property source added later, is decrypted on access and memoized.
+ * </p>
+ * <p>
+ * Registered in {@code META-INF/spring.factories}. The starter is left as it is when no password is configured, when the
+ * application provides its own resolver bean, or when the encryptor is configured in a way {@link JasyptUtils} does not
+ * reproduce: a custom encryptor bean, a provider, asymmetric or GCM keys, or non-default iterations, salt or IV
+ * generators or output type.
+ * </p>
+ *
+ * @author Jack Lo
+ * @version 1.0
+ * @date 2026/10/18 22:10
+ */
+@Slf4j
+public final class JasyptPropertyInitializer implements ApplicationContextInitializer<ConfigurableApplicationContext> {
+    static final String RESOLVER_BEAN_NAME = "encryptablePropertyResolver";
+
+    private static final String PROPERTY_PREFIX = "jasypt.encryptor.";
+    private static final String STARTER_DEFAULT_ALGORITHM = "PBEWITHHMACSHA512ANDAES_256";
+    /**
+     * Starter settings JasyptUtils also uses, with their starter defaults.
+     */
+    private static final Map<String, String> SUPPORTED_SETTINGS = Map.of(
+            "key-obtention-iterations", "1000",
+            "salt-generator-classname", "org.jasypt.salt.RandomSaltGenerator",
+            "iv-generator-classname", "org.jasypt.iv.RandomIvGenerator",
+            "string-output-type", "base64");
+    /**
+     * Starter settings JasyptUtils cannot follow.
+     */
+    private static final List<String> UNSUPPORTED_SETTINGS = List.of("bean", "provider-name", "provider-class-name",
+            "private-key-string", "private-key-location", "gcm-secret-key-string", "gcm-secret-key-location",
+            "gcm-secret-key-password", "property.resolver-bean");
+
+    @Override
+    public void initialize(ConfigurableApplicationContext context) {
+        ConfigurableEnvironment environment = context.getEnvironment();
+        String password = environment.getProperty(PROPERTY_PREFIX + "password");
+        if (password == null || context.getBeanFactory().containsBean(RESOLVER_BEAN_NAME) || !isSupported(environment)) {
+            log.debug("Leaving the decryption of encrypted properties to the jasypt starter");
+            return;
+        }
+
+        EncryptedPropertyResolver resolver = JasyptUtils.propertyResolver(environment.getProperty(PROPERTY_PREFIX + "algorithm", STARTER_DEFAULT_ALGORITHM), password)
+                .prefix(environment.getProperty(PROPERTY_PREFIX + "property.prefix", EncryptedPropertyResolver.DEFAULT_PREFIX))
+                .suffix(environment.getProperty(PROPERTY_PREFIX + "property.suffix", EncryptedPropertyResolver.DEFAULT_SUFFIX));
+
+        // Keyed by source too, an overridden value is still read by whoever asks its source.
+        Map<String, String> encrypted = new LinkedHashMap<>();
+        for (PropertySource<?> source : environment.getPropertySources()) {
+            if (source instanceof EnumerablePropertySource<?> enumerable) {
+                for (String name : enumerable.getPropertyNames()) {
+                    if (enumerable.getProperty(name) instanceof String value && resolver.isEncrypted(value.strip())) {
+                        encrypted.put(source.getName() + ':' + name, value.strip());
+                    }
+                }
+            }
+        }
+        resolver.properties(encrypted).resolve();
+
+        // Like the starter, an encrypted value may be surrounded by whitespace.
+        EncryptablePropertyResolver starterResolver = value -> {
+            String stripped = value == null ? null : value.strip();
+            return resolver.isEncrypted(stripped) ? resolver.resolveValue(stripped) : value;
+        };
+        context.getBeanFactory().registerSingleton(RESOLVER_BEAN_NAME, starterResolver);
+    }
+
+    private static boolean isSupported(ConfigurableEnvironment environment) {
+        for (String setting : UNSUPPORTED_SETTINGS) {
+            if (environment.containsProperty(PROPERTY_PREFIX + setting)) {
+                return false;
+            }
+        }
+
+        for (Map.Entry<String, String> setting : SUPPORTED_SETTINGS.entrySet()) {
+            String value = environment.getProperty(PROPERTY_PREFIX + setting.getKey());
+            if (value != null && !setting.getValue().equalsIgnoreCase(value.strip())) {
+                return false;
+            }
+        }
+        return true;
+    }
+}
@@ -1,25 +1,55 @@
 package io.github.chikitlo.common.util;
 
+import lombok.extern.slf4j.Slf4j;
+import org.jasypt.encryption.pbe.PooledPBEStringEncryptor;
 import org.jasypt.encryption.pbe.StandardPBEStringEncryptor;
+import org.jasypt.encryption.pbe.config.SimpleStringPBEConfig;
 import org.jasypt.iv.RandomIvGenerator;
 
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HexFormat;
+import java.util.List;
+import java.util.Map;
+import java.util.RandomAccess;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.BiFunction;
+import java.util.stream.IntStream;
+import java.util.stream.Stream;
+
 /**
  * Java Simplified Encryption Encryptor Utils
  * <p>
  * Utility class for performing PBE(password-based) encryption/decryption using Jasypt.
  * Provides factory-style static methods and common algorithm constants.
  * </p>
+ * <p>
+ * Initialized encryptors are cached by algorithm and password fingerprint, each a pool of one encryptor per core so
+ * concurrent calls do not wait on each other's cipher. Bulk calls use their own cached encryptor per worker instead, so
+ * a worker takes no lock but its own cipher's. The password itself is not used as a cache key. Every message still
+ * derives its key from its own random salt, as the ciphertext format requires.
+ * </p>
  *
  * @author Jack Lo
  * @version 1.0
  * @date 2025/12/13 17:30
  */
+@Slf4j
 public final class JasyptUtils {
     public static final String PBE_ALGORITHMS_MD5_DES = "PBEWithMD5AndDES";
     public static final String PBE_ALGORITHMS_HMAC_AES_128 = "PBEWithHmacSHA512AndAES_128";
     public static final String PBE_ALGORITHMS_HMAC_AES_256 = "PBEWithHmacSHA512AndAES_256";
     public static final String DEFAULT_ALGORITHM = PBE_ALGORITHMS_HMAC_AES_256;
 
+    private static final Map<String, PooledPBEStringEncryptor> ENCRYPTORS = new ConcurrentHashMap<>();
+    private static final Map<String, List<StandardPBEStringEncryptor>> WORKER_ENCRYPTORS = new ConcurrentHashMap<>();
+    private static final Map<String, Map<String, String>> DECRYPTED_VALUES = new ConcurrentHashMap<>();
+    private static final int BULK_BATCH_SIZE = 16;
+
     private JasyptUtils() {
     }
 
@@ -35,8 +65,7 @@ public final class JasyptUtils {
      * @date 2025/12/13 17:53
      */
     public static String encrypt(String plainText, String algorithm, String password) {
-        StandardPBEStringEncryptor encryptor = createEncryptor(algorithm, password);
-        return encryptor.encrypt(plainText);
+        return getEncryptor(algorithm, password).encrypt(plainText);
     }
 
     /**
@@ -51,8 +80,7 @@ public final class JasyptUtils {
      * @date 2025/12/13 17:54
      */
     public static String decrypt(String cipherText, String algorithm, String password) {
-        StandardPBEStringEncryptor encryptor = createEncryptor(algorithm, password);
-        return encryptor.decrypt(cipherText);
+        return getEncryptor(algorithm, password).decrypt(cipherText);
     }
 
     /**
@@ -84,20 +112,278 @@ public final class JasyptUtils {
     }
 
     /**
-     * Create and configure a new Jasypt encryptor instance.
+     * Per-item outcome of a bulk operation, in the same position as its item.
+     *
+     * @param index
+     * @param value
+     * @param error null on success
+     */
+    public record Result(int index, String value, Throwable error) {
+        public boolean isSuccess() {
+            return error == null;
+        }
+    }
+
+    /**
+     * Encrypt plaintexts in parallel across cores. A failed item is reported in its result without failing the others.
      *
+     * @param plainTexts
      * @param algorithm
      * @param password
-     * @return org.jasypt.encryption.pbe.StandardPBEStringEncryptor
+     * @return java.util.List<io.github.chikitlo.common.util.JasyptUtils.Result>
+     * @throws org.jasypt.exceptions.EncryptionInitializationException if the algorithm is not available
+     * @author Jack Lo
+     * @date 2026/10/18 21:05
+     */
+    public static List<Result> encryptAll(List<String> plainTexts, String algorithm, String password) {
+        return bulk(plainTexts, algorithm, password, StandardPBEStringEncryptor::encrypt);
+    }
+
+    /**
+     * Decrypt ciphertexts in parallel across cores. A failed item is reported in its result without failing the others.
+     *
+     * @param cipherTexts
+     * @param algorithm
+     * @param password
+     * @return java.util.List<io.github.chikitlo.common.util.JasyptUtils.Result>
+     * @throws org.jasypt.exceptions.EncryptionInitializationException if the algorithm is not available
+     * @author Jack Lo
+     * @date 2026/10/18 21:05
+     */
+    public static List<Result> decryptAll(List<String> cipherTexts, String algorithm, String password) {
+        return bulk(cipherTexts, algorithm, password, StandardPBEStringEncryptor::decrypt);
+    }
+
+    public static List<Result> encryptAll(List<String> plainTexts, String password) {
+        return encryptAll(plainTexts, DEFAULT_ALGORITHM, password);
+    }
+
+    public static List<Result> decryptAll(List<String> cipherTexts, String password) {
+        return decryptAll(cipherTexts, DEFAULT_ALGORITHM, password);
+    }
+
+    public static List<Result> encryptAll(Stream<String> plainTexts, String algorithm, String password) {
+        return encryptAll(plainTexts.toList(), algorithm, password);
+    }
+
+    public static List<Result> decryptAll(Stream<String> cipherTexts, String algorithm, String password) {
+        return decryptAll(cipherTexts.toList(), algorithm, password);
+    }
+
+    public static List<Result> encryptAll(Stream<String> plainTexts, String password) {
+        return encryptAll(plainTexts, DEFAULT_ALGORITHM, password);
+    }
+
+    public static List<Result> decryptAll(Stream<String> cipherTexts, String password) {
+        return decryptAll(cipherTexts, DEFAULT_ALGORITHM, password);
+    }
+
+    /**
+     * Drop the cached encryptor of an algorithm and password, with the values memoized by the property resolver, e.g.
+     * after the password is rotated.
+     *
+     * @param algorithm
+     * @param password
+     * @return boolean whether an encryptor was cached
+     * @throws
+     * @author Jack Lo
+     * @date 2026/10/18 21:04
+     */
+    public static boolean evictEncryptor(String algorithm, String password) {
+        String key = cacheKey(algorithm, password);
+        DECRYPTED_VALUES.remove(key);
+        return ENCRYPTORS.remove(key) != null | WORKER_ENCRYPTORS.remove(key) != null;
+    }
+
+    /**
+     * Drop all cached encryptors and memoized values.
+     *
+     * @param
+     * @return
+     * @throws
+     * @author Jack Lo
+     * @date 2026/10/18 21:04
+     */
+    public static void evictEncryptors() {
+        ENCRYPTORS.clear();
+        WORKER_ENCRYPTORS.clear();
+        DECRYPTED_VALUES.clear();
+    }
+
+    public static int getCachedEncryptorCount() {
+        return ENCRYPTORS.size();
+    }
+
+    /**
+     * Get the cached encryptor of an algorithm and password, creating and initializing it on a miss.
+     *
+     * @param algorithm
+     * @param password
+     * @return org.jasypt.encryption.pbe.PooledPBEStringEncryptor
+     * @throws org.jasypt.exceptions.EncryptionInitializationException if the algorithm is not available
+     * @author Jack Lo
+     * @date 2026/10/18 21:03
+     */
+    private static PooledPBEStringEncryptor getEncryptor(String algorithm, String password) {
+        return ENCRYPTORS.computeIfAbsent(cacheKey(algorithm, password), key -> createEncryptor(algorithm, password));
+    }
+
+    /**
+     * Get the cached bulk encryptors of an algorithm and password, one per core, creating and initializing them on a miss.
+     *
+     * @param algorithm
+     * @param password
+     * @return java.util.List<org.jasypt.encryption.pbe.StandardPBEStringEncryptor>
+     * @throws org.jasypt.exceptions.EncryptionInitializationException if the algorithm is not available
+     * @author Jack Lo
+     * @date 2026/10/18 22:15
+     */
+    private static List<StandardPBEStringEncryptor> getWorkerEncryptors(String algorithm, String password) {
+        return WORKER_ENCRYPTORS.computeIfAbsent(cacheKey(algorithm, password), key -> IntStream.range(0, Runtime.getRuntime().availableProcessors())
+                .mapToObj(worker -> createWorkerEncryptor(algorithm, password))
+                .toList());
+    }
+
+    /**
+     * Create a resolver of {@code ENC(...)} property values.
+     *
+     * @param algorithm
+     * @param password
+     * @return io.github.chikitlo.common.util.EncryptedPropertyResolver
+     * @throws
+     * @author Jack Lo
+     * @date 2026/10/18 21:11
+     */
+    public static EncryptedPropertyResolver propertyResolver(String algorithm, String password) {
+        return new EncryptedPropertyResolver(algorithm, password);
+    }
+
+    public static EncryptedPropertyResolver propertyResolver(String password) {
+        return propertyResolver(DEFAULT_ALGORITHM, password);
+    }
+
+    /**
+     * Create a cipher encrypting streams and files in authenticated chunks, with a key derived once per stream.
+     *
+     * @param algorithm {@link #PBE_ALGORITHMS_HMAC_AES_128} or {@link #PBE_ALGORITHMS_HMAC_AES_256}, which set the key size
+     * @param password
+     * @return io.github.chikitlo.common.util.ChunkedStreamCipher
+     * @throws java.lang.IllegalArgumentException if the algorithm is not an AES one
+     * @author Jack Lo
+     * @date 2026/10/18 21:18
+     */
+    public static ChunkedStreamCipher streamCipher(String algorithm, String password) {
+        return new ChunkedStreamCipher(algorithm, password);
+    }
+
+    public static ChunkedStreamCipher streamCipher(String password) {
+        return streamCipher(DEFAULT_ALGORITHM, password);
+    }
+
+    /**
+     * Plaintexts by ciphertext memoized for an algorithm and password, kept until the encryptor is evicted.
+     */
+    static Map<String, String> decryptedValues(String algorithm, String password) {
+        return DECRYPTED_VALUES.computeIfAbsent(cacheKey(algorithm, password), key -> new ConcurrentHashMap<>());
+    }
+
+    /**
+     * Run an operation over every item. Workers, at most one per core, each use their own cached encryptor and claim
+     * batches of items from a shared cursor, so workers stay busy until the end whatever the cost of each item.
+     *
+     * @param items
+     * @param algorithm
+     * @param password
+     * @param operation
+     * @return java.util.List<io.github.chikitlo.common.util.JasyptUtils.Result>
+     * @throws org.jasypt.exceptions.EncryptionInitializationException if the algorithm is not available
+     * @author Jack Lo
+     * @date 2026/10/18 21:06
+     */
+    private static List<Result> bulk(List<String> items, String algorithm, String password, BiFunction<StandardPBEStringEncryptor, String, String> operation) {
+        List<String> values = items instanceof RandomAccess ? items : new ArrayList<>(items);
+        int size = values.size();
+        Result[] results = new Result[size];
+        AtomicInteger cursor = new AtomicInteger();
+        int workers = Math.max(1, Math.min(Runtime.getRuntime().availableProcessors(), size / BULK_BATCH_SIZE));
+        long startTime = System.currentTimeMillis();
+
+        // Fails the whole call on a bad configuration before any worker starts.
+        List<StandardPBEStringEncryptor> encryptors = getWorkerEncryptors(algorithm, password);
+        IntStream.range(0, workers).parallel().forEach(worker -> {
+            StandardPBEStringEncryptor encryptor = encryptors.get(worker);
+            for (int from = cursor.getAndAdd(BULK_BATCH_SIZE); from < size; from = cursor.getAndAdd(BULK_BATCH_SIZE)) {
+                for (int i = from, to = Math.min(size, from + BULK_BATCH_SIZE); i < to; i++) {
+                    try {
+                        results[i] = new Result(i, operation.apply(encryptor, values.get(i)), null);
+                    } catch (RuntimeException e) {
+                        results[i] = new Result(i, null, e);
+                    }
+                }
+            }
+        });
+
+        List<Result> ordered = Arrays.asList(results);
+        log.info("Bulk {} of {} items with {} workers finished in {}ms, failed={}", algorithm, size, workers, System.currentTimeMillis() - startTime, ordered.stream().filter(result -> !result.isSuccess()).count());
+        return ordered;
+    }
+
+    /**
+     * Create and configure a new Jasypt encryptor pool, one encryptor per core.
+     *
+     * @param algorithm
+     * @param password
+     * @return org.jasypt.encryption.pbe.PooledPBEStringEncryptor
      * @throws
      * @author Jack Lo
      * @date 2025/12/20 14:24
      */
-    private static StandardPBEStringEncryptor createEncryptor(String algorithm, String password) {
+    private static PooledPBEStringEncryptor createEncryptor(String algorithm, String password) {
+        PooledPBEStringEncryptor encryptor = new PooledPBEStringEncryptor();
+        encryptor.setConfig(encryptorConfig(algorithm, password));
+        encryptor.setPoolSize(Runtime.getRuntime().availableProcessors());
+        // Fail here rather than on first use, so a broken configuration is never cached.
+        encryptor.initialize();
+        log.debug("Created {} encryptor pool of {}", algorithm, Runtime.getRuntime().availableProcessors());
+        return encryptor;
+    }
+
+    /**
+     * Create and configure a new Jasypt encryptor for one bulk worker.
+     *
+     * @param algorithm
+     * @param password
+     * @return org.jasypt.encryption.pbe.StandardPBEStringEncryptor
+     * @throws
+     * @author Jack Lo
+     * @date 2026/10/18 22:17
+     */
+    private static StandardPBEStringEncryptor createWorkerEncryptor(String algorithm, String password) {
         StandardPBEStringEncryptor encryptor = new StandardPBEStringEncryptor();
-        encryptor.setPassword(password);
-        encryptor.setAlgorithm(algorithm);
-        encryptor.setIvGenerator(new RandomIvGenerator());
+        encryptor.setConfig(encryptorConfig(algorithm, password));
+        encryptor.initialize();
         return encryptor;
     }
-}
\ No newline at end of file
+
+    /**
+     * Encryptor configuration shared by the pooled and bulk encryptors, so both produce the same ciphertext format.
+     */
+    private static SimpleStringPBEConfig encryptorConfig(String algorithm, String password) {
+        SimpleStringPBEConfig config = new SimpleStringPBEConfig();
+        config.setPassword(password);
+        config.setAlgorithm(algorithm);
+        config.setIvGenerator(new RandomIvGenerator());
+        return config;
+    }
+
+    private static String cacheKey(String algorithm, String password) {
+        try {
+            MessageDigest digest = MessageDigest.getInstance("SHA-256");
+            digest.update(algorithm.getBytes(StandardCharsets.UTF_8));
+            digest.update((byte) 0);
+            return algorithm + ':' + HexFormat.of().formatHex(digest.digest(password.getBytes(StandardCharsets.UTF_8)));
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 is not available", e);
+        }
+    }
+}
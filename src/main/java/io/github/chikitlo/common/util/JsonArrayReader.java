@@ -0,0 +1,366 @@
+package io.github.chikitlo.common.util;
+
+import lombok.extern.slf4j.Slf4j;
+import tools.jackson.core.JsonParser;
+import tools.jackson.core.JsonPointer;
+import tools.jackson.core.JsonToken;
+import tools.jackson.core.exc.StreamReadException;
+import tools.jackson.databind.DeserializationFeature;
+import tools.jackson.databind.ObjectReader;
+
+import java.io.Closeable;
+import java.io.InputStream;
+import java.io.Reader;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+import java.util.NoSuchElementException;
+import java.util.Spliterator;
+import java.util.Spliterators;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.Consumer;
+import java.util.function.Function;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
+
+/**
+ * Incremental reader of a large JSON array.
+ * <p>
+ * The parser is positioned on the array, at the root or at a {@link JsonPointer} such as {@code /data/items}, then
+ * each element is bound on its own with the pre-resolved element reader, so memory stays proportional to one element
+ * instead of the whole document. Siblings of the path are skipped at token level without being bound.
+ * </p>
+ * <p>
+ * The parallel mode keeps parsing on the calling thread, which is inherently sequential, and hands the elements to an
+ * executor in batches with a bounded number of batches in flight.
+ * </p>
+ *
+ * @author Jack Lo
+ * @version 1.0
+ * @date 2026/10/18 19:20
+ */
+@Slf4j
+public final class JsonArrayReader<T> {
+    private final ObjectReader elementReader;
+    private JsonPointer pointer = JsonPointer.empty();
+    private int batchSize = 1000;
+    private int maxInFlightBatches = Runtime.getRuntime().availableProcessors() * 2;
+    private Executor executor = ForkJoinPool.commonPool();
+
+    JsonArrayReader(ObjectReader elementReader) {
+        // Elements are bound mid-stream, the rest of the array is not a trailing token.
+        this.elementReader = elementReader.without(DeserializationFeature.FAIL_ON_TRAILING_TOKENS);
+    }
+
+    /**
+     * Locate the array with a JSON Pointer, e.g. {@code /data/items}. The root value is used by default.
+     */
+    public JsonArrayReader<T> at(String pointer) {
+        this.pointer = JsonPointer.compile(pointer);
+        return this;
+    }
+
+    public JsonArrayReader<T> batchSize(int batchSize) {
+        if (batchSize < 1) {
+            throw new IllegalArgumentException("Batch size must be positive");
+        }
+        this.batchSize = batchSize;
+        return this;
+    }
+
+    public JsonArrayReader<T> maxInFlightBatches(int maxInFlightBatches) {
+        if (maxInFlightBatches < 1) {
+            throw new IllegalArgumentException("Max in-flight batches must be positive");
+        }
+        this.maxInFlightBatches = maxInFlightBatches;
+        return this;
+    }
+
+    public JsonArrayReader<T> executor(Executor executor) {
+        this.executor = executor;
+        return this;
+    }
+
+    /**
+     * Iterate the elements of the array in an input stream. Closing the iterator closes the stream, which also
+     * happens once the end of the array is reached.
+     *
+     * @param source
+     * @return io.github.chikitlo.common.util.JsonArrayReader.ElementIterator<T>
+     * @throws tools.jackson.core.exc.StreamReadException if there is no array at the pointer
+     * @author Jack Lo
+     * @date 2026/10/18 19:21
+     */
+    public ElementIterator<T> iterator(InputStream source) {
+        return open(elementReader.createParser(source));
+    }
+
+    /**
+     * Iterate the elements of the array in a file.
+     *
+     * @param source
+     * @return io.github.chikitlo.common.util.JsonArrayReader.ElementIterator<T>
+     * @throws tools.jackson.core.exc.StreamReadException if there is no array at the pointer
+     * @author Jack Lo
+     * @date 2026/10/18 19:21
+     */
+    public ElementIterator<T> iterator(Path source) {
+        return open(elementReader.createParser(source));
+    }
+
+    /**
+     * Iterate the elements of the array in a reader. Closing the iterator closes the reader.
+     *
+     * @param source
+     * @return io.github.chikitlo.common.util.JsonArrayReader.ElementIterator<T>
+     * @throws tools.jackson.core.exc.StreamReadException if there is no array at the pointer
+     * @author Jack Lo
+     * @date 2026/10/18 19:22
+     */
+    public ElementIterator<T> iterator(Reader source) {
+        return open(elementReader.createParser(source));
+    }
+
+    /**
+     * Stream the elements of the array in an input stream, to be used in a try-with-resources block.
+     *
+     * @param source
+     * @return java.util.stream.Stream<T>
+     * @throws tools.jackson.core.exc.StreamReadException if there is no array at the pointer
+     * @author Jack Lo
+     * @date 2026/10/18 19:22
+     */
+    public Stream<T> stream(InputStream source) {
+        return toStream(iterator(source));
+    }
+
+    /**
+     * Stream the elements of the array in a file, to be used in a try-with-resources block.
+     *
+     * @param source
+     * @return java.util.stream.Stream<T>
+     * @throws tools.jackson.core.exc.StreamReadException if there is no array at the pointer
+     * @author Jack Lo
+     * @date 2026/10/18 19:22
+     */
+    public Stream<T> stream(Path source) {
+        return toStream(iterator(source));
+    }
+
+    /**
+     * Stream the elements of the array in a reader, to be used in a try-with-resources block.
+     *
+     * @param source
+     * @return java.util.stream.Stream<T>
+     * @throws tools.jackson.core.exc.StreamReadException if there is no array at the pointer
+     * @author Jack Lo
+     * @date 2026/10/18 19:22
+     */
+    public Stream<T> stream(Reader source) {
+        return toStream(iterator(source));
+    }
+
+    /**
+     * Parse the array in an input stream and process its elements in parallel batches.
+     *
+     * @param source
+     * @param action
+     * @return long the number of elements processed
+     * @throws
+     * @author Jack Lo
+     * @date 2026/10/18 19:23
+     */
+    public long forEachParallel(InputStream source, Consumer<? super T> action) {
+        return forEachParallel(this::iterator, source, action);
+    }
+
+    /**
+     * Parse the array in a file and process its elements in parallel batches.
+     *
+     * @param source
+     * @param action
+     * @return long the number of elements processed
+     * @throws
+     * @author Jack Lo
+     * @date 2026/10/18 19:23
+     */
+    public long forEachParallel(Path source, Consumer<? super T> action) {
+        return forEachParallel(this::iterator, source, action);
+    }
+
+    /**
+     * Parse the array in a reader and process its elements in parallel batches.
+     *
+     * @param source
+     * @param action
+     * @return long the number of elements processed
+     * @throws
+     * @author Jack Lo
+     * @date 2026/10/18 19:23
+     */
+    public long forEachParallel(Reader source, Consumer<? super T> action) {
+        return forEachParallel(this::iterator, source, action);
+    }
+
+    private <S> long forEachParallel(Function<S, ElementIterator<T>> opener, S source, Consumer<? super T> action) {
+        long startTime = System.currentTimeMillis();
+        AtomicReference<Throwable> failure = new AtomicReference<>();
+        Semaphore permits = new Semaphore(maxInFlightBatches);
+        long count = 0;
+
+        try (ElementIterator<T> elements = opener.apply(source)) {
+            while (failure.get() == null && elements.hasNext()) {
+                List<T> batch = new ArrayList<>(batchSize);
+                while (batch.size() < batchSize && elements.hasNext()) {
+                    batch.add(elements.next());
+                }
+                count += batch.size();
+
+                permits.acquireUninterruptibly();
+                try {
+                    executor.execute(() -> {
+                        try {
+                            batch.forEach(action);
+                        } catch (Throwable e) {
+                            failure.compareAndSet(null, e);
+                        } finally {
+                            permits.release();
+                        }
+                    });
+                } catch (RejectedExecutionException e) {
+                    permits.release();
+                    throw e;
+                }
+            }
+        } finally {
+            // Wait for the batches still in flight, also when parsing failed.
+            permits.acquireUninterruptibly(maxInFlightBatches);
+            permits.release(maxInFlightBatches);
+        }
+
+        Throwable e = failure.get();
+        if (e instanceof RuntimeException runtimeException) {
+            throw runtimeException;
+        }
+        if (e instanceof Error error) {
+            throw error;
+        }
+        if (e != null) {
+            throw new IllegalStateException("Failed to process array elements", e);
+        }
+
+        log.info("Processed {} array elements in {}ms", count, System.currentTimeMillis() - startTime);
+        return count;
+    }
+
+    private ElementIterator<T> open(JsonParser parser) {
+        try {
+            locate(parser);
+            return new ElementIterator<>(parser, elementReader);
+        } catch (RuntimeException e) {
+            parser.close();
+            throw e;
+        }
+    }
+
+    /**
+     * Move the parser onto the {@code START_ARRAY} token at the pointer, skipping the subtrees that are not on the
+     * path.
+     */
+    private void locate(JsonParser parser) {
+        JsonToken token = parser.nextToken();
+        JsonPointer remaining = pointer;
+        while (!remaining.matches()) {
+            boolean found = false;
+            if (token == JsonToken.START_OBJECT && remaining.mayMatchProperty()) {
+                String property = remaining.getMatchingProperty();
+                while (parser.nextToken() == JsonToken.PROPERTY_NAME) {
+                    String name = parser.currentName();
+                    token = parser.nextToken();
+                    if (name.equals(property)) {
+                        found = true;
+                        break;
+                    }
+                    parser.skipChildren();
+                }
+            } else if (token == JsonToken.START_ARRAY && remaining.mayMatchElement()) {
+                int index = remaining.getMatchingIndex();
+                for (int i = 0; (token = parser.nextToken()) != JsonToken.END_ARRAY; i++) {
+                    if (i == index) {
+                        found = true;
+                        break;
+                    }
+                    parser.skipChildren();
+                }
+            }
+
+            if (!found) {
+                throw new StreamReadException(parser, "No value at JSON pointer " + pointer);
+            }
+            remaining = remaining.tail();
+        }
+
+        if (token != JsonToken.START_ARRAY) {
+            throw new StreamReadException(parser, "The value at JSON pointer " + pointer + " is not an array but " + token);
+        }
+    }
+
+    private static <T> Stream<T> toStream(ElementIterator<T> elements) {
+        return StreamSupport
+                .stream(Spliterators.spliteratorUnknownSize(elements, Spliterator.ORDERED), false)
+                .onClose(elements::close);
+    }
+
+    /**
+     * Lazy iterator over the elements of an array, each one bound when {@link #hasNext()} advances to it.
+     */
+    public static final class ElementIterator<T> implements Iterator<T>, Closeable {
+        private final JsonParser parser;
+        private final ObjectReader elementReader;
+        private T next;
+        private boolean hasNext;
+        private boolean finished;
+
+        private ElementIterator(JsonParser parser, ObjectReader elementReader) {
+            this.parser = parser;
+            this.elementReader = elementReader;
+        }
+
+        @Override
+        public boolean hasNext() {
+            if (!hasNext && !finished) {
+                if (parser.nextToken() == JsonToken.END_ARRAY) {
+                    close();
+                } else {
+                    next = elementReader.readValue(parser);
+                    hasNext = true;
+                }
+            }
+
+            return hasNext;
+        }
+
+        @Override
+        public T next() {
+            if (!hasNext()) {
+                throw new NoSuchElementException();
+            }
+
+            T element = next;
+            next = null;
+            hasNext = false;
+            return element;
+        }
+
+        @Override
+        public void close() {
+            finished = true;
+            parser.close();
+        }
+    }
+}
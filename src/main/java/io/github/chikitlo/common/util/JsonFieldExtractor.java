@@ -0,0 +1,357 @@
+package io.github.chikitlo.common.util;
+
+import tools.jackson.core.JsonParser;
+import tools.jackson.core.JsonPointer;
+import tools.jackson.core.JsonToken;
+import tools.jackson.core.StreamReadFeature;
+import tools.jackson.core.TokenStreamContext;
+import tools.jackson.databind.DeserializationFeature;
+import tools.jackson.databind.JsonNode;
+import tools.jackson.databind.ObjectReader;
+
+import java.io.InputStream;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * Single-pass extractor of several fields from a JSON document.
+ * <p>
+ * Walks the token stream instead of building a {@link JsonNode} tree and stops reading as soon as every target is
+ * settled. A target starting with {@code /} is a JSON Pointer, anything else a property name matched at any depth with
+ * the precedence of {@link JsonNode#findValue(String)}: a property of an object beats a match nested in any of its
+ * values, and otherwise the first match in document order wins. A nested match is therefore only final once no
+ * enclosing object can still hold the name itself, which for a root object means its end; a property of the root
+ * object, or a match under arrays only, ends the read at once. Subtrees that can no longer change any result are
+ * skipped without being tokenized into values.
+ * </p>
+ * <p>
+ * Unlike {@code JsonNode}, which keeps the last of duplicate property names in an object, the first one wins here, so
+ * that a match can be final before the end of its object.
+ * </p>
+ * <p>
+ * Values are returned as text the way {@code JsonNode.asString()} renders them: strings unquoted, floating-point
+ * numbers normalized through {@code double}, JSON {@code null} as an empty string. Objects and arrays are returned as
+ * compact JSON. An extractor is immutable and can be shared across threads.
+ * </p>
+ *
+ * @author Jack Lo
+ * @version 1.0
+ * @date 2026/10/18 19:40
+ */
+public final class JsonFieldExtractor {
+    private static final int UNSET = -1;
+
+    private final ObjectReader treeReader;
+    private final Target[] targets;
+
+    JsonFieldExtractor(ObjectReader treeReader, Collection<String> targets) {
+        this(treeReader, targets, true);
+    }
+
+    JsonFieldExtractor(ObjectReader treeReader, Collection<String> targets, boolean allowPointers) {
+        // Only the bytes up to the last target are read, what follows is not a trailing token and the source is
+        // left open for the caller.
+        this.treeReader = treeReader
+                .without(DeserializationFeature.FAIL_ON_TRAILING_TOKENS)
+                .without(StreamReadFeature.AUTO_CLOSE_SOURCE);
+        this.targets = targets.stream()
+                .distinct()
+                .map(target -> allowPointers && target.startsWith("/") ? Target.pointer(target) : Target.name(target))
+                .toArray(Target[]::new);
+    }
+
+    /**
+     * Extract the targets from a JSON string.
+     *
+     * @param json
+     * @return java.util.Map<java.lang.String,java.lang.String> the values by target, targets not found are absent
+     * @throws tools.jackson.core.JacksonException if the document is malformed before the last target
+     * @author Jack Lo
+     * @date 2026/10/18 19:42
+     */
+    public Map<String, String> extract(String json) {
+        return extract(treeReader.createParser(json));
+    }
+
+    /**
+     * Extract the targets from UTF-8 JSON bytes, without decoding them to a string first.
+     *
+     * @param content
+     * @return java.util.Map<java.lang.String,java.lang.String> the values by target, targets not found are absent
+     * @throws tools.jackson.core.JacksonException if the document is malformed before the last target
+     * @author Jack Lo
+     * @date 2026/10/18 19:42
+     */
+    public Map<String, String> extract(byte[] content) {
+        return extract(treeReader.createParser(content));
+    }
+
+    /**
+     * Extract the targets from a slice of UTF-8 JSON bytes.
+     *
+     * @param content
+     * @param offset
+     * @param length
+     * @return java.util.Map<java.lang.String,java.lang.String> the values by target, targets not found are absent
+     * @throws tools.jackson.core.JacksonException if the document is malformed before the last target
+     * @author Jack Lo
+     * @date 2026/10/18 19:42
+     */
+    public Map<String, String> extract(byte[] content, int offset, int length) {
+        return extract(treeReader.createParser(content, offset, length));
+    }
+
+    /**
+     * Extract the targets from a stream, read only up to the last target found. The stream is not closed.
+     *
+     * @param source
+     * @return java.util.Map<java.lang.String,java.lang.String> the values by target, targets not found are absent
+     * @throws tools.jackson.core.JacksonException if the document is malformed before the last target
+     * @author Jack Lo
+     * @date 2026/10/18 19:43
+     */
+    public Map<String, String> extract(InputStream source) {
+        return extract(treeReader.createParser(source));
+    }
+
+    private Map<String, String> extract(JsonParser parser) {
+        String[] texts = new String[targets.length];
+        // Per property name: nesting depth of the container the text is the findValue result of, or UNSET. Matches of
+        // a name are only recorded in that container, any later subtree can no longer change its result.
+        int[] holders = new int[targets.length];
+        boolean[] direct = new boolean[targets.length];
+        boolean[] done = new boolean[targets.length];
+        boolean[] matched = new boolean[targets.length];
+        Arrays.fill(holders, UNSET);
+        int remaining = targets.length;
+
+        try (parser) {
+            JsonToken token;
+            while (remaining > 0 && (token = parser.nextToken()) != null) {
+                if (token == JsonToken.PROPERTY_NAME) {
+                    continue;
+                }
+
+                if (token.isStructEnd()) {
+                    // The result of the closed container becomes a child result of its parent.
+                    TokenStreamContext parent = parser.streamReadContext();
+                    int closedDepth = parent.getNestingDepth() + 1;
+                    for (int i = 0; i < targets.length; i++) {
+                        if (!done[i] && holders[i] == closedDepth) {
+                            holders[i] = closedDepth - 1;
+                            direct[i] = false;
+                            if (isSettled(parent, holders[i], false)) {
+                                done[i] = true;
+                                remaining--;
+                            }
+                        }
+                    }
+                    continue;
+                }
+
+                // The context holding the value: the parent of the context a container opens.
+                TokenStreamContext context = token.isStructStart() ? parser.streamReadContext().getParent() : parser.streamReadContext();
+                int depth = context.getNestingDepth();
+                boolean anyMatched = false;
+                boolean namesOpen = false;
+                boolean onPointerPath = false;
+                for (int i = 0; i < targets.length; i++) {
+                    matched[i] = false;
+                    if (done[i]) {
+                        continue;
+                    }
+
+                    Target target = targets[i];
+                    if (target.pointer != null) {
+                        matched[i] = target.matches(context);
+                        onPointerPath |= !matched[i] && token.isStructStart() && target.isBelow(context);
+                    } else {
+                        namesOpen |= holders[i] == UNSET;
+                        // A property of the holding container beats a match nested in one of its earlier children.
+                        matched[i] = (holders[i] == UNSET || holders[i] == depth && !direct[i]) && target.matches(context);
+                    }
+                    anyMatched |= matched[i];
+                }
+
+                if (anyMatched) {
+                    JsonNode node = token.isStructStart() ? treeReader.readTree(parser) : null;
+                    String text = node == null ? scalarText(parser, token) : node.toString();
+                    for (int i = 0; i < targets.length; i++) {
+                        if (matched[i]) {
+                            texts[i] = text;
+                            remaining -= record(context, i, depth, true, holders, direct, done);
+                        }
+                    }
+                    if (node != null) {
+                        // The subtree is consumed, look for the other targets inside it.
+                        remaining -= findInside(node, context, texts, holders, direct, done);
+                    }
+                } else if (token.isStructStart()) {
+                    if (onPointerPath || namesOpen) {
+                        continue;
+                    }
+                    parser.skipChildren();
+                }
+            }
+        }
+
+        Map<String, String> values = new HashMap<>(targets.length * 2);
+        for (int i = 0; i < targets.length; i++) {
+            if (targets[i].pointer != null ? done[i] : holders[i] != UNSET) {
+                values.put(targets[i].key, texts[i]);
+            }
+        }
+        return values;
+    }
+
+    /**
+     * Record a match of a target at the given depth.
+     *
+     * @return 1 if the target is now settled, 0 otherwise
+     */
+    private int record(TokenStreamContext context, int target, int depth, boolean isDirect, int[] holders, boolean[] direct, boolean[] done) {
+        if (targets[target].pointer == null) {
+            holders[target] = depth;
+            direct[target] = isDirect;
+            if (!isSettled(context, depth, isDirect)) {
+                return 0;
+            }
+        }
+
+        done[target] = true;
+        return 1;
+    }
+
+    /**
+     * Whether a name match held by the container at the given depth is final: neither that container nor any
+     * enclosing object can still show the name as a direct property.
+     */
+    private static boolean isSettled(TokenStreamContext context, int depth, boolean isDirect) {
+        TokenStreamContext level = context;
+        while (level.getNestingDepth() > depth) {
+            level = level.getParent();
+        }
+        if (!isDirect && level.inObject()) {
+            return false;
+        }
+
+        for (level = level.getParent(); level != null; level = level.getParent()) {
+            if (level.inObject()) {
+                return false;
+            }
+        }
+
+        return true;
+    }
+
+    private int findInside(JsonNode node, TokenStreamContext context, String[] texts, int[] holders, boolean[] direct, boolean[] done) {
+        int settled = 0;
+        int depth = context.getNestingDepth();
+        for (int i = 0; i < targets.length; i++) {
+            if (done[i]) {
+                continue;
+            }
+
+            JsonNode value = null;
+            if (targets[i].pointer == null) {
+                // The subtree is a child of the container at this depth, it only counts while nothing is held.
+                value = holders[i] == UNSET ? node.findValue(targets[i].key) : null;
+            } else if (targets[i].isBelow(context)) {
+                JsonPointer relative = targets[i].pointer;
+                for (int level = 0; level < depth; level++) {
+                    relative = relative.tail();
+                }
+                value = node.at(relative);
+                value = value.isMissingNode() ? null : value;
+            }
+
+            if (value != null) {
+                texts[i] = value.isContainer() ? value.toString() : value.asString();
+                settled += record(context, i, depth, false, holders, direct, done);
+            }
+        }
+
+        return settled;
+    }
+
+    private static String scalarText(JsonParser parser, JsonToken token) {
+        return switch (token) {
+            case VALUE_NUMBER_FLOAT -> String.valueOf(parser.getDoubleValue());
+            case VALUE_NULL -> "";
+            default -> parser.getString();
+        };
+    }
+
+    /**
+     * A property name, or a JSON Pointer flattened into per-level segments for allocation-free matching against the
+     * parser context.
+     */
+    private static final class Target {
+        private final String key;
+        private final JsonPointer pointer;
+        private final String[] properties;
+        private final int[] indexes;
+
+        private Target(String key, JsonPointer pointer, String[] properties, int[] indexes) {
+            this.key = key;
+            this.pointer = pointer;
+            this.properties = properties;
+            this.indexes = indexes;
+        }
+
+        private static Target name(String name) {
+            return new Target(name, null, null, null);
+        }
+
+        private static Target pointer(String expression) {
+            JsonPointer pointer = JsonPointer.compile(expression);
+            int depth = 0;
+            for (JsonPointer segment = pointer; !segment.matches(); segment = segment.tail()) {
+                depth++;
+            }
+
+            String[] properties = new String[depth];
+            int[] indexes = new int[depth];
+            JsonPointer segment = pointer;
+            for (int i = 0; !segment.matches(); i++, segment = segment.tail()) {
+                indexes[i] = segment.getMatchingIndex();
+                // Index segments also match an object property of the same name.
+                properties[i] = segment.mayMatchProperty() ? segment.getMatchingProperty() : String.valueOf(indexes[i]);
+            }
+
+            return new Target(expression, pointer, properties, indexes);
+        }
+
+        /**
+         * Whether the value held by the context is this target.
+         */
+        private boolean matches(TokenStreamContext context) {
+            if (pointer == null) {
+                return context.inObject() && key.equals(context.currentName());
+            }
+
+            return properties.length == context.getNestingDepth() && pathMatches(context, properties.length);
+        }
+
+        /**
+         * Whether this pointer targets a value strictly inside the value held by the context.
+         */
+        private boolean isBelow(TokenStreamContext context) {
+            int depth = context.getNestingDepth();
+            return pointer != null && properties.length > depth && pathMatches(context, depth);
+        }
+
+        private boolean pathMatches(TokenStreamContext context, int depth) {
+            TokenStreamContext level = context;
+            for (int i = depth - 1; i >= 0; i--, level = level.getParent()) {
+                if (level.inObject() ? !properties[i].equals(level.currentName()) : level.getCurrentIndex() != indexes[i]) {
+                    return false;
+                }
+            }
+
+            return true;
+        }
+    }
+}
@@ -0,0 +1,337 @@
+package io.github.chikitlo.common.util;
+
+import tools.jackson.databind.DeserializationFeature;
+import tools.jackson.databind.MappingIterator;
+import tools.jackson.databind.ObjectReader;
+import tools.jackson.databind.util.ByteBufferBackedInputStream;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Deque;
+import java.util.Iterator;
+import java.util.List;
+import java.util.NoSuchElementException;
+import java.util.Spliterator;
+import java.util.Spliterators;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
+
+/**
+ * Parallel reader of JSON Lines (NDJSON).
+ * <p>
+ * The input is cut into newline-aligned chunks, memory-mapped for local files and read block by block for streams.
+ * Each chunk is parsed as a sequence of root-level values on the executor, with at most
+ * {@link #maxInFlightChunks(int)} chunks parsed ahead of the consumer, and the records are returned as a sequential
+ * {@link Stream} in file order, or in chunk completion order when {@link #ordered(boolean)} is off.
+ * </p>
+ *
+ * @author Jack Lo
+ * @version 1.0
+ * @date 2026/10/18 19:28
+ */
+public final class JsonLinesReader<T> {
+    private static final int NEWLINE_SCAN_SIZE = 8 * 1024;
+
+    private final ObjectReader elementReader;
+    private int chunkSize = 8 * 1024 * 1024;
+    private int maxInFlightChunks = Runtime.getRuntime().availableProcessors() * 2;
+    private Executor executor = ForkJoinPool.commonPool();
+    private boolean ordered = true;
+
+    JsonLinesReader(ObjectReader elementReader) {
+        this.elementReader = elementReader.without(DeserializationFeature.FAIL_ON_TRAILING_TOKENS);
+    }
+
+    /**
+     * Target chunk size in bytes, a chunk is extended to the end of the line it cuts.
+     */
+    public JsonLinesReader<T> chunkSize(int chunkSize) {
+        if (chunkSize < 1) {
+            throw new IllegalArgumentException("Chunk size must be positive");
+        }
+        this.chunkSize = chunkSize;
+        return this;
+    }
+
+    public JsonLinesReader<T> maxInFlightChunks(int maxInFlightChunks) {
+        if (maxInFlightChunks < 1) {
+            throw new IllegalArgumentException("Max in-flight chunks must be positive");
+        }
+        this.maxInFlightChunks = maxInFlightChunks;
+        return this;
+    }
+
+    public JsonLinesReader<T> executor(Executor executor) {
+        this.executor = executor;
+        return this;
+    }
+
+    /**
+     * Whether records keep the file order. Unordered streams yield each chunk as soon as it is parsed.
+     */
+    public JsonLinesReader<T> ordered(boolean ordered) {
+        this.ordered = ordered;
+        return this;
+    }
+
+    /**
+     * Stream the records of a local file, memory-mapped chunk by chunk. To be used in a try-with-resources block.
+     *
+     * @param source
+     * @return java.util.stream.Stream<T>
+     * @throws java.io.UncheckedIOException if the file cannot be opened
+     * @author Jack Lo
+     * @date 2026/10/18 19:30
+     */
+    public Stream<T> stream(Path source) {
+        try {
+            return toStream(new MappedChunkSource(FileChannel.open(source, StandardOpenOption.READ), chunkSize));
+        } catch (IOException e) {
+            throw new UncheckedIOException("Failed to open " + source, e);
+        }
+    }
+
+    /**
+     * Stream the records of an input stream, read in blocks of the chunk size. Closing the stream closes the source.
+     *
+     * @param source
+     * @return java.util.stream.Stream<T>
+     * @throws
+     * @author Jack Lo
+     * @date 2026/10/18 19:30
+     */
+    public Stream<T> stream(InputStream source) {
+        return toStream(new BlockChunkSource(source, chunkSize));
+    }
+
+    private Stream<T> toStream(ChunkSource source) {
+        ChunkIterator chunks = new ChunkIterator(source);
+        return StreamSupport
+                .stream(Spliterators.spliteratorUnknownSize(chunks, ordered ? Spliterator.ORDERED : 0), false)
+                .flatMap(List::stream)
+                .onClose(chunks::close);
+    }
+
+    private List<T> parse(ByteBuffer chunk) {
+        List<T> records = new ArrayList<>();
+        try (MappingIterator<T> iterator = chunk.hasArray()
+                ? elementReader.readValues(chunk.array(), chunk.arrayOffset() + chunk.position(), chunk.remaining())
+                : elementReader.readValues(new ByteBufferBackedInputStream(chunk))) {
+            while (iterator.hasNextValue()) {
+                records.add(iterator.nextValue());
+            }
+        }
+
+        return records;
+    }
+
+    /**
+     * Iterates parsed chunks, keeping up to {@code maxInFlightChunks} of them parsing ahead.
+     */
+    private final class ChunkIterator implements Iterator<List<T>>, Closeable {
+        private final ChunkSource source;
+        private final Deque<CompletableFuture<List<T>>> pending = new ArrayDeque<>();
+        private final BlockingQueue<CompletableFuture<List<T>>> completed = new LinkedBlockingQueue<>();
+        private boolean exhausted;
+
+        private ChunkIterator(ChunkSource source) {
+            this.source = source;
+        }
+
+        @Override
+        public boolean hasNext() {
+            fill();
+            return !pending.isEmpty();
+        }
+
+        @Override
+        public List<T> next() {
+            if (!hasNext()) {
+                throw new NoSuchElementException();
+            }
+
+            CompletableFuture<List<T>> future;
+            if (ordered) {
+                future = pending.poll();
+            } else {
+                try {
+                    future = completed.take();
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                    throw new CompletionException("Interrupted while waiting for a parsed chunk", e);
+                }
+                pending.remove(future);
+            }
+
+            try {
+                return future.join();
+            } catch (CompletionException e) {
+                if (e.getCause() instanceof RuntimeException cause) {
+                    throw cause;
+                }
+                throw e;
+            }
+        }
+
+        private void fill() {
+            while (!exhausted && pending.size() < maxInFlightChunks) {
+                ByteBuffer chunk;
+                try {
+                    chunk = source.next();
+                } catch (IOException e) {
+                    throw new UncheckedIOException("Failed to read JSON Lines chunk", e);
+                }
+
+                if (chunk == null) {
+                    exhausted = true;
+                    return;
+                }
+
+                CompletableFuture<List<T>> future = CompletableFuture.supplyAsync(() -> parse(chunk), executor);
+                pending.add(future);
+                if (!ordered) {
+                    future.whenComplete((records, e) -> completed.add(future));
+                }
+            }
+        }
+
+        @Override
+        public void close() {
+            exhausted = true;
+            pending.forEach(future -> future.cancel(false));
+            pending.clear();
+            try {
+                source.close();
+            } catch (IOException e) {
+                throw new UncheckedIOException("Failed to close JSON Lines source", e);
+            }
+        }
+    }
+
+    private interface ChunkSource extends Closeable {
+        /**
+         * Next newline-aligned chunk, or null at the end of the input.
+         */
+        ByteBuffer next() throws IOException;
+    }
+
+    /**
+     * Maps the file chunk by chunk. The mappings stay valid after the channel is closed and are released by the GC.
+     */
+    private static final class MappedChunkSource implements ChunkSource {
+        private final FileChannel channel;
+        private final long size;
+        private final int chunkSize;
+        private long position;
+
+        private MappedChunkSource(FileChannel channel, int chunkSize) throws IOException {
+            this.channel = channel;
+            this.size = channel.size();
+            this.chunkSize = chunkSize;
+        }
+
+        @Override
+        public ByteBuffer next() throws IOException {
+            if (position >= size) {
+                return null;
+            }
+
+            long end = position + chunkSize >= size ? size : nextLineStart(position + chunkSize);
+            ByteBuffer chunk = channel.map(FileChannel.MapMode.READ_ONLY, position, end - position);
+            position = end;
+            return chunk;
+        }
+
+        private long nextLineStart(long from) throws IOException {
+            ByteBuffer scan = ByteBuffer.allocate(NEWLINE_SCAN_SIZE);
+            long offset = from;
+            while (offset < size) {
+                scan.clear();
+                int read = channel.read(scan, offset);
+                if (read <= 0) {
+                    break;
+                }
+                for (int i = 0; i < read; i++) {
+                    if (scan.get(i) == '\n') {
+                        return offset + i + 1;
+                    }
+                }
+                offset += read;
+            }
+
+            return size;
+        }
+
+        @Override
+        public void close() throws IOException {
+            channel.close();
+        }
+    }
+
+    /**
+     * Reads blocks of the chunk size and carries the trailing partial line over to the next chunk.
+     */
+    private static final class BlockChunkSource implements ChunkSource {
+        private static final byte[] EMPTY = new byte[0];
+
+        private final InputStream inputStream;
+        private final int chunkSize;
+        private byte[] carry = EMPTY;
+        private boolean finished;
+
+        private BlockChunkSource(InputStream inputStream, int chunkSize) {
+            this.inputStream = inputStream;
+            this.chunkSize = chunkSize;
+        }
+
+        @Override
+        public ByteBuffer next() throws IOException {
+            if (finished) {
+                return null;
+            }
+
+            byte[] buffer = Arrays.copyOf(carry, Math.max(chunkSize, carry.length * 2));
+            int length = carry.length;
+            while (true) {
+                int requested = buffer.length - length;
+                int read = inputStream.readNBytes(buffer, length, requested);
+                length += read;
+                if (read < requested) {
+                    finished = true;
+                    carry = EMPTY;
+                    return length == 0 ? null : ByteBuffer.wrap(buffer, 0, length);
+                }
+
+                for (int i = length - 1; i >= 0; i--) {
+                    if (buffer[i] == '\n') {
+                        carry = Arrays.copyOfRange(buffer, i + 1, length);
+                        return ByteBuffer.wrap(buffer, 0, i + 1);
+                    }
+                }
+
+                // A single line longer than the buffer, keep reading until its end.
+                buffer = Arrays.copyOf(buffer, buffer.length * 2);
+            }
+        }
+
+        @Override
+        public void close() throws IOException {
+            inputStream.close();
+        }
+    }
+}
@@ -0,0 +1,208 @@
+package io.github.chikitlo.common.util;
+
+import lombok.extern.slf4j.Slf4j;
+
+import java.io.Closeable;
+import java.io.Flushable;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.util.Arrays;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * Thread-safe writer of JSON Lines (NDJSON) for many producers sharing one output.
+ * <p>
+ * Records are serialized on the producer thread into its pooled buffer, so serialization runs in parallel, and only
+ * the copy of the finished line into the shared batch is serialized. A full batch is swapped for a spare one and
+ * written while the other producers keep appending to the new batch; batches reach the output in the order they were
+ * filled.
+ * </p>
+ *
+ * @author Jack Lo
+ * @version 1.0
+ * @date 2026/10/18 19:33
+ */
+@Slf4j
+public final class JsonLinesWriter implements Closeable, Flushable {
+    private final OutputStream outputStream;
+    private final int batchSize;
+
+    // Lock order: bufferLock, then ioLock. The ioLock is taken before the bufferLock is released to keep batch order.
+    private final ReentrantLock bufferLock = new ReentrantLock();
+    private final ReentrantLock ioLock = new ReentrantLock();
+    private final AtomicReference<Batch> spare = new AtomicReference<>();
+
+    private Batch current;
+    private long records;
+    private boolean closed;
+
+    JsonLinesWriter(OutputStream outputStream, int batchSize) {
+        if (batchSize < 1) {
+            throw new IllegalArgumentException("Batch size must be positive");
+        }
+        this.outputStream = outputStream;
+        this.batchSize = batchSize;
+        this.current = new Batch(batchSize);
+    }
+
+    /**
+     * Append one record as a line.
+     *
+     * @param record
+     * @return
+     * @throws java.io.UncheckedIOException if a full batch cannot be written
+     * @author Jack Lo
+     * @date 2026/10/18 19:34
+     */
+    public void write(Object record) {
+        JsonUtils.withJsonBytes(record, line -> {
+            append(line);
+            return null;
+        });
+    }
+
+    /**
+     * Write the current batch and flush the output.
+     *
+     * @param
+     * @return
+     * @throws java.io.UncheckedIOException if the batch cannot be written
+     * @author Jack Lo
+     * @date 2026/10/18 19:34
+     */
+    @Override
+    public void flush() {
+        Batch full;
+        bufferLock.lock();
+        try {
+            ensureOpen();
+            full = swap();
+        } finally {
+            bufferLock.unlock();
+        }
+
+        writeBatch(full, true);
+    }
+
+    /**
+     * Write the remaining records and close the output.
+     *
+     * @param
+     * @return
+     * @throws java.io.UncheckedIOException if the output cannot be written or closed
+     * @author Jack Lo
+     * @date 2026/10/18 19:34
+     */
+    @Override
+    public void close() {
+        Batch full;
+        bufferLock.lock();
+        try {
+            if (closed) {
+                return;
+            }
+            closed = true;
+            full = swap();
+        } finally {
+            bufferLock.unlock();
+        }
+
+        try {
+            writeBatch(full, true);
+        } finally {
+            try {
+                outputStream.close();
+            } catch (IOException e) {
+                throw new UncheckedIOException("Failed to close JSON Lines output", e);
+            }
+        }
+        log.info("Closed JSON Lines writer after {} records", records);
+    }
+
+    public long getRecordCount() {
+        bufferLock.lock();
+        try {
+            return records;
+        } finally {
+            bufferLock.unlock();
+        }
+    }
+
+    private void append(ByteBuffer line) {
+        Batch full = null;
+        bufferLock.lock();
+        try {
+            ensureOpen();
+            current.append(line);
+            records++;
+            if (current.size >= batchSize) {
+                full = swap();
+            }
+        } finally {
+            bufferLock.unlock();
+        }
+
+        if (full != null) {
+            writeBatch(full, false);
+        }
+    }
+
+    /**
+     * Replace the current batch by a spare one and take the ioLock for the full batch. Called under the bufferLock.
+     */
+    private Batch swap() {
+        Batch full = current;
+        Batch next = spare.getAndSet(null);
+        current = next != null ? next : new Batch(batchSize);
+        ioLock.lock();
+        return full;
+    }
+
+    /**
+     * Write a batch taken by {@link #swap()} and release the ioLock.
+     */
+    private void writeBatch(Batch batch, boolean flush) {
+        try {
+            outputStream.write(batch.bytes, 0, batch.size);
+            if (flush) {
+                outputStream.flush();
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException("Failed to write JSON Lines batch", e);
+        } finally {
+            batch.size = 0;
+            ioLock.unlock();
+            spare.set(batch);
+        }
+    }
+
+    private void ensureOpen() {
+        if (closed) {
+            throw new IllegalStateException("JSON Lines writer is closed");
+        }
+    }
+
+    private static final class Batch {
+        private byte[] bytes;
+        private int size;
+
+        private Batch(int batchSize) {
+            // Room for the line that crosses the threshold.
+            this.bytes = new byte[batchSize + batchSize / 4];
+        }
+
+        private void append(ByteBuffer line) {
+            int required = size + line.remaining() + 1;
+            if (required > bytes.length) {
+                bytes = Arrays.copyOf(bytes, Math.max(required, bytes.length * 2));
+            }
+            int length = line.remaining();
+            line.get(bytes, size, length);
+            size += length;
+            bytes[size++] = '\n';
+        }
+    }
+}
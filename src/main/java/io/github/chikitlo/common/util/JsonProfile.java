@@ -0,0 +1,292 @@
+package io.github.chikitlo.common.util;
+
+import tools.jackson.core.StreamWriteFeature;
+import tools.jackson.core.type.TypeReference;
+import tools.jackson.databind.JavaType;
+import tools.jackson.databind.ObjectMapper;
+import tools.jackson.databind.ObjectReader;
+import tools.jackson.databind.ObjectWriter;
+import tools.jackson.databind.SerializationFeature;
+
+import java.lang.reflect.Proxy;
+import java.lang.reflect.Type;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Named {@link ObjectMapper} configuration with a registry of pre-resolved readers and writers.
+ * <p>
+ * Jackson readers and writers are immutable and thread-safe, but creating one per call re-resolves the root
+ * (de)serializer and, for collections and maps, rebuilds the {@link JavaType}. A profile resolves each of them once per
+ * {@link Class}, {@link TypeReference} type, element type or feature and keeps it in a concurrent map, so the hot path
+ * is a map lookup followed by streaming.
+ * </p>
+ * <p>
+ * Classes passed explicitly, e.g. by a warm-up, are always cached. Runtime classes met by {@link #writerForValue(Object)}
+ * are cached up to 1024 entries, and never for proxy or hidden classes, so generated types
+ * cannot grow the cache without bound or pin their class loaders; other values use the default writer, which resolves
+ * the serializer through the mapper's own bounded cache.
+ * </p>
+ * <p>
+ * All writers of a profile have {@link StreamWriteFeature#AUTO_CLOSE_TARGET} disabled, so writing to a caller-supplied
+ * {@link java.io.OutputStream} or channel flushes it but leaves it open.
+ * </p>
+ *
+ * @author Jack Lo
+ * @version 1.0
+ * @date 2026/10/18 19:05
+ */
+public final class JsonProfile {
+    static final int MAX_RUNTIME_WRITERS = 1024;
+
+    private final String name;
+    private final ObjectMapper objectMapper;
+    private final ObjectWriter defaultWriter;
+
+    private final Map<Type, ObjectReader> readers = new ConcurrentHashMap<>();
+    private final Map<Class<?>, ObjectReader> listReaders = new ConcurrentHashMap<>();
+    private final Map<List<Class<?>>, ObjectReader> mapReaders = new ConcurrentHashMap<>();
+    private final Map<Class<?>, ObjectWriter> writers = new ConcurrentHashMap<>();
+    private final Map<Class<?>, ObjectWriter> runtimeWriters = new ConcurrentHashMap<>();
+    private final Map<SerializationFeature, ObjectWriter> featureWriters = new ConcurrentHashMap<>();
+
+    JsonProfile(String name, ObjectMapper objectMapper) {
+        this.name = name;
+        this.objectMapper = objectMapper;
+        this.defaultWriter = objectMapper.writer().without(StreamWriteFeature.AUTO_CLOSE_TARGET);
+    }
+
+    public String getName() {
+        return name;
+    }
+
+    public ObjectMapper getObjectMapper() {
+        return objectMapper;
+    }
+
+    /**
+     * Get the cached reader of a class.
+     *
+     * @param clazz
+     * @return tools.jackson.databind.ObjectReader
+     * @throws
+     * @author Jack Lo
+     * @date 2026/10/18 19:06
+     */
+    public ObjectReader reader(Class<?> clazz) {
+        return readers.computeIfAbsent(clazz, type -> objectMapper.readerFor(clazz));
+    }
+
+    /**
+     * Get the cached reader of a generic type. Cached by the captured {@link Type}, so a new anonymous
+     * {@link TypeReference} per call still hits the cache.
+     *
+     * @param typeReference
+     * @return tools.jackson.databind.ObjectReader
+     * @throws
+     * @author Jack Lo
+     * @date 2026/10/18 19:06
+     */
+    public ObjectReader reader(TypeReference<?> typeReference) {
+        return readers.computeIfAbsent(typeReference.getType(), type -> objectMapper.readerFor(typeReference));
+    }
+
+    /**
+     * Get the cached reader of a resolved type, under the same key as the {@link TypeReference} capturing it.
+     *
+     * @param type
+     * @return tools.jackson.databind.ObjectReader
+     * @throws
+     * @author Jack Lo
+     * @date 2026/10/18 20:08
+     */
+    public ObjectReader reader(Type type) {
+        return readers.computeIfAbsent(type, key -> objectMapper.readerFor(objectMapper.getTypeFactory().constructType(type)));
+    }
+
+    /**
+     * Get the cached reader of an {@code ArrayList} of the given element type.
+     *
+     * @param elementClass
+     * @return tools.jackson.databind.ObjectReader
+     * @throws
+     * @author Jack Lo
+     * @date 2026/10/18 19:07
+     */
+    public ObjectReader listReader(Class<?> elementClass) {
+        return listReaders.computeIfAbsent(elementClass, type -> objectMapper.readerFor(
+                objectMapper.getTypeFactory().constructCollectionType(ArrayList.class, elementClass)));
+    }
+
+    /**
+     * Get the cached reader of a {@code HashMap} of the given key and value types.
+     *
+     * @param keyClass
+     * @param valueClass
+     * @return tools.jackson.databind.ObjectReader
+     * @throws
+     * @author Jack Lo
+     * @date 2026/10/18 19:07
+     */
+    public ObjectReader mapReader(Class<?> keyClass, Class<?> valueClass) {
+        return mapReaders.computeIfAbsent(List.of(keyClass, valueClass), type -> objectMapper.readerFor(
+                objectMapper.getTypeFactory().constructMapType(HashMap.class, keyClass, valueClass)));
+    }
+
+    /**
+     * Get the default writer of this profile.
+     *
+     * @param
+     * @return tools.jackson.databind.ObjectWriter
+     * @throws
+     * @author Jack Lo
+     * @date 2026/10/18 19:07
+     */
+    public ObjectWriter writer() {
+        return defaultWriter;
+    }
+
+    /**
+     * Get the cached writer with the root serializer of the given class pre-resolved.
+     *
+     * @param clazz
+     * @return tools.jackson.databind.ObjectWriter
+     * @throws
+     * @author Jack Lo
+     * @date 2026/10/18 19:07
+     */
+    public ObjectWriter writerFor(Class<?> clazz) {
+        return writers.computeIfAbsent(clazz, type -> objectMapper.writerFor(clazz).without(StreamWriteFeature.AUTO_CLOSE_TARGET));
+    }
+
+    /**
+     * Get the cached writer with an additional {@link SerializationFeature} enabled.
+     *
+     * @param feature
+     * @return tools.jackson.databind.ObjectWriter
+     * @throws
+     * @author Jack Lo
+     * @date 2026/10/18 19:07
+     */
+    public ObjectWriter writer(SerializationFeature feature) {
+        return featureWriters.computeIfAbsent(feature, key -> defaultWriter.with(feature));
+    }
+
+    /**
+     * Get the cached writer of the runtime class of a value, or the default writer for {@code null} and for classes that
+     * are not cached.
+     *
+     * @param value
+     * @return tools.jackson.databind.ObjectWriter
+     * @throws
+     * @author Jack Lo
+     * @date 2026/10/18 19:14
+     */
+    public ObjectWriter writerForValue(Object value) {
+        if (value == null) {
+            return defaultWriter;
+        }
+
+        Class<?> clazz = value.getClass();
+        ObjectWriter writer = writers.get(clazz);
+        if (writer == null) {
+            writer = runtimeWriters.get(clazz);
+        }
+        if (writer != null) {
+            return writer;
+        }
+        if (runtimeWriters.size() >= MAX_RUNTIME_WRITERS || Proxy.isProxyClass(clazz) || clazz.isHidden()) {
+            return defaultWriter;
+        }
+
+        return runtimeWriters.computeIfAbsent(clazz, type -> objectMapper.writerFor(clazz).without(StreamWriteFeature.AUTO_CLOSE_TARGET));
+    }
+
+    /**
+     * Serialize an object with the writer pre-resolved for its runtime class.
+     *
+     * @param obj
+     * @return java.lang.String
+     * @throws
+     * @author Jack Lo
+     * @date 2026/10/18 19:08
+     */
+    public String toJsonString(Object obj) {
+        return writerForValue(obj).writeValueAsString(obj);
+    }
+
+    /**
+     * Serialize an object straight to UTF-8 bytes, without an intermediate {@link String}.
+     *
+     * @param obj
+     * @return byte[]
+     * @throws
+     * @author Jack Lo
+     * @date 2026/10/18 19:15
+     */
+    public byte[] toJsonBytes(Object obj) {
+        return writerForValue(obj).writeValueAsBytes(obj);
+    }
+
+    /**
+     * Deserialize a JSON string with the cached reader of the given class.
+     *
+     * @param json
+     * @param clazz
+     * @return T
+     * @throws
+     * @author Jack Lo
+     * @date 2026/10/18 19:08
+     */
+    public <T> T parseObject(String json, Class<T> clazz) {
+        return reader(clazz).readValue(json);
+    }
+
+    /**
+     * Deserialize a JSON string with the cached reader of the given generic type.
+     *
+     * @param json
+     * @param typeReference
+     * @return T
+     * @throws
+     * @author Jack Lo
+     * @date 2026/10/18 19:08
+     */
+    public <T> T parseObject(String json, TypeReference<T> typeReference) {
+        return reader(typeReference).readValue(json);
+    }
+
+    /**
+     * Drop all cached readers and writers.
+     *
+     * @param
+     * @return
+     * @throws
+     * @author Jack Lo
+     * @date 2026/10/18 19:08
+     */
+    public void clearCache() {
+        readers.clear();
+        listReaders.clear();
+        mapReaders.clear();
+        writers.clear();
+        runtimeWriters.clear();
+        featureWriters.clear();
+    }
+
+    /**
+     * Number of cached readers and writers, for monitoring.
+     *
+     * @param
+     * @return int
+     * @throws
+     * @author Jack Lo
+     * @date 2026/10/18 19:09
+     */
+    public int getCacheSize() {
+        return readers.size() + listReaders.size() + mapReaders.size() + writers.size() + runtimeWriters.size() + featureWriters.size();
+    }
+}
@@ -3,25 +3,36 @@ package io.github.chikitlo.common.util;
 import io.github.chikitlo.common.constant.DateConstants;
 import lombok.extern.slf4j.Slf4j;
 import org.apache.commons.lang3.StringUtils;
-import tools.jackson.core.JacksonException;
 import tools.jackson.core.type.TypeReference;
 import tools.jackson.databind.*;
 import tools.jackson.databind.cfg.EnumFeature;
+import tools.jackson.databind.cfg.MapperBuilder;
 import tools.jackson.databind.ext.javatime.deser.LocalDateTimeDeserializer;
 import tools.jackson.databind.ext.javatime.ser.LocalDateTimeSerializer;
 import tools.jackson.databind.json.JsonMapper;
 import tools.jackson.databind.module.SimpleModule;
 import tools.jackson.databind.node.ArrayNode;
 import tools.jackson.databind.node.ObjectNode;
-import tools.jackson.databind.type.CollectionType;
-import tools.jackson.databind.type.MapType;
+import tools.jackson.dataformat.cbor.CBORMapper;
+import tools.jackson.dataformat.smile.SmileMapper;
 
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
 import java.io.Reader;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.Channels;
+import java.nio.channels.WritableByteChannel;
 import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
 import java.text.SimpleDateFormat;
 import java.time.LocalDateTime;
 import java.time.format.DateTimeFormatter;
 import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Function;
 
 /**
  * JSON utilities backed by a single, pre-configured Jackson {@link tools.jackson.databind.ObjectMapper}.
@@ -29,6 +40,12 @@ import java.util.*;
  * Provides thread-safe static helpers for common JSON serialization/deserialization tasks used across the project.
  * The underlying mapper is configured with a consistent date/time format, timezone and LocalDateTime (de)serializers.
  * </p>
+ * <p>
+ * Mappers are organized in named {@link JsonProfile}s sharing that configuration: {@link #COMPACT_PROFILE} (the
+ * default, no indentation), {@link #PRETTY_PROFILE} for debugging and one profile per time zone. Each profile caches
+ * its pre-resolved readers and writers. The binary {@link DataFormat}s Smile and CBOR get profiles with the same
+ * configuration, so DTOs can move to a smaller encoding on internal paths without changes.
+ * </p>
  *
  * @author Jack Lo
  * @version 1.0
@@ -36,29 +53,156 @@ import java.util.*;
  */
 @Slf4j
 public final class JsonUtils {
-    private static final ObjectMapper OBJECT_MAPPER = JsonMapper
-            .builder()
-            .configure(DeserializationFeature.ACCEPT_EMPTY_ARRAY_AS_NULL_OBJECT, true)
-            .configure(EnumFeature.READ_UNKNOWN_ENUM_VALUES_AS_NULL, true)
-            .configure(MapperFeature.REQUIRE_SETTERS_FOR_GETTERS, true)
-            .configure(SerializationFeature.INDENT_OUTPUT, true)
-            .addModule(new SimpleModule()
-                    .addSerializer(LocalDateTime.class, new LocalDateTimeSerializer(DateTimeFormatter.ofPattern(DateConstants.YYYY_MM_DD_HH_MM_SS)))
-                    .addDeserializer(LocalDateTime.class, new LocalDateTimeDeserializer(DateTimeFormatter.ofPattern(DateConstants.YYYY_MM_DD_HH_MM_SS))))
-            .defaultTimeZone(TimeZone.getDefault())
-            .defaultDateFormat(new SimpleDateFormat(DateConstants.YYYY_MM_DD_HH_MM_SS))
-            .build();
+    public static final String COMPACT_PROFILE = "compact";
+    public static final String PRETTY_PROFILE = "pretty";
+    private static final String TIME_ZONE_PROFILE_PREFIX = "tz:";
+    private static final int POOLED_BUFFER_INITIAL_SIZE = 8 * 1024;
+    private static final int POOLED_BUFFER_MAX_RETAINED_SIZE = 1024 * 1024;
+    private static final int JSON_LINES_BATCH_SIZE = 256 * 1024;
+
+    private static final ThreadLocal<PooledBuffer> POOLED_BUFFERS = ThreadLocal.withInitial(PooledBuffer::new);
+
+    private static final Map<String, JsonProfile> PROFILES = new ConcurrentHashMap<>();
+    private static final JsonValidator JSON_VALIDATOR = new JsonValidator();
+
+    static {
+        PROFILES.put(COMPACT_PROFILE, new JsonProfile(COMPACT_PROFILE, mapperBuilder(TimeZone.getDefault()).build()));
+        PROFILES.put(PRETTY_PROFILE, new JsonProfile(PRETTY_PROFILE, mapperBuilder(TimeZone.getDefault())
+                .configure(SerializationFeature.INDENT_OUTPUT, true)
+                .build()));
+    }
+
+    private static volatile JsonProfile defaultProfile = PROFILES.get(COMPACT_PROFILE);
+    private static volatile TimeZone defaultTimeZone = TimeZone.getDefault();
 
     private JsonUtils() {
         throw new UnsupportedOperationException("This is a utility class and cannot be instantiated");
     }
 
-    public ObjectMapper getObjectMapper() {
-        return OBJECT_MAPPER;
+    public static ObjectMapper getObjectMapper() {
+        return defaultProfile.getObjectMapper();
+    }
+
+    /**
+     * Create a mapper builder with the shared configuration, the base of every profile.
+     *
+     * @param timeZone
+     * @return tools.jackson.databind.json.JsonMapper.Builder
+     * @throws
+     * @author Jack Lo
+     * @date 2026/10/18 19:10
+     */
+    public static JsonMapper.Builder mapperBuilder(TimeZone timeZone) {
+        return configure(JsonMapper.builder(), timeZone);
+    }
+
+    /**
+     * Create a mapper builder of a wire format with the shared configuration.
+     *
+     * @param format
+     * @param timeZone
+     * @return tools.jackson.databind.cfg.MapperBuilder<?,?>
+     * @throws
+     * @author Jack Lo
+     * @date 2026/10/18 20:00
+     */
+    public static MapperBuilder<?, ?> mapperBuilder(DataFormat format, TimeZone timeZone) {
+        return switch (format) {
+            case JSON -> mapperBuilder(timeZone);
+            case SMILE -> configure(SmileMapper.builder(), timeZone);
+            case CBOR -> configure(CBORMapper.builder(), timeZone);
+        };
+    }
+
+    private static <B extends MapperBuilder<?, B>> B configure(B builder, TimeZone timeZone) {
+        return builder
+                .configure(DeserializationFeature.ACCEPT_EMPTY_ARRAY_AS_NULL_OBJECT, true)
+                .configure(EnumFeature.READ_UNKNOWN_ENUM_VALUES_AS_NULL, true)
+                .configure(MapperFeature.REQUIRE_SETTERS_FOR_GETTERS, true)
+                .addModule(new SimpleModule()
+                        .addSerializer(LocalDateTime.class, new LocalDateTimeSerializer(DateTimeFormatter.ofPattern(DateConstants.YYYY_MM_DD_HH_MM_SS)))
+                        .addDeserializer(LocalDateTime.class, new LocalDateTimeDeserializer(DateTimeFormatter.ofPattern(DateConstants.YYYY_MM_DD_HH_MM_SS))))
+                .defaultTimeZone(timeZone)
+                .defaultDateFormat(new SimpleDateFormat(DateConstants.YYYY_MM_DD_HH_MM_SS));
+    }
+
+    /**
+     * Get the profile used by the static helpers of this class.
+     *
+     * @param
+     * @return io.github.chikitlo.common.util.JsonProfile
+     * @throws
+     * @author Jack Lo
+     * @date 2026/10/18 19:10
+     */
+    public static JsonProfile getDefaultProfile() {
+        return defaultProfile;
+    }
+
+    /**
+     * Get a registered profile by name.
+     *
+     * @param name
+     * @return io.github.chikitlo.common.util.JsonProfile
+     * @throws IllegalArgumentException if no profile is registered under the name
+     * @author Jack Lo
+     * @date 2026/10/18 19:11
+     */
+    public static JsonProfile profile(String name) {
+        JsonProfile profile = PROFILES.get(name);
+        if (profile == null) {
+            throw new IllegalArgumentException("Unknown JSON profile: " + name);
+        }
+
+        return profile;
+    }
+
+    /**
+     * Get the compact profile of a time zone, created on first use.
+     *
+     * @param timeZone
+     * @return io.github.chikitlo.common.util.JsonProfile
+     * @throws
+     * @author Jack Lo
+     * @date 2026/10/18 19:11
+     */
+    public static JsonProfile profile(TimeZone timeZone) {
+        return PROFILES.computeIfAbsent(TIME_ZONE_PROFILE_PREFIX + timeZone.getID(),
+                name -> new JsonProfile(name, mapperBuilder(timeZone).build()));
+    }
+
+    /**
+     * Register a profile under a name, replacing any previous one.
+     *
+     * @param name
+     * @param objectMapper
+     * @return io.github.chikitlo.common.util.JsonProfile
+     * @throws
+     * @author Jack Lo
+     * @date 2026/10/18 19:11
+     */
+    public static JsonProfile registerProfile(String name, ObjectMapper objectMapper) {
+        JsonProfile profile = new JsonProfile(name, objectMapper);
+        PROFILES.put(name, profile);
+        return profile;
     }
 
     /**
-     * Set the default time zone of the global {@link ObjectMapper}.
+     * Create a warm-up of the given classes, to be run at startup before the service reports ready.
+     *
+     * @param classes
+     * @return io.github.chikitlo.common.util.JsonWarmUp
+     * @throws
+     * @author Jack Lo
+     * @date 2026/10/18 20:09
+     */
+    public static JsonWarmUp warmUp(Class<?>... classes) {
+        return new JsonWarmUp().classes(classes);
+    }
+
+    /**
+     * Set the default time zone of the global {@link ObjectMapper}, by switching the default profile to the compact
+     * profile of that time zone.
      *
      * @param timeZone
      * @return
@@ -67,7 +211,160 @@ public final class JsonUtils {
      * @date 2025/12/20 16:22
      */
     public static synchronized void setTimeZone(TimeZone timeZone) {
-        OBJECT_MAPPER.rebuild().defaultTimeZone(timeZone).build();
+        defaultProfile = profile(timeZone);
+        defaultTimeZone = timeZone;
+    }
+
+    /**
+     * Get the profile of a wire format in the default time zone. {@link DataFormat#JSON} is the default profile.
+     *
+     * @param format
+     * @return io.github.chikitlo.common.util.JsonProfile
+     * @throws
+     * @author Jack Lo
+     * @date 2026/10/18 20:01
+     */
+    public static JsonProfile profile(DataFormat format) {
+        if (format == DataFormat.JSON) {
+            return defaultProfile;
+        }
+
+        TimeZone timeZone = defaultTimeZone;
+        return PROFILES.computeIfAbsent(format.name().toLowerCase(Locale.ROOT) + ":" + TIME_ZONE_PROFILE_PREFIX + timeZone.getID(),
+                name -> new JsonProfile(name, mapperBuilder(format, timeZone).build()));
+    }
+
+    /**
+     * Serialize an object to the given wire format.
+     *
+     * @param obj
+     * @param format
+     * @return byte[]
+     * @throws
+     * @author Jack Lo
+     * @date 2026/10/18 20:01
+     */
+    public static byte[] toBytes(Object obj, DataFormat format) {
+        return profile(format).toJsonBytes(obj);
+    }
+
+    /**
+     * Serialize an object to the wire format of a content type, e.g. {@code application/cbor}.
+     *
+     * @param obj
+     * @param contentType
+     * @return byte[]
+     * @throws IllegalArgumentException if the content type is not supported
+     * @author Jack Lo
+     * @date 2026/10/18 20:01
+     */
+    public static byte[] toBytes(Object obj, String contentType) {
+        return toBytes(obj, requireFormat(contentType));
+    }
+
+    /**
+     * Deserialize content of the given wire format into the given class.
+     *
+     * @param content
+     * @param clazz
+     * @param format
+     * @return T
+     * @throws
+     * @author Jack Lo
+     * @date 2026/10/18 20:01
+     */
+    public static <T> T parseObject(byte[] content, Class<T> clazz, DataFormat format) {
+        if (content == null) {
+            log.error("Content is null");
+            return null;
+        }
+
+        return profile(format).reader(clazz).readValue(content);
+    }
+
+    /**
+     * Deserialize content of the given wire format into a generic type.
+     *
+     * @param content
+     * @param typeReference
+     * @param format
+     * @return T
+     * @throws
+     * @author Jack Lo
+     * @date 2026/10/18 20:02
+     */
+    public static <T> T parseObject(byte[] content, TypeReference<T> typeReference, DataFormat format) {
+        if (content == null) {
+            log.error("Content is null");
+            return null;
+        }
+
+        return profile(format).reader(typeReference).readValue(content);
+    }
+
+    /**
+     * Deserialize content of the wire format of a content type into the given class.
+     *
+     * @param content
+     * @param clazz
+     * @param contentType
+     * @return T
+     * @throws IllegalArgumentException if the content type is not supported
+     * @author Jack Lo
+     * @date 2026/10/18 20:02
+     */
+    public static <T> T parseObject(byte[] content, Class<T> clazz, String contentType) {
+        return parseObject(content, clazz, requireFormat(contentType));
+    }
+
+    /**
+     * Deserialize a stream of the given wire format into the given class. The stream is closed.
+     *
+     * @param src
+     * @param clazz
+     * @param format
+     * @return T
+     * @throws
+     * @author Jack Lo
+     * @date 2026/10/18 20:02
+     */
+    public static <T> T parseObject(InputStream src, Class<T> clazz, DataFormat format) {
+        if (src == null) {
+            log.error("InputStream is null");
+            return null;
+        }
+
+        return profile(format).reader(clazz).readValue(src);
+    }
+
+    /**
+     * Serialize an object in the given wire format straight to an {@link OutputStream}, which is flushed but not
+     * closed.
+     *
+     * @param obj
+     * @param out
+     * @param format
+     * @return
+     * @throws
+     * @author Jack Lo
+     * @date 2026/10/18 20:02
+     */
+    public static void writeJson(Object obj, OutputStream out, DataFormat format) {
+        if (out == null) {
+            log.error("OutputStream is null");
+            return;
+        }
+
+        profile(format).writerForValue(obj).writeValue(out, obj);
+    }
+
+    private static DataFormat requireFormat(String contentType) {
+        DataFormat format = DataFormat.fromContentType(contentType);
+        if (format == null) {
+            throw new IllegalArgumentException("Unsupported content type: " + contentType);
+        }
+
+        return format;
     }
 
     /**
@@ -80,7 +377,7 @@ public final class JsonUtils {
      * @date 2025/12/20 16:23
      */
     public static ArrayNode createArrayNode() {
-        return OBJECT_MAPPER.createArrayNode();
+        return defaultProfile.getObjectMapper().createArrayNode();
     }
 
     /**
@@ -93,7 +390,7 @@ public final class JsonUtils {
      * @date 2025/12/20 16:24
      */
     public static ObjectNode createObjectNode() {
-        return OBJECT_MAPPER.createObjectNode();
+        return defaultProfile.getObjectMapper().createObjectNode();
     }
 
     /**
@@ -106,7 +403,7 @@ public final class JsonUtils {
      * @date 2025/12/20 16:26
      */
     public static JsonNode toJsonNode(Object obj) {
-        return OBJECT_MAPPER.valueToTree(obj);
+        return defaultProfile.getObjectMapper().valueToTree(obj);
     }
 
     /**
@@ -120,8 +417,7 @@ public final class JsonUtils {
      * @date 2025/12/20 17:45
      */
     public static String toJsonString(Object obj, SerializationFeature feature) {
-        ObjectWriter writer = OBJECT_MAPPER.writer(feature);
-        return writer.writeValueAsString(obj);
+        return defaultProfile.writer(feature).writeValueAsString(obj);
     }
 
     /**
@@ -140,7 +436,7 @@ public final class JsonUtils {
             return null;
         }
 
-        return OBJECT_MAPPER.readValue(json, clazz);
+        return defaultProfile.reader(clazz).readValue(json);
     }
 
     /**
@@ -159,7 +455,7 @@ public final class JsonUtils {
             return null;
         }
 
-        return OBJECT_MAPPER.readValue(content, clazz);
+        return defaultProfile.reader(clazz).readValue(content);
     }
 
     /**
@@ -178,7 +474,7 @@ public final class JsonUtils {
             return null;
         }
 
-        return OBJECT_MAPPER.readValue(src, clazz);
+        return defaultProfile.reader(clazz).readValue(src);
     }
 
     /**
@@ -197,7 +493,7 @@ public final class JsonUtils {
             return null;
         }
 
-        return OBJECT_MAPPER.readValue(json, typeReference);
+        return defaultProfile.reader(typeReference).readValue(json);
     }
 
     /**
@@ -223,11 +519,11 @@ public final class JsonUtils {
      * @date 2025/12/20 19:07
      */
     public static ArrayNode parseArray(String json) {
-        return (ArrayNode) OBJECT_MAPPER.readTree(json);
+        return (ArrayNode) defaultProfile.getObjectMapper().readTree(json);
     }
 
     /**
-     * Check whether a string is valid JSON.
+     * Check whether a string is valid JSON, by walking its tokens without building a tree.
      *
      * @param json
      * @return boolean
@@ -236,13 +532,83 @@ public final class JsonUtils {
      * @date 2025/12/20 18:05
      */
     public static boolean checkJson(String json) {
-        try {
-            OBJECT_MAPPER.readTree(json);
-            return true;
-        } catch (JacksonException e) {
-            log.error("Invalid JSON: {}", e.getMessage());
-            return false;
+        JsonValidator.Result result = JSON_VALIDATOR.validate(json);
+        if (!result.valid()) {
+            // Debug only, hostile input must not flood the logs.
+            log.debug("Invalid JSON at offset {}: {}", result.offset(), result.error());
         }
+
+        return result.valid();
+    }
+
+    /**
+     * Check whether UTF-8 bytes are valid JSON, by walking their tokens without building a tree.
+     *
+     * @param content
+     * @return boolean
+     * @throws
+     * @author Jack Lo
+     * @date 2026/10/18 19:54
+     */
+    public static boolean checkJson(byte[] content) {
+        JsonValidator.Result result = JSON_VALIDATOR.validate(content);
+        if (!result.valid()) {
+            log.debug("Invalid JSON at offset {}: {}", result.offset(), result.error());
+        }
+
+        return result.valid();
+    }
+
+    /**
+     * Validate a string with the default limits and return the error location, if any.
+     *
+     * @param json
+     * @return io.github.chikitlo.common.util.JsonValidator.Result
+     * @throws
+     * @author Jack Lo
+     * @date 2026/10/18 19:54
+     */
+    public static JsonValidator.Result validateJson(String json) {
+        return JSON_VALIDATOR.validate(json);
+    }
+
+    /**
+     * Validate UTF-8 bytes with the default limits and return the error location, if any.
+     *
+     * @param content
+     * @return io.github.chikitlo.common.util.JsonValidator.Result
+     * @throws
+     * @author Jack Lo
+     * @date 2026/10/18 19:54
+     */
+    public static JsonValidator.Result validateJson(byte[] content) {
+        return JSON_VALIDATOR.validate(content);
+    }
+
+    /**
+     * Validate a stream with the default limits and return the error location, if any. The stream is not closed.
+     *
+     * @param source
+     * @return io.github.chikitlo.common.util.JsonValidator.Result
+     * @throws
+     * @author Jack Lo
+     * @date 2026/10/18 19:54
+     */
+    public static JsonValidator.Result validateJson(InputStream source) {
+        return JSON_VALIDATOR.validate(source);
+    }
+
+    /**
+     * Create a validator whose depth, document length, token count and string length limits can be configured.
+     *
+     * @param
+     * @return io.github.chikitlo.common.util.JsonValidator
+     * @throws
+     * @author Jack Lo
+     * @date 2026/10/18 19:55
+     */
+    public static JsonValidator jsonValidator() {
+        return new JsonValidator();
     }
 
     /**
@@ -276,8 +642,161 @@ public final class JsonUtils {
             return Collections.emptyList();
         }
 
-        CollectionType collectionType = OBJECT_MAPPER.getTypeFactory().constructCollectionType(ArrayList.class, clazz);
-        return OBJECT_MAPPER.readValue(json, collectionType);
+        return defaultProfile.listReader(clazz).readValue(json);
+    }
+
+    /**
+     * Create an incremental reader of a large JSON array, binding one element of the given class at a time.
+     *
+     * @param clazz
+     * @return io.github.chikitlo.common.util.JsonArrayReader<T>
+     * @throws
+     * @author Jack Lo
+     * @date 2026/10/18 19:24
+     */
+    public static <T> JsonArrayReader<T> arrayReader(Class<T> clazz) {
+        return new JsonArrayReader<>(defaultProfile.reader(clazz));
+    }
+
+    /**
+     * Create an incremental reader of a large JSON array, binding one element of the given generic type at a time.
+     *
+     * @param typeReference
+     * @return io.github.chikitlo.common.util.JsonArrayReader<T>
+     * @throws
+     * @author Jack Lo
+     * @date 2026/10/18 19:24
+     */
+    public static <T> JsonArrayReader<T> arrayReader(TypeReference<T> typeReference) {
+        return new JsonArrayReader<>(defaultProfile.reader(typeReference));
+    }
+
+    /**
+     * Create a parallel reader of JSON Lines records of the given class.
+     *
+     * @param clazz
+     * @return io.github.chikitlo.common.util.JsonLinesReader<T>
+     * @throws
+     * @author Jack Lo
+     * @date 2026/10/18 19:35
+     */
+    public static <T> JsonLinesReader<T> linesReader(Class<T> clazz) {
+        return new JsonLinesReader<>(defaultProfile.reader(clazz));
+    }
+
+    /**
+     * Create a parallel reader of JSON Lines records of the given generic type.
+     *
+     * @param typeReference
+     * @return io.github.chikitlo.common.util.JsonLinesReader<T>
+     * @throws
+     * @author Jack Lo
+     * @date 2026/10/18 19:35
+     */
+    public static <T> JsonLinesReader<T> linesReader(TypeReference<T> typeReference) {
+        return new JsonLinesReader<>(defaultProfile.reader(typeReference));
+    }
+
+    /**
+     * Create a thread-safe JSON Lines writer on an output stream, which is closed with the writer.
+     *
+     * @param out
+     * @return io.github.chikitlo.common.util.JsonLinesWriter
+     * @throws
+     * @author Jack Lo
+     * @date 2026/10/18 19:35
+     */
+    public static JsonLinesWriter linesWriter(OutputStream out) {
+        return new JsonLinesWriter(out, JSON_LINES_BATCH_SIZE);
+    }
+
+    /**
+     * Create a thread-safe JSON Lines writer on an output stream, writing in batches of about the given size in bytes.
+     *
+     * @param out
+     * @param batchSize
+     * @return io.github.chikitlo.common.util.JsonLinesWriter
+     * @throws
+     * @author Jack Lo
+     * @date 2026/10/18 19:35
+     */
+    public static JsonLinesWriter linesWriter(OutputStream out, int batchSize) {
+        return new JsonLinesWriter(out, batchSize);
+    }
+
+    /**
+     * Create a thread-safe JSON Lines writer on a file, created or truncated.
+     *
+     * @param path
+     * @return io.github.chikitlo.common.util.JsonLinesWriter
+     * @throws java.io.UncheckedIOException if the file cannot be opened
+     * @author Jack Lo
+     * @date 2026/10/18 19:36
+     */
+    public static JsonLinesWriter linesWriter(Path path) {
+        try {
+            return new JsonLinesWriter(Files.newOutputStream(path), JSON_LINES_BATCH_SIZE);
+        } catch (IOException e) {
+            throw new UncheckedIOException("Failed to open " + path, e);
+        }
+    }
+
+    /**
+     * Index a JSON string into a compact read-only document on the heap.
+     *
+     * @param json
+     * @return io.github.chikitlo.common.util.CompactJsonDocument
+     * @throws tools.jackson.core.JacksonException if the JSON is malformed
+     * @author Jack Lo
+     * @date 2026/10/18 20:31
+     */
+    public static CompactJsonDocument compactDocument(String json) {
+        return CompactJsonDocument.build(json.getBytes(StandardCharsets.UTF_8), false);
+    }
+
+    /**
+     * Index UTF-8 JSON into a compact read-only document, on the heap or off-heap.
+     *
+     * @param json
+     * @param offHeap
+     * @return io.github.chikitlo.common.util.CompactJsonDocument
+     * @throws tools.jackson.core.JacksonException if the JSON is malformed
+     * @author Jack Lo
+     * @date 2026/10/18 20:31
+     */
+    public static CompactJsonDocument compactDocument(byte[] json, boolean offHeap) {
+        return CompactJsonDocument.build(json, offHeap);
+    }
+
+    /**
+     * Index a JSON file into a compact read-only document, on the heap or off-heap.
+     *
+     * @param path
+     * @param offHeap
+     * @return io.github.chikitlo.common.util.CompactJsonDocument
+     * @throws java.io.UncheckedIOException if the file cannot be read
+     * @author Jack Lo
+     * @date 2026/10/18 20:31
+     */
+    public static CompactJsonDocument compactDocument(Path path, boolean offHeap) {
+        try {
+            return CompactJsonDocument.build(Files.readAllBytes(path), offHeap);
+        } catch (IOException e) {
+            throw new UncheckedIOException("Failed to read " + path, e);
+        }
+    }
+
+    /**
+     * Memory-map a compact document saved with {@link CompactJsonDocument#save(Path)}, without parsing it again.
+     *
+     * @param path
+     * @return io.github.chikitlo.common.util.CompactJsonDocument
+     * @throws java.io.UncheckedIOException if the file cannot be mapped
+     * @author Jack Lo
+     * @date 2026/10/18 20:31
+     */
+    public static CompactJsonDocument mapCompactDocument(Path path) {
+        return CompactJsonDocument.map(path);
     }
 
     /**
@@ -311,12 +830,13 @@ public final class JsonUtils {
             return Collections.emptyMap();
         }
 
-        MapType mapType = OBJECT_MAPPER.getTypeFactory().constructMapType(HashMap.class, keyClass, valueClass);
-        return OBJECT_MAPPER.readValue(json, mapType);
+        return defaultProfile.mapReader(keyClass, valueClass).readValue(json);
     }
 
     /**
-     * From a key-value JSON string, obtain the value for the given key as a string.
+     * From a key-value JSON string, obtain the value for the given key as a string, with the precedence of
+     * {@link JsonNode#findValue(String)}. The document is streamed and only read until no other occurrence of the key
+     * can take precedence.
      *
      * @param json
      * @param propertyName
@@ -326,8 +846,83 @@ public final class JsonUtils {
      * @date 2025/12/20 18:56
      */
     public static String getValue(String json, String propertyName) {
-        JsonNode jsonNode = OBJECT_MAPPER.readTree(json).findValue(propertyName);
-        return jsonNode == null ? null : jsonNode.asString();
+        return new JsonFieldExtractor(defaultProfile.reader(JsonNode.class), List.of(propertyName), false)
+                .extract(json)
+                .get(propertyName);
+    }
+
+    /**
+     * From UTF-8 JSON bytes, obtain the value for the given key as a string, like {@link #getValue(String, String)}.
+     *
+     * @param content
+     * @param propertyName
+     * @return java.lang.String
+     * @throws
+     * @author Jack Lo
+     * @date 2026/10/18 19:44
+     */
+    public static String getValue(byte[] content, String propertyName) {
+        if (content == null) {
+            log.error("JSON content is null");
+            return null;
+        }
+
+        return new JsonFieldExtractor(defaultProfile.reader(JsonNode.class), List.of(propertyName), false)
+                .extract(content)
+                .get(propertyName);
+    }
+
+    /**
+     * Obtain several values in one pass. Targets starting with {@code /} are JSON Pointers, others property names.
+     *
+     * @param json
+     * @param targets
+     * @return java.util.Map<java.lang.String,java.lang.String> the values by target, targets not found are absent
+     * @throws
+     * @author Jack Lo
+     * @date 2026/10/18 19:45
+     */
+    public static Map<String, String> getValues(String json, String... targets) {
+        if (StringUtils.isEmpty(json)) {
+            log.error("JSON string is empty");
+            return Collections.emptyMap();
+        }
+
+        return fieldExtractor(targets).extract(json);
+    }
+
+    /**
+     * Obtain several values from UTF-8 JSON bytes in one pass. Targets starting with {@code /} are JSON Pointers,
+     * others property names.
+     *
+     * @param content
+     * @param targets
+     * @return java.util.Map<java.lang.String,java.lang.String> the values by target, targets not found are absent
+     * @throws
+     * @author Jack Lo
+     * @date 2026/10/18 19:45
+     */
+    public static Map<String, String> getValues(byte[] content, String... targets) {
+        if (content == null) {
+            log.error("JSON content is null");
+            return Collections.emptyMap();
+        }
+
+        return fieldExtractor(targets).extract(content);
+    }
+
+    /**
+     * Create a reusable, thread-safe extractor of the given property names and JSON Pointers, for hot paths such as
+     * filters that peek at every payload.
+     *
+     * @param targets
+     * @return io.github.chikitlo.common.util.JsonFieldExtractor
+     * @throws
+     * @author Jack Lo
+     * @date 2026/10/18 19:45
+     */
+    public static JsonFieldExtractor fieldExtractor(String... targets) {
+        return new JsonFieldExtractor(defaultProfile.reader(JsonNode.class), Arrays.asList(targets));
     }
 
     /**
@@ -340,11 +935,11 @@ public final class JsonUtils {
      * @date 2025/12/20 18:58
      */
     public static String toJsonString(Object obj) {
-        return OBJECT_MAPPER.writeValueAsString(obj);
+        return defaultProfile.toJsonString(obj);
     }
 
     /**
-     * Serialize an object to JSON bytes.
+     * Serialize an object to UTF-8 JSON bytes, encoded once without an intermediate {@link String}.
      *
      * @param obj
      * @return byte[]
@@ -358,6 +953,152 @@ public final class JsonUtils {
             return null;
         }
 
-        return toJsonString(obj).getBytes(StandardCharsets.UTF_8);
+        return defaultProfile.toJsonBytes(obj);
+    }
+
+    /**
+     * Serialize an object as UTF-8 straight to an {@link OutputStream}. The stream is flushed but not closed.
+     *
+     * @param obj
+     * @param out
+     * @return
+     * @throws
+     * @author Jack Lo
+     * @date 2026/10/18 19:15
+     */
+    public static void writeJson(Object obj, OutputStream out) {
+        if (out == null) {
+            log.error("OutputStream is null");
+            return;
+        }
+
+        defaultProfile.writerForValue(obj).writeValue(out, obj);
+    }
+
+    /**
+     * Serialize an object as UTF-8 straight to a blocking {@link WritableByteChannel}. The channel is not closed.
+     *
+     * @param obj
+     * @param channel
+     * @return
+     * @throws
+     * @author Jack Lo
+     * @date 2026/10/18 19:16
+     */
+    public static void writeJson(Object obj, WritableByteChannel channel) {
+        if (channel == null) {
+            log.error("Channel is null");
+            return;
+        }
+
+        writeJson(obj, Channels.newOutputStream(channel));
+    }
+
+    /**
+     * Serialize an object as UTF-8 into a caller-supplied {@link ByteBuffer}, starting at its position.
+     *
+     * @param obj
+     * @param target
+     * @return int the number of bytes written, the position of the target is advanced by the same amount
+     * @throws java.nio.BufferOverflowException if the remaining space is too small, the target then holds a partial document
+     * @author Jack Lo
+     * @date 2026/10/18 19:16
+     */
+    public static int writeJson(Object obj, ByteBuffer target) {
+        int start = target.position();
+        defaultProfile.writerForValue(obj).writeValue(new ByteBufferOutputStream(target), obj);
+        return target.position() - start;
+    }
+
+    /**
+     * Serialize an object into a reusable per-thread buffer and hand the UTF-8 bytes to a handler as a read-only
+     * {@link ByteBuffer}, without allocating a {@code byte[]} or {@link String} per call.
+     * <p>
+     * The buffer is only valid during the handler call: it must be consumed (written to a channel, copied into a
+     * request body, ...) before returning and must not be retained. Nested calls on the same thread get their own
+     * buffer.
+     * </p>
+     *
+     * @param obj
+     * @param handler
+     * @return R the result of the handler
+     * @throws
+     * @author Jack Lo
+     * @date 2026/10/18 19:17
+     */
+    public static <R> R withJsonBytes(Object obj, Function<ByteBuffer, R> handler) {
+        PooledBuffer buffer = POOLED_BUFFERS.get();
+        if (buffer.inUse) {
+            buffer = new PooledBuffer();
+        }
+
+        buffer.inUse = true;
+        try {
+            defaultProfile.writerForValue(obj).writeValue(buffer, obj);
+            return handler.apply(ByteBuffer.wrap(buffer.bytes, 0, buffer.count).asReadOnlyBuffer());
+        } finally {
+            buffer.release();
+        }
+    }
+
+    /**
+     * Growable, unsynchronized byte sink reused by {@link #withJsonBytes(Object, Function)}. Buffers grown beyond
+     * {@link #POOLED_BUFFER_MAX_RETAINED_SIZE} are dropped on release so one large payload does not pin memory.
+     */
+    private static final class PooledBuffer extends OutputStream {
+        private byte[] bytes = new byte[POOLED_BUFFER_INITIAL_SIZE];
+        private int count;
+        private boolean inUse;
+
+        @Override
+        public void write(int b) {
+            ensureCapacity(count + 1);
+            bytes[count++] = (byte) b;
+        }
+
+        @Override
+        public void write(byte[] b, int off, int len) {
+            ensureCapacity(count + len);
+            System.arraycopy(b, off, bytes, count, len);
+            count += len;
+        }
+
+        private void ensureCapacity(int minCapacity) {
+            if (minCapacity < 0) {
+                throw new OutOfMemoryError("JSON payload exceeds the maximum array size");
+            }
+            if (minCapacity > bytes.length) {
+                bytes = Arrays.copyOf(bytes, Math.max(minCapacity, bytes.length << 1));
+            }
+        }
+
+        private void release() {
+            count = 0;
+            inUse = false;
+            if (bytes.length > POOLED_BUFFER_MAX_RETAINED_SIZE) {
+                bytes = new byte[POOLED_BUFFER_INITIAL_SIZE];
+            }
+        }
+    }
+
+    /**
+     * {@link OutputStream} view of a {@link ByteBuffer}, the generator already buffers so writes arrive in chunks.
+     */
+    private static final class ByteBufferOutputStream extends OutputStream {
+        private final ByteBuffer target;
+
+        private ByteBufferOutputStream(ByteBuffer target) {
+            this.target = target;
+        }
+
+        @Override
+        public void write(int b) {
+            target.put((byte) b);
+        }
+
+        @Override
+        public void write(byte[] b, int off, int len) {
+            target.put(b, off, len);
+        }
     }
 }
\ No newline at end of file
@@ -0,0 +1,272 @@
+package io.github.chikitlo.common.util;
+
+import tools.jackson.core.JacksonException;
+import tools.jackson.core.JsonParser;
+import tools.jackson.core.JsonToken;
+import tools.jackson.core.ObjectReadContext;
+import tools.jackson.core.StreamReadConstraints;
+import tools.jackson.core.StreamReadFeature;
+import tools.jackson.core.TokenStreamLocation;
+import tools.jackson.core.json.JsonFactory;
+
+import java.io.FilterInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.function.Supplier;
+
+/**
+ * Bounded JSON well-formedness check.
+ * <p>
+ * Only walks the token stream: no tree is built, and string values are skipped by the tokenizer without being decoded
+ * unless a string length limit is set. The nesting depth, document length, token count and string length can be
+ * limited, so validating a large or hostile body costs at most one pass over the limited input. Failures are returned
+ * as a {@link Result} with the error location rather than logged or thrown.
+ * </p>
+ * <p>
+ * As before with {@code readTree}, empty or blank input is valid and has no tokens. Trailing content after the root
+ * value is an error.
+ * </p>
+ *
+ * @author Jack Lo
+ * @version 1.0
+ * @date 2026/10/18 19:50
+ */
+public final class JsonValidator {
+    private int maxDepth = StreamReadConstraints.DEFAULT_MAX_DEPTH;
+    private long maxDocumentLength = StreamReadConstraints.DEFAULT_MAX_DOC_LEN;
+    private long maxTokenCount = StreamReadConstraints.DEFAULT_MAX_TOKEN_COUNT;
+    private int maxStringLength = -1;
+    private JsonFactory jsonFactory;
+
+    JsonValidator() {
+        this.jsonFactory = buildFactory();
+    }
+
+    public JsonValidator maxDepth(int maxDepth) {
+        if (maxDepth < 1) {
+            throw new IllegalArgumentException("Max depth must be positive");
+        }
+        this.maxDepth = maxDepth;
+        this.jsonFactory = buildFactory();
+        return this;
+    }
+
+    /**
+     * Maximum document length, in bytes for binary input and in chars for strings.
+     */
+    public JsonValidator maxDocumentLength(long maxDocumentLength) {
+        if (maxDocumentLength < 1) {
+            throw new IllegalArgumentException("Max document length must be positive");
+        }
+        this.maxDocumentLength = maxDocumentLength;
+        this.jsonFactory = buildFactory();
+        return this;
+    }
+
+    public JsonValidator maxTokenCount(long maxTokenCount) {
+        if (maxTokenCount < 1) {
+            throw new IllegalArgumentException("Max token count must be positive");
+        }
+        this.maxTokenCount = maxTokenCount;
+        this.jsonFactory = buildFactory();
+        return this;
+    }
+
+    /**
+     * Maximum length of string values and property names. Setting it makes string values be decoded to be measured.
+     */
+    public JsonValidator maxStringLength(int maxStringLength) {
+        if (maxStringLength < 1) {
+            throw new IllegalArgumentException("Max string length must be positive");
+        }
+        this.maxStringLength = maxStringLength;
+        this.jsonFactory = buildFactory();
+        return this;
+    }
+
+    /**
+     * Outcome of a validation.
+     *
+     * @param valid
+     * @param error   null when valid
+     * @param offset  byte offset for binary input, char offset for strings, -1 when valid or unknown
+     * @param line    1-based, -1 when valid or unknown
+     * @param column  1-based, -1 when valid or unknown
+     * @param tokens  number of tokens read
+     */
+    public record Result(boolean valid, String error, long offset, int line, int column, long tokens) {
+    }
+
+    /**
+     * Validate a JSON string.
+     *
+     * @param json
+     * @return io.github.chikitlo.common.util.JsonValidator.Result
+     * @throws
+     * @author Jack Lo
+     * @date 2026/10/18 19:52
+     */
+    public Result validate(String json) {
+        if (json == null) {
+            return new Result(false, "Content is null", -1, -1, -1, 0);
+        }
+        if (maxDocumentLength > 0 && json.length() > maxDocumentLength) {
+            return new Result(false, "Document length exceeds the maximum of " + maxDocumentLength, maxDocumentLength, -1, -1, 0);
+        }
+
+        return walk(() -> jsonFactory.createParser(ObjectReadContext.empty(), json));
+    }
+
+    /**
+     * Validate UTF-8 JSON bytes.
+     *
+     * @param content
+     * @return io.github.chikitlo.common.util.JsonValidator.Result
+     * @throws
+     * @author Jack Lo
+     * @date 2026/10/18 19:52
+     */
+    public Result validate(byte[] content) {
+        if (content == null) {
+            return new Result(false, "Content is null", -1, -1, -1, 0);
+        }
+        if (maxDocumentLength > 0 && content.length > maxDocumentLength) {
+            return new Result(false, "Document length exceeds the maximum of " + maxDocumentLength, maxDocumentLength, -1, -1, 0);
+        }
+
+        return walk(() -> jsonFactory.createParser(ObjectReadContext.empty(), content));
+    }
+
+    /**
+     * Validate a JSON stream, reading at most one byte past the maximum document length. The stream is not closed.
+     *
+     * @param source
+     * @return io.github.chikitlo.common.util.JsonValidator.Result
+     * @throws
+     * @author Jack Lo
+     * @date 2026/10/18 19:52
+     */
+    public Result validate(InputStream source) {
+        if (source == null) {
+            return new Result(false, "Content is null", -1, -1, -1, 0);
+        }
+
+        // The parser only checks the length per buffer load and reports its location past the end of the input, the
+        // bounded stream stops at the limit itself.
+        if (maxDocumentLength <= 0) {
+            return walk(() -> jsonFactory.createParser(ObjectReadContext.empty(), source));
+        }
+
+        BoundedInputStream bounded = new BoundedInputStream(source, maxDocumentLength);
+        Result result = walk(() -> jsonFactory.createParser(ObjectReadContext.empty(), bounded));
+        if (bounded.exceeded) {
+            return new Result(false, "Document length exceeds the maximum of " + maxDocumentLength, maxDocumentLength, -1, -1, result.tokens());
+        }
+
+        return result;
+    }
+
+    private Result walk(Supplier<JsonParser> parserSupplier) {
+        long tokens = 0;
+        JsonParser parser = null;
+        try {
+            parser = parserSupplier.get();
+            JsonToken token;
+            while ((token = parser.nextToken()) != null) {
+                tokens++;
+                if (maxStringLength > 0 && token == JsonToken.VALUE_STRING && parser.getStringLength() > maxStringLength) {
+                    return failure("String value length exceeds the maximum of " + maxStringLength, parser.currentTokenLocation(), tokens);
+                }
+
+                if (!token.isStructStart() && parser.streamReadContext().inRoot()) {
+                    // The root value is complete, only whitespace may follow.
+                    if (parser.nextToken() != null) {
+                        return failure("Trailing token " + parser.currentToken() + " after the root value", parser.currentTokenLocation(), tokens + 1);
+                    }
+                    break;
+                }
+            }
+
+            return new Result(true, null, -1, -1, -1, tokens);
+        } catch (JacksonException e) {
+            // Constraint violations carry no location, the parser still knows where it stopped.
+            TokenStreamLocation location = e.getLocation() != null || parser == null ? e.getLocation() : parser.currentLocation();
+            return failure(e.getOriginalMessage(), location, tokens);
+        } finally {
+            if (parser != null) {
+                parser.close();
+            }
+        }
+    }
+
+    private static Result failure(String error, TokenStreamLocation location, long tokens) {
+        if (location == null) {
+            return new Result(false, error, -1, -1, -1, tokens);
+        }
+
+        long offset = location.getByteOffset() >= 0 ? location.getByteOffset() : location.getCharOffset();
+        return new Result(false, error, offset, location.getLineNr(), location.getColumnNr(), tokens);
+    }
+
+    private JsonFactory buildFactory() {
+        StreamReadConstraints.Builder constraints = StreamReadConstraints.builder()
+                .maxNestingDepth(maxDepth)
+                .maxDocumentLength(maxDocumentLength)
+                .maxTokenCount(maxTokenCount);
+        if (maxStringLength > 0) {
+            constraints.maxStringLength(maxStringLength).maxNameLength(maxStringLength);
+        }
+
+        return JsonFactory.builder()
+                .streamReadConstraints(constraints.build())
+                .disable(StreamReadFeature.AUTO_CLOSE_SOURCE)
+                .build();
+    }
+
+    /**
+     * Stream ending at the given length, recording whether the source had more.
+     */
+    private static final class BoundedInputStream extends FilterInputStream {
+        private long remaining;
+        private boolean exceeded;
+
+        private BoundedInputStream(InputStream in, long limit) {
+            super(in);
+            this.remaining = limit;
+        }
+
+        @Override
+        public int read() throws IOException {
+            if (remaining <= 0) {
+                return atLimit();
+            }
+
+            int b = in.read();
+            if (b >= 0) {
+                remaining--;
+            }
+            return b;
+        }
+
+        @Override
+        public int read(byte[] b, int off, int len) throws IOException {
+            if (len == 0) {
+                return 0;
+            }
+            if (remaining <= 0) {
+                return atLimit();
+            }
+
+            int read = in.read(b, off, (int) Math.min(len, remaining));
+            if (read > 0) {
+                remaining -= read;
+            }
+            return read;
+        }
+
+        private int atLimit() throws IOException {
+            exceeded |= in.read() >= 0;
+            return -1;
+        }
+    }
+}
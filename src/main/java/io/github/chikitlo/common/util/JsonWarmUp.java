@@ -0,0 +1,238 @@
+package io.github.chikitlo.common.util;
+
+import lombok.extern.slf4j.Slf4j;
+import tools.jackson.core.type.TypeReference;
+import tools.jackson.databind.JavaType;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.lang.reflect.Modifier;
+import java.lang.reflect.Type;
+import java.net.JarURLConnection;
+import java.net.URISyntaxException;
+import java.net.URL;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.EnumSet;
+import java.util.Enumeration;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.jar.JarEntry;
+import java.util.jar.JarFile;
+import java.util.stream.Stream;
+
+/**
+ * Startup warm-up of the {@link JsonUtils} profiles.
+ * <p>
+ * Jackson introspects a class and builds its (de)serializers on the first use of the type, which lands on the first
+ * requests after a deploy. The warm-up pre-resolves the cached reader and writer of each type in every requested
+ * {@link DataFormat}, then exercises them once by reading an empty object or array and writing the result back, so
+ * the lazily created parts and the hot code paths are also initialized. Types that cannot be exercised this way are
+ * still pre-resolved; failures are counted, never thrown.
+ * </p>
+ *
+ * @author Jack Lo
+ * @version 1.0
+ * @date 2026/10/18 20:05
+ */
+@Slf4j
+public final class JsonWarmUp {
+    private static final String CLASS_SUFFIX = ".class";
+
+    private final Set<Type> types = new LinkedHashSet<>();
+    private final Set<DataFormat> formats = EnumSet.of(DataFormat.JSON);
+    private boolean parallel;
+
+    JsonWarmUp() {
+
+    }
+
+    public JsonWarmUp classes(Class<?>... classes) {
+        Collections.addAll(types, classes);
+        return this;
+    }
+
+    public JsonWarmUp types(TypeReference<?>... typeReferences) {
+        for (TypeReference<?> typeReference : typeReferences) {
+            types.add(typeReference.getType());
+        }
+        return this;
+    }
+
+    /**
+     * Add the concrete top-level and static nested classes of packages and their sub-packages, found in directories or
+     * jars of the context class loader.
+     */
+    public JsonWarmUp packages(String... packageNames) {
+        for (String packageName : packageNames) {
+            types.addAll(scan(packageName));
+        }
+        return this;
+    }
+
+    /**
+     * Formats to warm up, {@link DataFormat#JSON} only by default.
+     */
+    public JsonWarmUp formats(DataFormat... dataFormats) {
+        formats.clear();
+        Collections.addAll(formats, dataFormats);
+        return this;
+    }
+
+    public JsonWarmUp parallel(boolean parallel) {
+        this.parallel = parallel;
+        return this;
+    }
+
+    /**
+     * Outcome of a warm-up.
+     *
+     * @param types         number of types
+     * @param exercised     number of type and format pairs serialized and deserialized once
+     * @param failed        number of type and format pairs that could not be resolved
+     * @param elapsedMillis wall-clock duration
+     */
+    public record Report(int types, int exercised, int failed, long elapsedMillis) {
+    }
+
+    /**
+     * Pre-resolve and exercise every registered type.
+     *
+     * @param
+     * @return io.github.chikitlo.common.util.JsonWarmUp.Report
+     * @throws
+     * @author Jack Lo
+     * @date 2026/10/18 20:07
+     */
+    public Report run() {
+        long startTime = System.currentTimeMillis();
+        AtomicInteger exercised = new AtomicInteger();
+        AtomicInteger failed = new AtomicInteger();
+
+        List<JsonProfile> profiles = formats.stream().map(JsonUtils::profile).toList();
+        Stream<Type> stream = parallel ? new ArrayList<>(types).parallelStream() : types.stream();
+        stream.forEach(type -> profiles.forEach(profile -> {
+            try {
+                if (warmUp(profile, type)) {
+                    exercised.incrementAndGet();
+                }
+            } catch (RuntimeException | LinkageError e) {
+                failed.incrementAndGet();
+                log.warn("Failed to warm up {} for {}: {}", profile.getName(), type.getTypeName(), e.getMessage());
+            }
+        }));
+
+        Report report = new Report(types.size(), exercised.get(), failed.get(), System.currentTimeMillis() - startTime);
+        log.info("JSON warm-up of {} types in {} finished in {}ms, exercised={}, failed={}", report.types(), formats, report.elapsedMillis(), report.exercised(), report.failed());
+        return report;
+    }
+
+    private static boolean warmUp(JsonProfile profile, Type type) {
+        JavaType javaType = profile.getObjectMapper().getTypeFactory().constructType(type);
+        profile.reader(type);
+        profile.writerFor(javaType.getRawClass());
+
+        String emptyJson = emptyJson(javaType);
+        if (emptyJson == null) {
+            return false;
+        }
+
+        // Bind the empty value from JSON, then round-trip it in the profile's own format.
+        try {
+            Object value = JsonUtils.getDefaultProfile().reader(type).readValue(emptyJson);
+            profile.reader(type).readValue(profile.toJsonBytes(value));
+            return true;
+        } catch (RuntimeException e) {
+            log.debug("Could not exercise {} in {}: {}", type.getTypeName(), profile.getName(), e.getMessage());
+            return false;
+        }
+    }
+
+    private static String emptyJson(JavaType javaType) {
+        if (javaType.isArrayType() || javaType.isCollectionLikeType()) {
+            return "[]";
+        }
+        if (javaType.isMapLikeType()) {
+            return "{}";
+        }
+
+        Class<?> rawClass = javaType.getRawClass();
+        if (!javaType.isConcrete() || rawClass.isEnum() || rawClass.isPrimitive() || rawClass.getName().startsWith("java.")) {
+            return null;
+        }
+
+        return "{}";
+    }
+
+    private static List<Class<?>> scan(String packageName) {
+        ClassLoader classLoader = Thread.currentThread().getContextClassLoader();
+        if (classLoader == null) {
+            classLoader = JsonWarmUp.class.getClassLoader();
+        }
+
+        String packagePath = packageName.replace('.', '/');
+        Set<String> classNames = new LinkedHashSet<>();
+        try {
+            Enumeration<URL> resources = classLoader.getResources(packagePath);
+            while (resources.hasMoreElements()) {
+                URL resource = resources.nextElement();
+                if ("file".equals(resource.getProtocol())) {
+                    Path root = Paths.get(resource.toURI());
+                    try (Stream<Path> files = Files.walk(root)) {
+                        files.map(file -> root.relativize(file).toString().replace(root.getFileSystem().getSeparator(), "/"))
+                                .filter(name -> name.endsWith(CLASS_SUFFIX))
+                                .forEach(name -> classNames.add(packagePath + "/" + name));
+                    }
+                } else if ("jar".equals(resource.getProtocol())) {
+                    JarURLConnection connection = (JarURLConnection) resource.openConnection();
+                    connection.setUseCaches(false);
+                    try (JarFile jarFile = connection.getJarFile()) {
+                        jarFile.stream()
+                                .map(JarEntry::getName)
+                                .filter(name -> name.startsWith(packagePath + "/") && name.endsWith(CLASS_SUFFIX))
+                                .forEach(classNames::add);
+                    }
+                }
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException("Failed to scan package " + packageName, e);
+        } catch (URISyntaxException e) {
+            throw new IllegalArgumentException("Failed to scan package " + packageName, e);
+        }
+
+        List<Class<?>> classes = new ArrayList<>();
+        for (String classFile : classNames) {
+            String className = classFile.substring(0, classFile.length() - CLASS_SUFFIX.length()).replace('/', '.');
+            if (className.endsWith("package-info") || className.endsWith("module-info")) {
+                continue;
+            }
+
+            try {
+                Class<?> clazz = Class.forName(className, false, classLoader);
+                if (isWarmUpCandidate(clazz)) {
+                    classes.add(clazz);
+                }
+            } catch (ClassNotFoundException | LinkageError e) {
+                log.debug("Skipped {} during warm-up scan: {}", className, e.getMessage());
+            }
+        }
+
+        log.info("Found {} classes to warm up in package {}", classes.size(), packageName);
+        return classes;
+    }
+
+    private static boolean isWarmUpCandidate(Class<?> clazz) {
+        return !clazz.isInterface()
+                && !clazz.isAnnotation()
+                && !clazz.isAnonymousClass()
+                && !clazz.isLocalClass()
+                && !clazz.isSynthetic()
+                && !Modifier.isAbstract(clazz.getModifiers())
+                && (!clazz.isMemberClass() || Modifier.isStatic(clazz.getModifiers()));
+    }
+}
@@ -0,0 +1,218 @@
+package io.github.chikitlo.common.util;
+
+import lombok.extern.slf4j.Slf4j;
+import software.amazon.awssdk.core.exception.SdkException;
+
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.*;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+import java.util.function.Function;
+import java.util.function.Predicate;
+
+/**
+ * Bulk executor for blocking S3 operations.
+ * <p>
+ * Runs one task per item on virtual threads when the runtime supports them (Java 21+), otherwise on a cached pool of
+ * daemon platform threads, with at most {@link #maxConcurrency(int)} tasks in flight, by default the connection pool
+ * size of the sync client, see {@link S3Utils#maxConnections(int)}. Execution is scoped like structured concurrency:
+ * {@link #execute(List, Function)} only returns once every task has finished, a fatal failure or the deadline cancels
+ * the siblings still running, and results come back in item order.
+ * </p>
+ * <p>
+ * Cancelled tasks are interrupted and still waited for, also when the calling thread is interrupted, so a task blocked
+ * in a call that ignores interrupts delays the return, and the deadline, until that call completes.
+ * </p>
+ *
+ * @author Jack Lo
+ * @version 1.0
+ * @date 2026/10/18 15:20
+ */
+@Slf4j
+public final class S3BulkExecutor {
+    private static final MethodHandle NEW_VIRTUAL_THREAD_PER_TASK_EXECUTOR = findVirtualThreadPerTaskExecutor();
+    private static final Duration CANCELLATION_LOG_INTERVAL = Duration.ofSeconds(5);
+
+    private int maxConcurrency;
+    private Duration deadline;
+    private Predicate<Throwable> fatalWhen = e -> !(e instanceof SdkException);
+
+    S3BulkExecutor(int maxConcurrency) {
+        maxConcurrency(maxConcurrency);
+    }
+
+    public S3BulkExecutor maxConcurrency(int maxConcurrency) {
+        if (maxConcurrency < 1) {
+            throw new IllegalArgumentException("Max concurrency must be positive");
+        }
+        this.maxConcurrency = maxConcurrency;
+        return this;
+    }
+
+    public S3BulkExecutor deadline(Duration deadline) {
+        this.deadline = deadline;
+        return this;
+    }
+
+    /**
+     * Failures matching the predicate cancel the remaining items. By default only non-SDK exceptions are fatal, so a
+     * missing key or a throttled request fails its own item only.
+     */
+    public S3BulkExecutor fatalWhen(Predicate<Throwable> fatalWhen) {
+        this.fatalWhen = fatalWhen;
+        return this;
+    }
+
+    public static boolean isVirtualThreadSupported() {
+        return NEW_VIRTUAL_THREAD_PER_TASK_EXECUTOR != null;
+    }
+
+    /**
+     * Per-item outcome, in the same position as its item.
+     *
+     * @param index
+     * @param value
+     * @param error null on success
+     */
+    public record Result<R>(int index, R value, Throwable error) {
+        public boolean isSuccess() {
+            return error == null;
+        }
+    }
+
+    /**
+     * Apply a blocking operation to every item concurrently.
+     *
+     * @param items
+     * @param operation
+     * @return java.util.List<io.github.chikitlo.common.util.S3BulkExecutor.Result<R>>
+     * @throws
+     * @author Jack Lo
+     * @date 2026/10/18 15:36
+     */
+    public <I, R> List<Result<R>> execute(List<I> items, Function<? super I, ? extends R> operation) {
+        int size = items.size();
+        AtomicReferenceArray<Result<R>> results = new AtomicReferenceArray<>(size);
+        AtomicReference<Throwable> fatal = new AtomicReference<>();
+        AtomicInteger failed = new AtomicInteger();
+        Semaphore permits = new Semaphore(maxConcurrency);
+        long deadlineNanos = deadline == null ? Long.MAX_VALUE : System.nanoTime() + deadline.toNanos();
+        long startTime = System.currentTimeMillis();
+
+        ExecutorService executor = newExecutor();
+        boolean interrupted = false;
+        try {
+            for (int i = 0; i < size && fatal.get() == null; i++) {
+                if (!permits.tryAcquire(remainingNanos(deadlineNanos), TimeUnit.NANOSECONDS)) {
+                    break;
+                }
+
+                int index = i;
+                try {
+                    executor.execute(() -> {
+                        try {
+                            results.set(index, new Result<>(index, operation.apply(items.get(index)), null));
+                        } catch (Throwable e) {
+                            results.set(index, new Result<>(index, null, e));
+                            failed.incrementAndGet();
+                            if (fatalWhen.test(e) && fatal.compareAndSet(null, e)) {
+                                log.error("Fatal failure on item {}, cancelling remaining items: {}", index, e.getMessage());
+                                executor.shutdownNow();
+                            }
+                        } finally {
+                            permits.release();
+                        }
+                    });
+                } catch (RejectedExecutionException e) {
+                    // Shut down by a fatal failure of a sibling.
+                    permits.release();
+                    break;
+                }
+            }
+
+            executor.shutdown();
+            if (!executor.awaitTermination(remainingNanos(deadlineNanos), TimeUnit.NANOSECONDS)) {
+                log.warn("Bulk execution deadline of {} exceeded, cancelling remaining items", deadline);
+                executor.shutdownNow();
+            }
+        } catch (InterruptedException e) {
+            executor.shutdownNow();
+            interrupted = true;
+        }
+        if (awaitTermination(executor) || interrupted) {
+            Thread.currentThread().interrupt();
+        }
+
+        List<Result<R>> ordered = new ArrayList<>(size);
+        int cancelled = 0;
+        for (int i = 0; i < size; i++) {
+            Result<R> result = results.get(i);
+            if (result == null) {
+                result = new Result<>(i, null, new CancellationException(fatal.get() != null ? "Cancelled after a fatal failure" : "Cancelled by deadline"));
+                cancelled++;
+            }
+            ordered.add(result);
+        }
+
+        log.info("Bulk execution of {} items finished in {}ms, failed={}, cancelled={}", size, System.currentTimeMillis() - startTime, failed.get(), cancelled);
+        return ordered;
+    }
+
+    private ExecutorService newExecutor() {
+        if (NEW_VIRTUAL_THREAD_PER_TASK_EXECUTOR != null) {
+            try {
+                return (ExecutorService) NEW_VIRTUAL_THREAD_PER_TASK_EXECUTOR.invokeExact();
+            } catch (Throwable e) {
+                log.warn("Failed to create virtual thread executor, falling back to platform threads: {}", e.getMessage());
+            }
+        }
+
+        AtomicInteger threadNumber = new AtomicInteger();
+        return Executors.newCachedThreadPool(runnable -> {
+            Thread thread = new Thread(runnable, "s3-bulk-" + threadNumber.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        });
+    }
+
+    /**
+     * Wait for every task to finish, including cancelled ones.
+     *
+     * @return whether the waiting thread was interrupted
+     */
+    private static boolean awaitTermination(ExecutorService executor) {
+        boolean interrupted = false;
+        while (true) {
+            try {
+                if (executor.awaitTermination(CANCELLATION_LOG_INTERVAL.toMillis(), TimeUnit.MILLISECONDS)) {
+                    return interrupted;
+                }
+                log.warn("Still waiting for cancelled bulk tasks to finish");
+            } catch (InterruptedException e) {
+                interrupted = true;
+            }
+        }
+    }
+
+    private static long remainingNanos(long deadlineNanos) {
+        return deadlineNanos == Long.MAX_VALUE ? Long.MAX_VALUE : Math.max(0, deadlineNanos - System.nanoTime());
+    }
+
+    private static MethodHandle findVirtualThreadPerTaskExecutor() {
+        try {
+            MethodHandle handle = MethodHandles.publicLookup()
+                    .findStatic(Executors.class, "newVirtualThreadPerTaskExecutor", MethodType.methodType(ExecutorService.class));
+            // Preview builds (Java 19/20) expose the method but throw without --enable-preview.
+            ((ExecutorService) handle.invokeExact()).shutdown();
+            return handle;
+        } catch (Throwable e) {
+            return null;
+        }
+    }
+}
@@ -0,0 +1,366 @@
+package io.github.chikitlo.common.util;
+
+import lombok.extern.slf4j.Slf4j;
+import software.amazon.awssdk.core.exception.SdkException;
+import software.amazon.awssdk.core.sync.RequestBody;
+import software.amazon.awssdk.services.s3.S3AsyncClient;
+import software.amazon.awssdk.services.s3.S3Client;
+import software.amazon.awssdk.services.s3.model.*;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.security.DigestInputStream;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HexFormat;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+
+/**
+ * Content-addressed, deduplicating uploader.
+ * <p>
+ * The source is hashed with SHA-256 first. The payload is stored a single time as a blob named after its hash under a
+ * store prefix, and each target key is a server-side copy of that blob. When the blob is already present (checked with
+ * a cached {@code headObject}) no bytes are transferred; when the target already holds the same content nothing is done
+ * at all. The blob key is only known once the whole source is hashed, so a missing blob is uploaded in a second pass
+ * over the source.
+ * </p>
+ * <p>
+ * Blobs larger than one part are sent as a multipart upload, and targets above the 5 GB limit of a single
+ * {@code copyObject}, or a lower {@link S3Utils#multipartCopyThreshold(long)}, are copied part by part with
+ * {@code uploadPartCopy}, so artifacts of any size supported by S3 can be deduplicated.
+ * </p>
+ * <p>
+ * A blob deleted from the store after it was cached as present fails its copy with a 404: it is then uploaded again.
+ * </p>
+ *
+ * @author Jack Lo
+ * @version 1.0
+ * @date 2026/10/18 16:40
+ */
+@Slf4j
+public final class S3DedupUploader {
+    public static final String CONTENT_SHA256_METADATA = "content-sha256";
+
+    private static final int KNOWN_BLOB_CACHE_SIZE = 10_000;
+    private static final int BUFFER_SIZE = 64 * 1024;
+    private static final int MAX_PARTS = 10_000;
+    private static final long COPY_PART_SIZE = 512L * 1024 * 1024;
+
+    /**
+     * Largest object S3 accepts in a single {@code putObject} or {@code copyObject}.
+     */
+    static final long MAX_SINGLE_REQUEST_SIZE = 5L * 1024 * 1024 * 1024;
+
+    private final S3Client s3Client;
+    private final S3AsyncClient s3AsyncClient;
+    private final int partSize;
+    private final int maxInFlightParts;
+    private final long multipartCopyThreshold;
+    private final Set<String> knownBlobs = Collections.newSetFromMap(Collections.synchronizedMap(new LinkedHashMap<>(16, 0.75f, true) {
+        @Override
+        protected boolean removeEldestEntry(Map.Entry<String, Boolean> eldest) {
+            return size() > KNOWN_BLOB_CACHE_SIZE;
+        }
+    }));
+
+    S3DedupUploader(S3Client s3Client, S3AsyncClient s3AsyncClient, int partSize, int maxInFlightParts, long multipartCopyThreshold) {
+        this.s3Client = s3Client;
+        this.s3AsyncClient = s3AsyncClient;
+        this.partSize = partSize;
+        this.maxInFlightParts = maxInFlightParts;
+        this.multipartCopyThreshold = multipartCopyThreshold;
+    }
+
+    public enum Outcome {
+        /**
+         * The target key already held the same content.
+         */
+        SKIPPED,
+        /**
+         * The blob existed, the target key was server-side copied from it.
+         */
+        COPIED,
+        /**
+         * The blob was uploaded, then copied to the target key.
+         */
+        UPLOADED
+    }
+
+    public record Result(String bucket, String key, String blobKey, String sha256, Outcome outcome) {
+    }
+
+    /**
+     * Upload a local file with deduplication. The file is read once to hash it, and a second time only if the blob is
+     * missing.
+     *
+     * @param bucket
+     * @param key
+     * @param source
+     * @param storePrefix
+     * @return io.github.chikitlo.common.util.S3DedupUploader.Result
+     * @throws
+     * @author Jack Lo
+     * @date 2026/10/18 16:52
+     */
+    public Result upload(String bucket, String key, Path source, String storePrefix) {
+        try (InputStream inputStream = Files.newInputStream(source)) {
+            String sha256 = sha256(inputStream, OutputStream.nullOutputStream());
+            return upload(bucket, key, sha256, storePrefix, source);
+        } catch (IOException e) {
+            log.error("IO error while reading {}: {}", source, e.getMessage());
+            throw SdkException.create("Failed to read upload source", e);
+        }
+    }
+
+    /**
+     * Upload a stream with deduplication. The stream is read once, but it is spooled to a temporary file while hashing,
+     * whether the blob exists or not, so a duplicate costs a local copy of the stream instead of a transfer. The
+     * temporary file is only uploaded if the blob is missing. Prefer {@link #upload(String, String, Path, String)} for
+     * content already in a file.
+     *
+     * @param bucket
+     * @param key
+     * @param source
+     * @param storePrefix
+     * @return io.github.chikitlo.common.util.S3DedupUploader.Result
+     * @throws
+     * @author Jack Lo
+     * @date 2026/10/18 16:58
+     */
+    public Result upload(String bucket, String key, InputStream source, String storePrefix) {
+        Path spoolFile = null;
+        try {
+            spoolFile = Files.createTempFile("s3-dedup-", ".tmp");
+            String sha256;
+            try (OutputStream spool = Files.newOutputStream(spoolFile)) {
+                sha256 = sha256(source, spool);
+            }
+
+            return upload(bucket, key, sha256, storePrefix, spoolFile);
+        } catch (IOException e) {
+            log.error("IO error while spooling upload source: {}", e.getMessage());
+            throw SdkException.create("Failed to spool upload source", e);
+        } finally {
+            if (spoolFile != null) {
+                try {
+                    Files.deleteIfExists(spoolFile);
+                } catch (IOException e) {
+                    log.warn("Failed to delete spool file {}: {}", spoolFile, e.getMessage());
+                }
+            }
+        }
+    }
+
+    /**
+     * Forget the cached existence of blobs, e.g. after the store prefix has been cleaned up.
+     *
+     * @param
+     * @return
+     * @throws
+     * @author Jack Lo
+     * @date 2026/10/18 17:02
+     */
+    public void clearCache() {
+        knownBlobs.clear();
+    }
+
+    private Result upload(String bucket, String key, String sha256, String storePrefix, Path body) throws IOException {
+        String blobKey = storePrefix + sha256;
+        long size = Files.size(body);
+
+        if (!key.equals(blobKey) && sha256.equals(contentSha256(bucket, key))) {
+            log.info("Skipped upload of {}/{}, content {} is already present", bucket, key, sha256);
+            return new Result(bucket, key, blobKey, sha256, Outcome.SKIPPED);
+        }
+
+        Outcome outcome = Outcome.COPIED;
+        if (!blobExists(bucket, blobKey)) {
+            uploadBlob(bucket, blobKey, sha256, body, size);
+            outcome = Outcome.UPLOADED;
+        }
+
+        if (key.equals(blobKey)) {
+            return new Result(bucket, key, blobKey, sha256, outcome);
+        }
+
+        try {
+            copyBlob(bucket, blobKey, key, sha256, size);
+        } catch (S3Exception e) {
+            if (outcome == Outcome.UPLOADED || !isNotFound(e)) {
+                throw e;
+            }
+
+            // The blob was deleted since it was seen, the cached existence is stale.
+            log.warn("Content blob {}/{} is gone, uploading it again", bucket, blobKey);
+            knownBlobs.remove(bucket + "/" + blobKey);
+            uploadBlob(bucket, blobKey, sha256, body, size);
+            outcome = Outcome.UPLOADED;
+            copyBlob(bucket, blobKey, key, sha256, size);
+        }
+        log.info("The content blob {}/{} was copied to {}/{}", bucket, blobKey, bucket, key);
+
+        return new Result(bucket, key, blobKey, sha256, outcome);
+    }
+
+    private void uploadBlob(String bucket, String blobKey, String sha256, Path body, long size) throws IOException {
+        putBlob(bucket, blobKey, sha256, body, size);
+        knownBlobs.add(bucket + "/" + blobKey);
+        log.info("Uploaded content blob {}/{}", bucket, blobKey);
+    }
+
+    private void copyBlob(String bucket, String blobKey, String key, String sha256, long size) {
+        if (size > multipartCopyThreshold) {
+            multipartCopy(bucket, blobKey, key, sha256, size);
+        } else {
+            CopyObjectRequest copyObjectRequest = CopyObjectRequest
+                    .builder()
+                    .sourceBucket(bucket)
+                    .sourceKey(blobKey)
+                    .destinationBucket(bucket)
+                    .destinationKey(key)
+                    .build();
+            s3Client.copyObject(copyObjectRequest);
+        }
+    }
+
+    private void putBlob(String bucket, String blobKey, String sha256, Path body, long size) throws IOException {
+        Map<String, String> metadata = Map.of(CONTENT_SHA256_METADATA, sha256);
+        if (size <= partSize) {
+            PutObjectRequest putObjectRequest = PutObjectRequest
+                    .builder()
+                    .bucket(bucket)
+                    .key(blobKey)
+                    .metadata(metadata)
+                    .build();
+            s3Client.putObject(putObjectRequest, RequestBody.fromFile(body));
+            return;
+        }
+
+        // Grow the parts when the default size would need more than the S3 maximum of parts.
+        int blobPartSize = (int) Math.min(Integer.MAX_VALUE - 8, Math.max(partSize, ceilDiv(size, MAX_PARTS)));
+        S3MultipartOutputStream outputStream = new S3MultipartOutputStream(s3Client, s3AsyncClient, bucket, blobKey, "application/octet-stream",
+                metadata, blobPartSize, maxInFlightParts);
+        try (InputStream inputStream = Files.newInputStream(body)) {
+            inputStream.transferTo(outputStream);
+        } catch (IOException | RuntimeException e) {
+            // Closing would complete a truncated blob under the hash of the whole content.
+            outputStream.abort();
+            throw e;
+        }
+        outputStream.close();
+    }
+
+    private void multipartCopy(String bucket, String blobKey, String key, String sha256, long size) {
+        String uploadId = s3Client.createMultipartUpload(request -> request
+                .bucket(bucket)
+                .key(key)
+                .metadata(Map.of(CONTENT_SHA256_METADATA, sha256))).uploadId();
+        long copyPartSize = Math.max(COPY_PART_SIZE, ceilDiv(size, MAX_PARTS));
+        List<CompletableFuture<CompletedPart>> parts = new ArrayList<>();
+        try {
+            int settled = 0;
+            for (long offset = 0; offset < size; offset += copyPartSize) {
+                if (parts.size() - settled >= maxInFlightParts) {
+                    parts.get(settled++).join();
+                }
+
+                int partNumber = parts.size() + 1;
+                String range = "bytes=" + offset + "-" + (Math.min(size, offset + copyPartSize) - 1);
+                parts.add(s3AsyncClient.uploadPartCopy(request -> request
+                                .sourceBucket(bucket)
+                                .sourceKey(blobKey)
+                                .destinationBucket(bucket)
+                                .destinationKey(key)
+                                .uploadId(uploadId)
+                                .partNumber(partNumber)
+                                .copySourceRange(range))
+                        .thenApply(response -> CompletedPart.builder().partNumber(partNumber).eTag(response.copyPartResult().eTag()).build()));
+            }
+
+            List<CompletedPart> completedParts = parts.stream().map(CompletableFuture::join).toList();
+            s3Client.completeMultipartUpload(request -> request
+                    .bucket(bucket)
+                    .key(key)
+                    .uploadId(uploadId)
+                    .multipartUpload(upload -> upload.parts(completedParts)));
+        } catch (RuntimeException e) {
+            // Parts still copying would be stored after the abort, let them settle first.
+            parts.forEach(part -> part.exceptionally(ex -> null).join());
+            try {
+                s3Client.abortMultipartUpload(request -> request.bucket(bucket).key(key).uploadId(uploadId));
+            } catch (RuntimeException abortException) {
+                log.error("Failed to abort multipart copy {} of {}/{}", uploadId, bucket, key, abortException);
+            }
+            Throwable cause = e instanceof CompletionException && e.getCause() != null ? e.getCause() : e;
+            throw cause instanceof SdkException sdkException ? sdkException : SdkException.create("Failed to copy " + blobKey + " to " + key, cause);
+        }
+    }
+
+    private static long ceilDiv(long dividend, long divisor) {
+        return (dividend + divisor - 1) / divisor;
+    }
+
+    private boolean blobExists(String bucket, String blobKey) {
+        String cacheKey = bucket + "/" + blobKey;
+        if (knownBlobs.contains(cacheKey)) {
+            return true;
+        }
+
+        try {
+            s3Client.headObject(HeadObjectRequest.builder().bucket(bucket).key(blobKey).build());
+            knownBlobs.add(cacheKey);
+            return true;
+        } catch (S3Exception e) {
+            if (isNotFound(e)) {
+                return false;
+            }
+            throw e;
+        }
+    }
+
+    private String contentSha256(String bucket, String key) {
+        try {
+            return s3Client.headObject(HeadObjectRequest.builder().bucket(bucket).key(key).build())
+                    .metadata()
+                    .get(CONTENT_SHA256_METADATA);
+        } catch (S3Exception e) {
+            if (isNotFound(e)) {
+                return null;
+            }
+            throw e;
+        }
+    }
+
+    private static boolean isNotFound(S3Exception e) {
+        return e instanceof NoSuchKeyException || e.statusCode() == 404;
+    }
+
+    private static String sha256(InputStream source, OutputStream sink) throws IOException {
+        MessageDigest digest;
+        try {
+            digest = MessageDigest.getInstance("SHA-256");
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 is not available", e);
+        }
+
+        // Not closed here, the caller owns the source stream.
+        DigestInputStream digestInputStream = new DigestInputStream(source, digest);
+        byte[] buffer = new byte[BUFFER_SIZE];
+        int read;
+        while ((read = digestInputStream.read(buffer)) != -1) {
+            sink.write(buffer, 0, read);
+        }
+
+        return HexFormat.of().formatHex(digest.digest());
+    }
+}
@@ -0,0 +1,435 @@
+package io.github.chikitlo.common.util;
+
+import lombok.extern.slf4j.Slf4j;
+import software.amazon.awssdk.core.exception.SdkException;
+import software.amazon.awssdk.services.s3.S3Client;
+import software.amazon.awssdk.services.s3.model.ListObjectsV2Request;
+import software.amazon.awssdk.services.s3.model.ListObjectsV2Response;
+import software.amazon.awssdk.services.s3.model.S3Object;
+
+import java.io.*;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * Persisted local index of one S3 bucket prefix.
+ * <p>
+ * Keeps key, size, ETag and last-modified of every object under the prefix in sorted primitive arrays, and stores them
+ * on disk in a compact front-coded binary file. {@link #refresh()} only lists keys after the last indexed key
+ * ({@code StartAfter}), so prefixes whose keys grow lexicographically (date/sequence partitioned) cost a few pages per
+ * run; {@link #rebuild()} does a full listing to pick up overwrites and deletions.
+ * </p>
+ * <p>
+ * Queries run against an immutable snapshot and are safe to call concurrently with a refresh.
+ * </p>
+ *
+ * @author Jack Lo
+ * @version 1.0
+ * @date 2026/10/18 10:12
+ */
+@Slf4j
+public final class S3ListingIndex {
+    private static final int MAGIC = 0x53334958;
+    private static final short FORMAT_VERSION = 1;
+    private static final int PAGE_SIZE = 1000;
+
+    private final S3Client s3Client;
+    private final String bucket;
+    private final String prefix;
+    private final Path indexFile;
+
+    private volatile Snapshot snapshot = Snapshot.EMPTY;
+
+    S3ListingIndex(S3Client s3Client, String bucket, String prefix, Path indexFile) {
+        this.s3Client = s3Client;
+        this.bucket = bucket;
+        this.prefix = prefix;
+        this.indexFile = indexFile;
+    }
+
+    /**
+     * One indexed object.
+     *
+     * @param key
+     * @param size
+     * @param eTag
+     * @param lastModified epoch millis
+     */
+    public record Entry(String key, long size, String eTag, long lastModified) {
+    }
+
+    public String getBucket() {
+        return bucket;
+    }
+
+    public String getPrefix() {
+        return prefix;
+    }
+
+    public Path getIndexFile() {
+        return indexFile;
+    }
+
+    public int size() {
+        return snapshot.keys.length;
+    }
+
+    /**
+     * Load the index from disk, ignoring files written for another bucket/prefix or in an unknown format.
+     *
+     * @param
+     * @return boolean true if an index file was loaded
+     * @throws
+     * @author Jack Lo
+     * @date 2026/10/18 10:20
+     */
+    public synchronized boolean load() {
+        if (!Files.isRegularFile(indexFile)) {
+            return false;
+        }
+
+        try (DataInputStream in = new DataInputStream(new BufferedInputStream(Files.newInputStream(indexFile)))) {
+            if (in.readInt() != MAGIC || in.readShort() != FORMAT_VERSION) {
+                log.warn("Ignoring listing index with unknown format: {}", indexFile);
+                return false;
+            }
+            if (!bucket.equals(in.readUTF()) || !prefix.equals(in.readUTF())) {
+                log.warn("Ignoring listing index written for another bucket/prefix: {}", indexFile);
+                return false;
+            }
+
+            int count = in.readInt();
+            Snapshot loaded = new Snapshot(count);
+            String previous = "";
+            for (int i = 0; i < count; i++) {
+                int shared = readVarInt(in);
+                byte[] suffix = new byte[readVarInt(in)];
+                in.readFully(suffix);
+                String key = previous.substring(0, shared) + new String(suffix, StandardCharsets.UTF_8);
+                byte[] eTag = new byte[readVarInt(in)];
+                in.readFully(eTag);
+
+                loaded.keys[i] = key;
+                loaded.sizes[i] = readVarLong(in);
+                loaded.eTags[i] = new String(eTag, StandardCharsets.UTF_8);
+                loaded.lastModified[i] = readVarLong(in);
+                previous = key;
+            }
+
+            snapshot = loaded;
+            log.info("Loaded listing index {}/{} with {} entries from {}", bucket, prefix, count, indexFile);
+            return true;
+        } catch (IOException e) {
+            log.warn("Failed to load listing index {}: {}", indexFile, e.getMessage());
+            return false;
+        }
+    }
+
+    /**
+     * Incrementally refresh the index by listing only keys after the last indexed key, then persist it.
+     *
+     * @param
+     * @return int number of entries added
+     * @throws
+     * @author Jack Lo
+     * @date 2026/10/18 10:31
+     */
+    public synchronized int refresh() {
+        Snapshot current = snapshot;
+        String startAfter = current.keys.length == 0 ? null : current.keys[current.keys.length - 1];
+        List<S3Object> added = listFrom(startAfter);
+        if (added.isEmpty()) {
+            return 0;
+        }
+
+        snapshot = current.append(added);
+        save();
+        log.info("Refreshed listing index {}/{}, added {} entries, total {}", bucket, prefix, added.size(), size());
+        return added.size();
+    }
+
+    /**
+     * Rebuild the index from a full listing, then persist it. Use when existing keys may be overwritten or deleted.
+     *
+     * @param
+     * @return int total number of entries
+     * @throws
+     * @author Jack Lo
+     * @date 2026/10/18 10:35
+     */
+    public synchronized int rebuild() {
+        snapshot = Snapshot.EMPTY.append(listFrom(null));
+        save();
+        log.info("Rebuilt listing index {}/{} with {} entries", bucket, prefix, size());
+        return size();
+    }
+
+    /**
+     * Check whether a key is indexed.
+     *
+     * @param key
+     * @return boolean
+     * @throws
+     * @author Jack Lo
+     * @date 2026/10/18 10:38
+     */
+    public boolean exists(String key) {
+        return snapshot.indexOf(key) >= 0;
+    }
+
+    /**
+     * Get the indexed entry of a key.
+     *
+     * @param key
+     * @return io.github.chikitlo.common.util.S3ListingIndex.Entry, or null if the key is not indexed
+     * @throws
+     * @author Jack Lo
+     * @date 2026/10/18 10:39
+     */
+    public Entry get(String key) {
+        Snapshot current = snapshot;
+        int index = current.indexOf(key);
+        return index < 0 ? null : current.entry(index);
+    }
+
+    /**
+     * List the indexed entries whose key starts with the given prefix, in key order.
+     *
+     * @param keyPrefix
+     * @return java.util.List<io.github.chikitlo.common.util.S3ListingIndex.Entry>
+     * @throws
+     * @author Jack Lo
+     * @date 2026/10/18 10:41
+     */
+    public List<Entry> scanPrefix(String keyPrefix) {
+        Snapshot current = snapshot;
+        int from = current.indexOf(keyPrefix);
+        if (from < 0) {
+            from = -from - 1;
+        }
+
+        List<Entry> entries = new ArrayList<>();
+        for (int i = from; i < current.keys.length && current.keys[i].startsWith(keyPrefix); i++) {
+            entries.add(current.entry(i));
+        }
+
+        return entries;
+    }
+
+    /**
+     * List the indexed entries modified at or after the given instant, in key order.
+     *
+     * @param since
+     * @return java.util.List<io.github.chikitlo.common.util.S3ListingIndex.Entry>
+     * @throws
+     * @author Jack Lo
+     * @date 2026/10/18 10:44
+     */
+    public List<Entry> modifiedSince(Instant since) {
+        Snapshot current = snapshot;
+        long sinceMillis = since.toEpochMilli();
+
+        List<Entry> entries = new ArrayList<>();
+        for (int i = 0; i < current.lastModified.length; i++) {
+            if (current.lastModified[i] >= sinceMillis) {
+                entries.add(current.entry(i));
+            }
+        }
+
+        return entries;
+    }
+
+    /**
+     * List all indexed entries in key order.
+     *
+     * @param
+     * @return java.util.List<io.github.chikitlo.common.util.S3ListingIndex.Entry>
+     * @throws
+     * @author Jack Lo
+     * @date 2026/10/18 10:46
+     */
+    public List<Entry> entries() {
+        Snapshot current = snapshot;
+        List<Entry> entries = new ArrayList<>(current.keys.length);
+        for (int i = 0; i < current.keys.length; i++) {
+            entries.add(current.entry(i));
+        }
+
+        return Collections.unmodifiableList(entries);
+    }
+
+    private List<S3Object> listFrom(String startAfter) {
+        List<S3Object> objects = new ArrayList<>();
+        String continuationToken = null;
+        do {
+            ListObjectsV2Request listReq = ListObjectsV2Request
+                    .builder()
+                    .bucket(bucket)
+                    .prefix(prefix)
+                    .maxKeys(PAGE_SIZE)
+                    .startAfter(continuationToken == null ? startAfter : null)
+                    .continuationToken(continuationToken)
+                    .build();
+
+            ListObjectsV2Response listRes = s3Client.listObjectsV2(listReq);
+            listRes.contents()
+                    .stream()
+                    .filter(item -> !prefix.equals(item.key()))
+                    .forEach(objects::add);
+            continuationToken = Boolean.TRUE.equals(listRes.isTruncated()) ? listRes.nextContinuationToken() : null;
+        } while (continuationToken != null);
+
+        return objects;
+    }
+
+    private void save() {
+        Snapshot current = snapshot;
+        try {
+            Path parent = indexFile.toAbsolutePath().getParent();
+            Files.createDirectories(parent);
+            Path tempFile = Files.createTempFile(parent, indexFile.getFileName().toString(), ".tmp");
+
+            try (DataOutputStream out = new DataOutputStream(new BufferedOutputStream(Files.newOutputStream(tempFile)))) {
+                out.writeInt(MAGIC);
+                out.writeShort(FORMAT_VERSION);
+                out.writeUTF(bucket);
+                out.writeUTF(prefix);
+                out.writeInt(current.keys.length);
+
+                String previous = "";
+                for (int i = 0; i < current.keys.length; i++) {
+                    String key = current.keys[i];
+                    int shared = sharedPrefixLength(previous, key);
+                    byte[] suffix = key.substring(shared).getBytes(StandardCharsets.UTF_8);
+                    byte[] eTag = current.eTags[i].getBytes(StandardCharsets.UTF_8);
+
+                    writeVarInt(out, shared);
+                    writeVarInt(out, suffix.length);
+                    out.write(suffix);
+                    writeVarInt(out, eTag.length);
+                    out.write(eTag);
+                    writeVarLong(out, current.sizes[i]);
+                    writeVarLong(out, current.lastModified[i]);
+                    previous = key;
+                }
+            }
+
+            Files.move(tempFile, indexFile, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+        } catch (IOException e) {
+            log.error("Failed to save listing index {}: {}", indexFile, e.getMessage());
+            throw SdkException.create("Failed to save listing index", e);
+        }
+    }
+
+    private static int sharedPrefixLength(String a, String b) {
+        int max = Math.min(a.length(), b.length());
+        int shared = 0;
+        while (shared < max && a.charAt(shared) == b.charAt(shared)) {
+            shared++;
+        }
+        // Never split a surrogate pair, the suffix must be valid UTF-16 to round-trip through UTF-8.
+        if (shared > 0 && Character.isHighSurrogate(b.charAt(shared - 1))) {
+            shared--;
+        }
+
+        return shared;
+    }
+
+    private static void writeVarInt(DataOutput out, int value) throws IOException {
+        writeVarLong(out, value);
+    }
+
+    private static void writeVarLong(DataOutput out, long value) throws IOException {
+        while ((value & ~0x7FL) != 0) {
+            out.writeByte((int) ((value & 0x7F) | 0x80));
+            value >>>= 7;
+        }
+        out.writeByte((int) value);
+    }
+
+    private static int readVarInt(DataInput in) throws IOException {
+        return (int) readVarLong(in);
+    }
+
+    private static long readVarLong(DataInput in) throws IOException {
+        long value = 0;
+        for (int shift = 0; shift < 64; shift += 7) {
+            byte b = in.readByte();
+            value |= (long) (b & 0x7F) << shift;
+            if ((b & 0x80) == 0) {
+                return value;
+            }
+        }
+
+        throw new IOException("Malformed variable-length number");
+    }
+
+    /**
+     * S3 lists keys in UTF-8 binary order, which equals code point order but not {@link String#compareTo} order.
+     */
+    private static int compareKeys(String a, String b) {
+        int i = 0;
+        int j = 0;
+        while (i < a.length() && j < b.length()) {
+            int ca = a.codePointAt(i);
+            int cb = b.codePointAt(j);
+            if (ca != cb) {
+                return Integer.compare(ca, cb);
+            }
+            i += Character.charCount(ca);
+            j += Character.charCount(cb);
+        }
+
+        return Integer.compare(a.length() - i, b.length() - j);
+    }
+
+    private static final class Snapshot {
+        private static final Snapshot EMPTY = new Snapshot(0);
+
+        private final String[] keys;
+        private final long[] sizes;
+        private final String[] eTags;
+        private final long[] lastModified;
+
+        private Snapshot(int count) {
+            keys = new String[count];
+            sizes = new long[count];
+            eTags = new String[count];
+            lastModified = new long[count];
+        }
+
+        private Snapshot append(List<S3Object> objects) {
+            int count = keys.length;
+            Snapshot next = new Snapshot(count + objects.size());
+            System.arraycopy(keys, 0, next.keys, 0, count);
+            System.arraycopy(sizes, 0, next.sizes, 0, count);
+            System.arraycopy(eTags, 0, next.eTags, 0, count);
+            System.arraycopy(lastModified, 0, next.lastModified, 0, count);
+
+            for (S3Object object : objects) {
+                next.keys[count] = object.key();
+                next.sizes[count] = object.size() == null ? 0L : object.size();
+                next.eTags[count] = object.eTag() == null ? "" : object.eTag();
+                next.lastModified[count] = object.lastModified() == null ? 0L : object.lastModified().toEpochMilli();
+                count++;
+            }
+
+            return next;
+        }
+
+        private int indexOf(String key) {
+            return Arrays.binarySearch(keys, key, S3ListingIndex::compareKeys);
+        }
+
+        private Entry entry(int index) {
+            return new Entry(keys[index], sizes[index], eTags[index], lastModified[index]);
+        }
+    }
+}
@@ -0,0 +1,314 @@
+package io.github.chikitlo.common.util;
+
+import lombok.extern.slf4j.Slf4j;
+import software.amazon.awssdk.core.async.AsyncRequestBody;
+import software.amazon.awssdk.core.exception.SdkException;
+import software.amazon.awssdk.core.sync.RequestBody;
+import software.amazon.awssdk.services.s3.S3AsyncClient;
+import software.amazon.awssdk.services.s3.S3Client;
+import software.amazon.awssdk.services.s3.model.CompletedPart;
+import software.amazon.awssdk.services.s3.model.PutObjectResponse;
+
+import java.io.ByteArrayInputStream;
+import java.io.OutputStream;
+import java.nio.ByteBuffer;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.atomic.AtomicReference;
+
+/**
+ * Output stream writing to an S3 object through a multipart upload.
+ * <p>
+ * Bytes are copied into fixed-size part buffers. A full buffer is sent as the next part with the async client while
+ * the writer fills another one, so producing the data overlaps with uploading it. At most {@code maxInFlightParts}
+ * parts are uploading at a time and a writer blocks until a buffer is returned, which bounds the memory to
+ * {@code (maxInFlightParts + 1) * partSize} whatever the size of the object. Content smaller than one part is sent
+ * with a single {@code putObject} on close.
+ * </p>
+ * <p>
+ * {@link #close()} uploads the last part and completes the upload; {@link #abort()} discards it. A failed part fails
+ * the next write or the close, which aborts the upload so no orphaned parts are left behind. Not thread-safe.
+ * </p>
+ *
+ * @author Jack Lo
+ * @version 1.0
+ * @date 2026/10/18 20:15
+ */
+@Slf4j
+public final class S3MultipartOutputStream extends OutputStream {
+    /**
+     * Smallest part accepted by S3, except for the last one.
+     */
+    public static final int MIN_PART_SIZE = 5 * 1024 * 1024;
+
+    private static final int MAX_PARTS = 10_000;
+
+    private final S3Client s3Client;
+    private final S3AsyncClient s3AsyncClient;
+    private final String bucket;
+    private final String key;
+    private final String contentType;
+    private final Map<String, String> metadata;
+    private final int partSize;
+    private final int maxBuffers;
+
+    private final BlockingQueue<byte[]> freeBuffers;
+    private final List<CompletableFuture<CompletedPart>> parts = new ArrayList<>();
+    private final AtomicReference<Throwable> failure = new AtomicReference<>();
+
+    private int allocatedBuffers;
+    private byte[] buffer;
+    private int position;
+    private long bytesWritten;
+    private String uploadId;
+    private boolean closed;
+    private Result result;
+
+    S3MultipartOutputStream(S3Client s3Client, S3AsyncClient s3AsyncClient, String bucket, String key, String contentType, int partSize, int maxInFlightParts) {
+        this(s3Client, s3AsyncClient, bucket, key, contentType, Map.of(), partSize, maxInFlightParts);
+    }
+
+    S3MultipartOutputStream(S3Client s3Client, S3AsyncClient s3AsyncClient, String bucket, String key, String contentType, Map<String, String> metadata,
+                            int partSize, int maxInFlightParts) {
+        if (partSize < MIN_PART_SIZE) {
+            throw new IllegalArgumentException("Part size must be at least " + MIN_PART_SIZE + " bytes");
+        }
+        if (maxInFlightParts < 1) {
+            throw new IllegalArgumentException("Max in-flight parts must be positive");
+        }
+        this.s3Client = s3Client;
+        this.s3AsyncClient = s3AsyncClient;
+        this.bucket = bucket;
+        this.key = key;
+        this.contentType = contentType;
+        this.metadata = metadata;
+        this.partSize = partSize;
+        this.maxBuffers = maxInFlightParts + 1;
+        this.freeBuffers = new ArrayBlockingQueue<>(maxBuffers);
+    }
+
+    /**
+     * Outcome of a completed upload.
+     *
+     * @param bucket
+     * @param key
+     * @param eTag  entity tag of the object, a multipart tag ends with {@code -<parts>}
+     * @param bytes object size
+     * @param parts number of parts, 0 when sent with a single {@code putObject}
+     */
+    public record Result(String bucket, String key, String eTag, long bytes, int parts) {
+    }
+
+    @Override
+    public void write(int b) {
+        ensureWritable();
+        buffer[position++] = (byte) b;
+        bytesWritten++;
+        if (position == partSize) {
+            uploadPart();
+        }
+    }
+
+    @Override
+    public void write(byte[] bytes, int offset, int length) {
+        while (length > 0) {
+            ensureWritable();
+            int count = Math.min(length, partSize - position);
+            System.arraycopy(bytes, offset, buffer, position, count);
+            position += count;
+            bytesWritten += count;
+            offset += count;
+            length -= count;
+            if (position == partSize) {
+                uploadPart();
+            }
+        }
+    }
+
+    /**
+     * Parts can only be sent once full, flushing does not upload anything.
+     */
+    @Override
+    public void flush() {
+
+    }
+
+    /**
+     * Upload the buffered bytes and complete the upload, or abort it if any part failed.
+     *
+     * @param
+     * @return
+     * @throws software.amazon.awssdk.core.exception.SdkException if the upload cannot be completed
+     * @author Jack Lo
+     * @date 2026/10/18 20:17
+     */
+    @Override
+    public void close() {
+        if (closed) {
+            return;
+        }
+        closed = true;
+
+        try {
+            if (uploadId == null) {
+                putSinglePart();
+            } else {
+                if (position > 0) {
+                    uploadPart();
+                }
+                completeUpload();
+            }
+            log.info("Uploaded {} to {}: {} bytes in {} parts", key, bucket, result.bytes(), result.parts());
+        } catch (RuntimeException e) {
+            abortUpload();
+            throw e instanceof SdkException ? e : SdkException.create("Failed to upload " + key + " to " + bucket, e);
+        } finally {
+            buffer = null;
+            freeBuffers.clear();
+        }
+    }
+
+    /**
+     * Discard the upload: the buffered bytes are dropped and the uploaded parts deleted.
+     *
+     * @param
+     * @return
+     * @throws
+     * @author Jack Lo
+     * @date 2026/10/18 20:18
+     */
+    public void abort() {
+        if (closed) {
+            return;
+        }
+        closed = true;
+
+        abortUpload();
+        buffer = null;
+        freeBuffers.clear();
+    }
+
+    /**
+     * The outcome of the upload, null until the stream is closed successfully.
+     */
+    public Result getResult() {
+        return result;
+    }
+
+    public long getBytesWritten() {
+        return bytesWritten;
+    }
+
+    private void ensureWritable() {
+        if (closed) {
+            throw new IllegalStateException("S3 multipart output stream is closed");
+        }
+        rethrowFailure();
+        if (buffer == null) {
+            buffer = takeBuffer();
+            position = 0;
+        }
+    }
+
+    private void rethrowFailure() {
+        Throwable cause = failure.get();
+        if (cause != null) {
+            throw SdkException.create("Failed to upload a part of " + key + " to " + bucket, cause);
+        }
+    }
+
+    private byte[] takeBuffer() {
+        byte[] free = freeBuffers.poll();
+        if (free != null) {
+            return free;
+        }
+        if (allocatedBuffers < maxBuffers) {
+            allocatedBuffers++;
+            return new byte[partSize];
+        }
+
+        try {
+            // Every buffer is uploading: wait for a part to finish.
+            return freeBuffers.take();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw SdkException.create("Interrupted while waiting for a part upload of " + key, e);
+        }
+    }
+
+    private void uploadPart() {
+        if (uploadId == null) {
+            uploadId = s3Client.createMultipartUpload(request -> request.bucket(bucket).key(key).contentType(contentType).metadata(metadata)).uploadId();
+            log.debug("Started multipart upload {} of {} to {}", uploadId, key, bucket);
+        }
+
+        int partNumber = parts.size() + 1;
+        if (partNumber > MAX_PARTS) {
+            throw new IllegalStateException("Object exceeds " + MAX_PARTS + " parts of " + partSize + " bytes, use a larger part size");
+        }
+
+        byte[] data = buffer;
+        int length = position;
+        buffer = null;
+        position = 0;
+
+        // The buffer is not modified until the part completes, so the SDK may read it without a copy.
+        CompletableFuture<CompletedPart> part = s3AsyncClient.uploadPart(request -> request
+                        .bucket(bucket)
+                        .key(key)
+                        .uploadId(uploadId)
+                        .partNumber(partNumber)
+                        .contentLength((long) length),
+                AsyncRequestBody.fromRemainingByteBufferUnsafe(ByteBuffer.wrap(data, 0, length)))
+                .thenApply(response -> CompletedPart.builder().partNumber(partNumber).eTag(response.eTag()).build())
+                .whenComplete((completedPart, ex) -> {
+                    if (ex != null) {
+                        failure.compareAndSet(null, ex);
+                    }
+                    freeBuffers.offer(data);
+                });
+        parts.add(part);
+    }
+
+    private void putSinglePart() {
+        int length = buffer == null ? 0 : position;
+        RequestBody requestBody = length == 0
+                ? RequestBody.empty()
+                : RequestBody.fromContentProvider(() -> new ByteArrayInputStream(buffer, 0, length), length, contentType);
+        PutObjectResponse response = s3Client.putObject(request -> request.bucket(bucket).key(key).contentType(contentType).metadata(metadata), requestBody);
+        result = new Result(bucket, key, response.eTag(), length, 0);
+    }
+
+    private void completeUpload() {
+        CompletableFuture.allOf(parts.toArray(CompletableFuture[]::new)).join();
+        List<CompletedPart> completedParts = parts.stream().map(CompletableFuture::join).toList();
+
+        String eTag = s3Client.completeMultipartUpload(request -> request
+                .bucket(bucket)
+                .key(key)
+                .uploadId(uploadId)
+                .multipartUpload(upload -> upload.parts(completedParts))).eTag();
+        result = new Result(bucket, key, eTag, bytesWritten, completedParts.size());
+    }
+
+    private void abortUpload() {
+        if (uploadId == null) {
+            return;
+        }
+
+        // Parts still uploading would be stored after the abort, let them settle first.
+        for (CompletableFuture<CompletedPart> part : parts) {
+            part.exceptionally(ex -> null).join();
+        }
+        try {
+            s3Client.abortMultipartUpload(request -> request.bucket(bucket).key(key).uploadId(uploadId));
+            log.warn("Aborted multipart upload {} of {} to {}", uploadId, key, bucket);
+        } catch (RuntimeException e) {
+            log.error("Failed to abort multipart upload {} of {} to {}", uploadId, key, bucket, e);
+        }
+    }
+}
@@ -0,0 +1,255 @@
+package io.github.chikitlo.common.util;
+
+import lombok.extern.slf4j.Slf4j;
+import software.amazon.awssdk.core.exception.SdkException;
+import software.amazon.awssdk.services.s3.S3Client;
+import software.amazon.awssdk.services.s3.model.S3Exception;
+
+import java.net.URI;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Function;
+
+/**
+ * Latency-aware read router over replicated S3-compatible endpoints.
+ * <p>
+ * Every read goes to the healthy endpoint with the lowest EWMA latency and falls back to the next one on a server or
+ * network error. An endpoint is ejected after a number of consecutive failures and re-admitted by a background probe
+ * that also keeps the latency of idle endpoints fresh. Ejected endpoints are still tried last, so a read only fails
+ * when every endpoint has failed. The first endpoint is the primary one, used by S3Utils for all writes.
+ * </p>
+ * <p>
+ * Other client errors are returned as they are, except a 404 from a replica: a replica can lag behind the primary, so
+ * the read is retried on the primary before the error is thrown, and a key read right after it was written is found.
+ * </p>
+ * <p>
+ * Closing the router stops the probe and closes the replica clients; the primary client belongs to the caller.
+ * </p>
+ *
+ * @author Jack Lo
+ * @version 1.0
+ * @date 2026/10/18 13:40
+ */
+@Slf4j
+public final class S3ReadRouter implements AutoCloseable {
+    private static final double LATENCY_DECAY = 0.2;
+
+    private final List<Endpoint> endpoints;
+    private final int ejectionThreshold;
+    private final ScheduledExecutorService prober;
+
+    S3ReadRouter(List<URI> uris, List<S3Client> clients, int ejectionThreshold, Duration probeInterval) {
+        this.endpoints = new ArrayList<>(uris.size());
+        for (int i = 0; i < uris.size(); i++) {
+            endpoints.add(new Endpoint(uris.get(i), clients.get(i)));
+        }
+        this.ejectionThreshold = ejectionThreshold;
+
+        if (endpoints.size() > 1) {
+            prober = Executors.newSingleThreadScheduledExecutor(runnable -> {
+                Thread thread = new Thread(runnable, "s3-read-router-probe");
+                thread.setDaemon(true);
+                return thread;
+            });
+            long intervalMillis = probeInterval.toMillis();
+            prober.scheduleWithFixedDelay(this::probe, intervalMillis, intervalMillis, TimeUnit.MILLISECONDS);
+        } else {
+            prober = null;
+        }
+    }
+
+    /**
+     * Run a read operation against the best endpoint, falling back to the others on error.
+     *
+     * @param operation
+     * @return T
+     * @throws software.amazon.awssdk.core.exception.SdkException when every endpoint failed, or on a client error
+     * @author Jack Lo
+     * @date 2026/10/18 13:52
+     */
+    public <T> T read(Function<S3Client, T> operation) {
+        if (endpoints.size() == 1) {
+            return operation.apply(endpoints.get(0).client);
+        }
+
+        Endpoint primary = endpoints.get(0);
+        boolean primaryTried = false;
+        SdkException lastException = null;
+        for (Endpoint endpoint : rank()) {
+            primaryTried |= endpoint == primary;
+            long startTime = System.nanoTime();
+            try {
+                T result = operation.apply(endpoint.client);
+                endpoint.recordSuccess(System.nanoTime() - startTime);
+                return result;
+            } catch (SdkException e) {
+                if (isClientError(e)) {
+                    // The endpoint answered, the request itself is wrong: do not fail over, but a lagging replica may
+                    // not have a key the primary already has.
+                    endpoint.recordSuccess(System.nanoTime() - startTime);
+                    if (endpoint != primary && !primaryTried && isNotFound(e)) {
+                        return readPrimary(operation, e);
+                    }
+                    throw e;
+                }
+
+                recordFailure(endpoint, e);
+                lastException = e;
+            }
+        }
+
+        throw lastException;
+    }
+
+    private <T> T readPrimary(Function<S3Client, T> operation, SdkException replicaException) {
+        Endpoint primary = endpoints.get(0);
+        long startTime = System.nanoTime();
+        try {
+            T result = operation.apply(primary.client);
+            primary.recordSuccess(System.nanoTime() - startTime);
+            return result;
+        } catch (SdkException e) {
+            if (isClientError(e)) {
+                primary.recordSuccess(System.nanoTime() - startTime);
+            } else {
+                recordFailure(primary, e);
+            }
+            e.addSuppressed(replicaException);
+            throw e;
+        }
+    }
+
+    /**
+     * Stop the probe and close the replica clients.
+     *
+     * @param
+     * @return
+     * @throws
+     * @author Jack Lo
+     * @date 2026/10/18 21:31
+     */
+    @Override
+    public void close() {
+        if (prober != null) {
+            prober.shutdownNow();
+        }
+        for (Endpoint endpoint : endpoints.subList(1, endpoints.size())) {
+            endpoint.client.close();
+        }
+    }
+
+    /**
+     * Get the client of the primary endpoint.
+     *
+     * @param
+     * @return software.amazon.awssdk.services.s3.S3Client
+     * @throws
+     * @author Jack Lo
+     * @date 2026/10/18 13:55
+     */
+    public S3Client getPrimaryClient() {
+        return endpoints.get(0).client;
+    }
+
+    /**
+     * Get a snapshot of the endpoint states, for monitoring.
+     *
+     * @param
+     * @return java.util.List<io.github.chikitlo.common.util.S3ReadRouter.EndpointState>
+     * @throws
+     * @author Jack Lo
+     * @date 2026/10/18 13:57
+     */
+    public List<EndpointState> getEndpointStates() {
+        return endpoints.stream()
+                .map(endpoint -> new EndpointState(endpoint.uri, endpoint.ewmaNanos / 1_000_000.0, endpoint.consecutiveFailures, endpoint.ejected))
+                .toList();
+    }
+
+    public record EndpointState(URI endpoint, double latencyMillis, int consecutiveFailures, boolean ejected) {
+    }
+
+    private List<Endpoint> rank() {
+        // Unmeasured endpoints have a latency of 0, so they are tried first and get a measurement.
+        Comparator<Endpoint> byHealthThenLatency = Comparator
+                .comparing((Endpoint endpoint) -> endpoint.ejected)
+                .thenComparingDouble(endpoint -> endpoint.ewmaNanos);
+
+        return endpoints.stream().sorted(byHealthThenLatency).toList();
+    }
+
+    private void recordFailure(Endpoint endpoint, Exception e) {
+        synchronized (endpoint) {
+            endpoint.consecutiveFailures++;
+            if (!endpoint.ejected && endpoint.consecutiveFailures >= ejectionThreshold) {
+                endpoint.ejected = true;
+                log.warn("Ejected S3 endpoint {} after {} consecutive failures: {}", endpoint.uri, endpoint.consecutiveFailures, e.getMessage());
+            }
+        }
+    }
+
+    private void probe() {
+        for (Endpoint endpoint : endpoints) {
+            long startTime = System.nanoTime();
+            try {
+                endpoint.client.listBuckets();
+                readmit(endpoint, System.nanoTime() - startTime);
+            } catch (SdkException e) {
+                if (isClientError(e)) {
+                    // Reachable, the probe is just not permitted.
+                    readmit(endpoint, System.nanoTime() - startTime);
+                } else {
+                    recordFailure(endpoint, e);
+                }
+            } catch (RuntimeException e) {
+                log.warn("Unexpected error probing S3 endpoint {}: {}", endpoint.uri, e.getMessage());
+            }
+        }
+    }
+
+    private void readmit(Endpoint endpoint, long latencyNanos) {
+        boolean wasEjected = endpoint.ejected;
+        endpoint.recordSuccess(latencyNanos);
+        if (wasEjected) {
+            log.info("Re-admitted S3 endpoint {}", endpoint.uri);
+        }
+    }
+
+    private static boolean isClientError(SdkException e) {
+        if (e instanceof S3Exception s3Exception) {
+            int statusCode = s3Exception.statusCode();
+            return statusCode >= 400 && statusCode < 500 && statusCode != 408 && statusCode != 429;
+        }
+
+        return false;
+    }
+
+    private static boolean isNotFound(SdkException e) {
+        return e instanceof S3Exception s3Exception && s3Exception.statusCode() == 404;
+    }
+
+    private static final class Endpoint {
+        private final URI uri;
+        private final S3Client client;
+
+        private volatile double ewmaNanos;
+        private volatile int consecutiveFailures;
+        private volatile boolean ejected;
+
+        private Endpoint(URI uri, S3Client client) {
+            this.uri = uri;
+            this.client = client;
+        }
+
+        private synchronized void recordSuccess(long latencyNanos) {
+            ewmaNanos = ewmaNanos == 0 ? latencyNanos : LATENCY_DECAY * latencyNanos + (1 - LATENCY_DECAY) * ewmaNanos;
+            consecutiveFailures = 0;
+            ejected = false;
+        }
+    }
+}
@@ -13,6 +13,7 @@ import software.amazon.awssdk.core.exception.SdkException;
 import software.amazon.awssdk.core.retry.RetryMode;
 import software.amazon.awssdk.core.sync.RequestBody;
 import software.amazon.awssdk.core.sync.ResponseTransformer;
+import software.amazon.awssdk.http.apache.ApacheHttpClient;
 import software.amazon.awssdk.http.async.SdkAsyncHttpClient;
 import software.amazon.awssdk.http.nio.netty.NettyNioAsyncHttpClient;
 import software.amazon.awssdk.regions.Region;
@@ -25,36 +26,64 @@ import software.amazon.awssdk.transfer.s3.S3TransferManager;
 import software.amazon.awssdk.transfer.s3.model.CompletedDirectoryUpload;
 import software.amazon.awssdk.transfer.s3.model.DirectoryUpload;
 import software.amazon.awssdk.transfer.s3.model.UploadDirectoryRequest;
+import tools.jackson.core.JsonGenerator;
+import tools.jackson.databind.ObjectWriter;
 
 import java.io.FileOutputStream;
 import java.io.IOException;
+import java.io.InputStream;
 import java.io.OutputStream;
 import java.net.URI;
+import java.nio.charset.StandardCharsets;
 import java.nio.file.Files;
 import java.nio.file.Path;
 import java.nio.file.Paths;
 import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Iterator;
 import java.util.List;
+import java.util.Map;
+import java.util.UUID;
 import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.stream.Stream;
 import java.util.zip.GZIPInputStream;
 
 /**
  * Amazon S3 Utils
+ * <p>
+ * Holds the S3 clients and the read router probe: close it when it is no longer used.
+ * </p>
  *
  * @author Jack Lo
  * @version 1.0
  * @date 2025/12/13 17:55
  */
 @Slf4j
-public final class S3Utils {
+public final class S3Utils implements AutoCloseable {
+    private static final String JSON_LINES_CONTENT_TYPE = "application/x-ndjson";
+
     private String endpoint;
     private String accessKeyId;
     private String secretAccessKey;
     private String region;
+    private List<String> readEndpoints = new ArrayList<>();
+    private int readEjectionThreshold = 3;
+    private Duration readProbeInterval = Duration.ofSeconds(10);
+    private Path listingIndexDirectory = Paths.get(System.getProperty("java.io.tmpdir"), "s3-listing-index");
+    private int multipartPartSize = 8 * 1024 * 1024;
+    private int multipartMaxInFlightParts = 4;
+    private int maxConnections = 50;
+    private long multipartCopyThreshold = S3DedupUploader.MAX_SINGLE_REQUEST_SIZE;
 
     private S3Client s3Client;
     private S3AsyncClient s3AsyncClient;
     private S3TransferManager s3TransferManager;
+    private S3ReadRouter s3ReadRouter;
+    private S3DedupUploader s3DedupUploader;
+
+    private final Map<String, ListingIndexHolder> listingIndexes = new ConcurrentHashMap<>();
 
     private S3Utils() {
 
@@ -84,11 +113,76 @@ public final class S3Utils {
         return this;
     }
 
+    /**
+     * Replicas of the primary {@link #endpoint(String)} to route reads to. Writes always go to the primary endpoint.
+     */
+    public S3Utils readEndpoints(String... readEndpoints) {
+        this.readEndpoints = new ArrayList<>(Arrays.asList(readEndpoints));
+        return this;
+    }
+
+    public S3Utils readEjectionThreshold(int readEjectionThreshold) {
+        this.readEjectionThreshold = readEjectionThreshold;
+        return this;
+    }
+
+    public S3Utils readProbeInterval(Duration readProbeInterval) {
+        this.readProbeInterval = readProbeInterval;
+        return this;
+    }
+
+    public S3Utils listingIndexDirectory(String listingIndexDirectory) {
+        this.listingIndexDirectory = Paths.get(listingIndexDirectory);
+        return this;
+    }
+
+    /**
+     * Part buffer size of streamed and deduplicated multipart uploads, at least {@link S3MultipartOutputStream#MIN_PART_SIZE}.
+     */
+    public S3Utils multipartPartSize(int multipartPartSize) {
+        this.multipartPartSize = multipartPartSize;
+        return this;
+    }
+
+    /**
+     * Parts of a streamed multipart upload sent concurrently, the writer blocks beyond that.
+     */
+    public S3Utils multipartMaxInFlightParts(int multipartMaxInFlightParts) {
+        this.multipartMaxInFlightParts = multipartMaxInFlightParts;
+        return this;
+    }
+
+    /**
+     * Size above which deduplicated uploads copy the blob part by part with {@code uploadPartCopy} instead of a single
+     * {@code copyObject}, at most the 5 GB limit of {@code copyObject}.
+     */
+    public S3Utils multipartCopyThreshold(long multipartCopyThreshold) {
+        if (multipartCopyThreshold < 1 || multipartCopyThreshold > S3DedupUploader.MAX_SINGLE_REQUEST_SIZE) {
+            throw new IllegalArgumentException("Multipart copy threshold must be between 1 and " + S3DedupUploader.MAX_SINGLE_REQUEST_SIZE);
+        }
+        this.multipartCopyThreshold = multipartCopyThreshold;
+        return this;
+    }
+
+    /**
+     * Connection pool size of each sync client, also the default {@link S3BulkExecutor#maxConcurrency(int)} of
+     * {@link #bulk()}: a task beyond it would only wait for a connection.
+     */
+    public S3Utils maxConnections(int maxConnections) {
+        if (maxConnections < 1) {
+            throw new IllegalArgumentException("Max connections must be positive");
+        }
+        this.maxConnections = maxConnections;
+        return this;
+    }
+
     public S3Utils build() {
         validateRequiredParams();
         initClient();
+        initReadRouter();
         initAsyncClient();
         initTransferManager();
+        s3DedupUploader = new S3DedupUploader(s3Client, s3AsyncClient, multipartPartSize, multipartMaxInFlightParts, multipartCopyThreshold);
         return this;
     }
 
@@ -96,14 +190,47 @@ public final class S3Utils {
         return s3Client;
     }
 
+    public S3ReadRouter getReadRouter() {
+        return s3ReadRouter;
+    }
+
     public S3AsyncClient getAsyncClient() {
         return s3AsyncClient;
     }
 
+    public S3DedupUploader getDedupUploader() {
+        return s3DedupUploader;
+    }
+
     public S3TransferManager getTransferManager() {
         return s3TransferManager;
     }
 
+    /**
+     * Close the transfer manager, the read router and the clients.
+     *
+     * @param
+     * @return
+     * @throws
+     * @author Jack Lo
+     * @date 2026/10/18 21:36
+     */
+    @Override
+    public void close() {
+        if (s3TransferManager != null) {
+            s3TransferManager.close();
+        }
+        if (s3AsyncClient != null) {
+            s3AsyncClient.close();
+        }
+        if (s3ReadRouter != null) {
+            s3ReadRouter.close();
+        }
+        if (s3Client != null) {
+            s3Client.close();
+        }
+    }
+
     /**
      * Validate required fields before building clients.
      *
@@ -117,6 +244,10 @@ public final class S3Utils {
         if (ObjectUtils.isEmpty(endpoint) || ObjectUtils.isEmpty(accessKeyId) || ObjectUtils.isEmpty(secretAccessKey) || ObjectUtils.isEmpty(region)) {
             throw new IllegalArgumentException("Endpoint, Access Key ID, Secret Access Key, Region must be provided");
         }
+
+        if (readEjectionThreshold < 1 || readProbeInterval == null || readProbeInterval.isNegative() || readProbeInterval.isZero()) {
+            throw new IllegalArgumentException("Read ejection threshold must be positive and read probe interval must be a positive duration");
+        }
     }
 
     /**
@@ -130,14 +261,43 @@ public final class S3Utils {
      */
     private void initClient() {
         if (s3Client == null) {
-            s3Client = S3Client.builder()
-                    .endpointOverride(URI.create(endpoint))
-                    .credentialsProvider(StaticCredentialsProvider.create(AwsBasicCredentials.create(accessKeyId, secretAccessKey)))
-                    .region(Region.of(region))
-                    .build();
+            s3Client = createClient(endpoint);
         }
     }
 
+    /**
+     * Initialize S3 Read Router over the primary and read endpoints.
+     *
+     * @param
+     * @return
+     * @throws
+     * @author Jack Lo
+     * @date 2026/10/18 14:10
+     */
+    private void initReadRouter() {
+        if (s3ReadRouter == null) {
+            List<URI> uris = new ArrayList<>();
+            List<S3Client> clients = new ArrayList<>();
+            uris.add(URI.create(endpoint));
+            clients.add(s3Client);
+            for (String readEndpoint : readEndpoints) {
+                uris.add(URI.create(readEndpoint));
+                clients.add(createClient(readEndpoint));
+            }
+
+            s3ReadRouter = new S3ReadRouter(uris, clients, readEjectionThreshold, readProbeInterval);
+        }
+    }
+
+    private S3Client createClient(String endpoint) {
+        return S3Client.builder()
+                .endpointOverride(URI.create(endpoint))
+                .credentialsProvider(StaticCredentialsProvider.create(AwsBasicCredentials.create(accessKeyId, secretAccessKey)))
+                .region(Region.of(region))
+                .httpClientBuilder(ApacheHttpClient.builder().maxConnections(maxConnections))
+                .build();
+    }
+
     /**
      * Initialize S3 Async Client.
      *
@@ -229,14 +389,16 @@ public final class S3Utils {
                 .maxKeys(1)
                 .build();
 
-        ListObjectsV2Iterable listRes = s3Client.listObjectsV2Paginator(listReq);
+        return s3ReadRouter.read(client -> {
+            ListObjectsV2Iterable listRes = client.listObjectsV2Paginator(listReq);
 
-        return listRes
-                .stream()
-                .flatMap(item -> item.contents().stream())
-                .filter(item -> !prefix.equals(item.key()))
-                .map(item -> bucket + "/" + item.key())
-                .toList();
+            return listRes
+                    .stream()
+                    .flatMap(item -> item.contents().stream())
+                    .filter(item -> !prefix.equals(item.key()))
+                    .map(item -> bucket + "/" + item.key())
+                    .toList();
+        });
     }
 
     /**
@@ -257,13 +419,34 @@ public final class S3Utils {
                 .maxKeys(1)
                 .build();
 
-        ListObjectsV2Iterable listRes = s3Client.listObjectsV2Paginator(listReq);
+        return s3ReadRouter.read(client -> {
+            ListObjectsV2Iterable listRes = client.listObjectsV2Paginator(listReq);
 
-        return listRes
-                .stream()
-                .flatMap(item -> item.contents().stream())
-                .filter(item -> !prefix.equals(item.key()))
-                .toList();
+            return listRes
+                    .stream()
+                    .flatMap(item -> item.contents().stream())
+                    .filter(item -> !prefix.equals(item.key()))
+                    .toList();
+        });
+    }
+
+    /**
+     * Get the persisted listing index of a bucket prefix, loading it from the index directory on first use. The index
+     * is not refreshed here: call {@link S3ListingIndex#refresh()} to pick up the keys added since the last refresh, or
+     * {@link S3ListingIndex#rebuild()} for a full listing.
+     *
+     * @param bucket
+     * @param prefix
+     * @return io.github.chikitlo.common.util.S3ListingIndex
+     * @throws
+     * @author Jack Lo
+     * @date 2026/10/18 11:02
+     */
+    public S3ListingIndex listingIndex(String bucket, String prefix) {
+        return listingIndexes.computeIfAbsent(bucket + "/" + prefix, name -> {
+            String fileName = UUID.nameUUIDFromBytes(name.getBytes(StandardCharsets.UTF_8)) + ".idx";
+            return new ListingIndexHolder(new S3ListingIndex(s3Client, bucket, prefix, listingIndexDirectory.resolve(fileName)));
+        }).get();
     }
 
     /**
@@ -317,7 +500,7 @@ public final class S3Utils {
                 .key(key)
                 .build();
 
-        return s3Client.headObject(headObjectRequest);
+        return s3ReadRouter.read(client -> client.headObject(headObjectRequest));
     }
 
     /**
@@ -337,7 +520,7 @@ public final class S3Utils {
                 .key(key)
                 .build();
 
-        return s3Client.getObject(getObjectRequest, ResponseTransformer.toBytes());
+        return s3ReadRouter.read(client -> client.getObject(getObjectRequest, ResponseTransformer.toBytes()));
     }
 
     /**
@@ -359,7 +542,7 @@ public final class S3Utils {
                     .key(key)
                     .build();
 
-            ResponseBytes<GetObjectResponse> objectBytes = s3Client.getObject(getObjectRequest, ResponseTransformer.toBytes());
+            ResponseBytes<GetObjectResponse> objectBytes = s3ReadRouter.read(client -> client.getObject(getObjectRequest, ResponseTransformer.toBytes()));
             outputStream.write(objectBytes.asByteArray());
             log.info("Successfully obtained bytes from an S3 object, target path: {}", path);
         } catch (IOException e) {
@@ -505,6 +688,147 @@ public final class S3Utils {
         });
     }
 
+    /**
+     * Open a stream to an S3 object backed by a multipart upload, closing it completes the upload.
+     *
+     * @param bucket
+     * @param key
+     * @param contentType
+     * @return io.github.chikitlo.common.util.S3MultipartOutputStream
+     * @throws
+     * @author Jack Lo
+     * @date 2026/10/18 20:19
+     */
+    public S3MultipartOutputStream openMultipartUpload(String bucket, String key, String contentType) {
+        return new S3MultipartOutputStream(s3Client, s3AsyncClient, bucket, key, contentType, multipartPartSize, multipartMaxInFlightParts);
+    }
+
+    /**
+     * Serialize records as a JSON array straight into a multipart upload, in memory bounded by the part buffers.
+     *
+     * @param bucket
+     * @param key
+     * @param records
+     * @return io.github.chikitlo.common.util.S3MultipartOutputStream.Result
+     * @throws software.amazon.awssdk.core.exception.SdkException if the upload fails, the upload is then aborted
+     * @author Jack Lo
+     * @date 2026/10/18 20:20
+     */
+    public S3MultipartOutputStream.Result uploadJsonArray(String bucket, String key, Iterator<?> records) {
+        return uploadJson(bucket, key, records, false);
+    }
+
+    /**
+     * Serialize a stream of records as a JSON array straight into a multipart upload. The stream is not closed.
+     *
+     * @param bucket
+     * @param key
+     * @param records
+     * @return io.github.chikitlo.common.util.S3MultipartOutputStream.Result
+     * @throws software.amazon.awssdk.core.exception.SdkException if the upload fails, the upload is then aborted
+     * @author Jack Lo
+     * @date 2026/10/18 20:20
+     */
+    public S3MultipartOutputStream.Result uploadJsonArray(String bucket, String key, Stream<?> records) {
+        return uploadJson(bucket, key, records.iterator(), false);
+    }
+
+    /**
+     * Serialize records as JSON Lines straight into a multipart upload, in memory bounded by the part buffers.
+     *
+     * @param bucket
+     * @param key
+     * @param records
+     * @return io.github.chikitlo.common.util.S3MultipartOutputStream.Result
+     * @throws software.amazon.awssdk.core.exception.SdkException if the upload fails, the upload is then aborted
+     * @author Jack Lo
+     * @date 2026/10/18 20:20
+     */
+    public S3MultipartOutputStream.Result uploadJsonLines(String bucket, String key, Iterator<?> records) {
+        return uploadJson(bucket, key, records, true);
+    }
+
+    /**
+     * Serialize a stream of records as JSON Lines straight into a multipart upload. The stream is not closed.
+     *
+     * @param bucket
+     * @param key
+     * @param records
+     * @return io.github.chikitlo.common.util.S3MultipartOutputStream.Result
+     * @throws software.amazon.awssdk.core.exception.SdkException if the upload fails, the upload is then aborted
+     * @author Jack Lo
+     * @date 2026/10/18 20:20
+     */
+    public S3MultipartOutputStream.Result uploadJsonLines(String bucket, String key, Stream<?> records) {
+        return uploadJson(bucket, key, records.iterator(), true);
+    }
+
+    private S3MultipartOutputStream.Result uploadJson(String bucket, String key, Iterator<?> records, boolean lines) {
+        JsonProfile profile = JsonUtils.getDefaultProfile();
+        S3MultipartOutputStream outputStream = openMultipartUpload(bucket, key, lines ? JSON_LINES_CONTENT_TYPE : DataFormat.JSON.getContentType());
+        long count = 0;
+        try {
+            // One generator for the whole export, records are written through the profile's cached writers.
+            ObjectWriter generatorWriter = lines ? profile.writer().withRootValueSeparator("\n") : profile.writer();
+            try (JsonGenerator generator = generatorWriter.createGenerator(outputStream)) {
+                if (!lines) {
+                    generator.writeStartArray();
+                }
+                while (records.hasNext()) {
+                    Object record = records.next();
+                    profile.writerForValue(record).writeValue(generator, record);
+                    count++;
+                }
+                if (lines) {
+                    generator.writeRaw('\n');
+                } else {
+                    generator.writeEndArray();
+                }
+            }
+        } catch (RuntimeException e) {
+            outputStream.abort();
+            throw e instanceof SdkException ? e : SdkException.create("Failed to export " + key + " to " + bucket + " after " + count + " records", e);
+        }
+
+        outputStream.close();
+        log.info("Exported {} records to {} in {}", count, key, bucket);
+        return outputStream.getResult();
+    }
+
+    /**
+     * Upload file to S3 Bucket with content-addressed deduplication: the payload is stored once under
+     * {@code storePrefix + sha256} and the key is a server-side copy of it.
+     *
+     * @param bucket
+     * @param key
+     * @param source
+     * @param storePrefix
+     * @return io.github.chikitlo.common.util.S3DedupUploader.Result
+     * @throws
+     * @author Jack Lo
+     * @date 2026/10/18 17:10
+     */
+    public S3DedupUploader.Result uploadFileDeduplicated(String bucket, String key, Path source, String storePrefix) {
+        return s3DedupUploader.upload(bucket, key, source, storePrefix);
+    }
+
+    /**
+     * Upload stream to S3 Bucket with content-addressed deduplication, the stream is read once and spooled to a
+     * temporary file while it is hashed.
+     *
+     * @param bucket
+     * @param key
+     * @param source
+     * @param storePrefix
+     * @return io.github.chikitlo.common.util.S3DedupUploader.Result
+     * @throws
+     * @author Jack Lo
+     * @date 2026/10/18 17:12
+     */
+    public S3DedupUploader.Result uploadFileDeduplicated(String bucket, String key, InputStream source, String storePrefix) {
+        return s3DedupUploader.upload(bucket, key, source, storePrefix);
+    }
+
     /**
      * Upload directory to S3 Bucket.
      *
@@ -524,6 +848,61 @@ public final class S3Utils {
         return completedDirectoryUpload.failedTransfers().size();
     }
 
+    /**
+     * Create a bulk executor for fanning out blocking calls of this S3Utils, at most {@link #maxConnections(int)} in flight.
+     *
+     * @param
+     * @return io.github.chikitlo.common.util.S3BulkExecutor
+     * @throws
+     * @author Jack Lo
+     * @date 2026/10/18 15:52
+     */
+    public S3BulkExecutor bulk() {
+        return new S3BulkExecutor(maxConnections);
+    }
+
+    /**
+     * Head Objects by Bucket and Keys concurrently, results in key order.
+     *
+     * @param bucket
+     * @param keys
+     * @return java.util.List<io.github.chikitlo.common.util.S3BulkExecutor.Result<software.amazon.awssdk.services.s3.model.HeadObjectResponse>>
+     * @throws
+     * @author Jack Lo
+     * @date 2026/10/18 15:55
+     */
+    public List<S3BulkExecutor.Result<HeadObjectResponse>> bulkHeadObject(String bucket, List<String> keys) {
+        return bulk().execute(keys, key -> headObject(bucket, key));
+    }
+
+    /**
+     * Get Objects by Bucket and Keys concurrently, results in key order.
+     *
+     * @param bucket
+     * @param keys
+     * @return java.util.List<io.github.chikitlo.common.util.S3BulkExecutor.Result<software.amazon.awssdk.core.ResponseBytes<software.amazon.awssdk.services.s3.model.GetObjectResponse>>>
+     * @throws
+     * @author Jack Lo
+     * @date 2026/10/18 15:57
+     */
+    public List<S3BulkExecutor.Result<ResponseBytes<GetObjectResponse>>> bulkGetObject(String bucket, List<String> keys) {
+        return bulk().execute(keys, key -> getObject(bucket, key));
+    }
+
+    /**
+     * Upload files to S3 Bucket concurrently, results in the iteration order of the given map.
+     *
+     * @param bucket
+     * @param requestBodies key to request body
+     * @return java.util.List<io.github.chikitlo.common.util.S3BulkExecutor.Result<software.amazon.awssdk.services.s3.model.PutObjectResponse>>
+     * @throws
+     * @author Jack Lo
+     * @date 2026/10/18 16:01
+     */
+    public List<S3BulkExecutor.Result<PutObjectResponse>> bulkUploadFile(String bucket, Map<String, RequestBody> requestBodies) {
+        return bulk().execute(new ArrayList<>(requestBodies.entrySet()), entry -> uploadFile(bucket, entry.getKey(), entry.getValue()));
+    }
+
     /**
      * Decompress Gzip files to S3 Bucket.
      *
@@ -538,7 +917,7 @@ public final class S3Utils {
      */
     public void decompressGzipFile(String sourceBucket, String sourceKey, String destinationBucket, String destinationPrefix) throws IOException {
         GetObjectRequest getObjectRequest = GetObjectRequest.builder().bucket(sourceBucket).key(sourceKey).build();
-        try (ResponseInputStream<GetObjectResponse> responseInputStream = s3Client.getObject(getObjectRequest, ResponseTransformer.toInputStream());
+        try (ResponseInputStream<GetObjectResponse> responseInputStream = s3ReadRouter.read(client -> client.getObject(getObjectRequest, ResponseTransformer.toInputStream()));
              GZIPInputStream gzipInputStream = new GZIPInputStream(responseInputStream)) {
             String fileName = sourceKey.substring(sourceKey.lastIndexOf('/')).replace(".gz", "");
             String targetKey = destinationPrefix + fileName;
@@ -574,4 +953,28 @@ public final class S3Utils {
                     }
                 });
     }
+
+    /**
+     * Listing index loaded on first access, outside of the map update so the file is not read under its lock.
+     */
+    private static final class ListingIndexHolder {
+        private final S3ListingIndex index;
+        private volatile boolean loaded;
+
+        private ListingIndexHolder(S3ListingIndex index) {
+            this.index = index;
+        }
+
+        private S3ListingIndex get() {
+            if (!loaded) {
+                synchronized (this) {
+                    if (!loaded) {
+                        index.load();
+                        loaded = true;
+                    }
+                }
+            }
+            return index;
+        }
+    }
 }
\ No newline at end of file
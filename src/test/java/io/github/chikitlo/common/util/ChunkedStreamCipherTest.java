@@ -0,0 +1,201 @@
+package io.github.chikitlo.common.util;
+
+import org.jasypt.exceptions.EncryptionOperationNotPossibleException;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Base64;
+import java.util.List;
+import java.util.Random;
+import java.util.TreeSet;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * ChunkedStreamCipher format: round trips through streams and files, interchangeably, and rejection of tampered or
+ * truncated data.
+ *
+ * @author Jack Lo
+ * @version 1.0
+ * @date 2026/10/18 22:21
+ */
+class ChunkedStreamCipherTest {
+    private static final String PASSWORD = "password";
+    private static final int CHUNK_SIZE = 1024;
+    private static final int HEADER_LENGTH = 40;
+    private static final int TAG_LENGTH = 16;
+    private static final int SEALED_CHUNK_SIZE = CHUNK_SIZE + TAG_LENGTH;
+    private static final int[] SIZES = {0, 1, CHUNK_SIZE - 1, CHUNK_SIZE, CHUNK_SIZE + 1, 3 * CHUNK_SIZE, 3 * CHUNK_SIZE + 7};
+
+    /**
+     * "chunked stream cipher v1" encrypted with AES-128 in chunks of 16 bytes, by the first version of the format.
+     */
+    private static final String VERSION_1_VECTOR = "SkVOQwEQAAAAAAPoAAAAEHxvyiY3uwFWlq9PJaYoXTm1/zGKjW60DLHtWJrnhGF7ieQI2XU4QZFp4nKZpVQ56pYfpUjTP7XczHaX0soyk4tC/sfFOPcgK/bhQTHl1Ug5";
+
+    @TempDir
+    Path directory;
+
+    @Test
+    void decryptsTheFirstFormatVersion() throws IOException {
+        byte[] encrypted = Base64.getDecoder().decode(VERSION_1_VECTOR);
+        byte[] expected = "chunked stream cipher v1".getBytes(StandardCharsets.UTF_8);
+        ChunkedStreamCipher cipher = JasyptUtils.streamCipher(JasyptUtils.PBE_ALGORITHMS_HMAC_AES_128, PASSWORD);
+
+        assertArrayEquals(expected, decryptStream(cipher, encrypted));
+        assertArrayEquals(expected, decryptFile(cipher, encrypted));
+        // Header, then a full chunk and the 8 byte remainder, each with its tag.
+        assertEquals(HEADER_LENGTH + 16 + TAG_LENGTH + 8 + TAG_LENGTH, encrypted.length);
+    }
+
+    @Test
+    void roundTripsThroughStreamsAndFiles() throws IOException {
+        for (String algorithm : List.of(JasyptUtils.PBE_ALGORITHMS_HMAC_AES_128, JasyptUtils.PBE_ALGORITHMS_HMAC_AES_256)) {
+            ChunkedStreamCipher cipher = cipher(algorithm);
+            for (int size : SIZES) {
+                byte[] plain = randomBytes(size);
+                String message = algorithm + " " + size;
+
+                byte[] streamEncrypted = encryptStream(cipher, plain);
+                byte[] fileEncrypted = encryptFile(cipher, plain);
+                int chunks = size / CHUNK_SIZE + 1;
+                assertEquals(HEADER_LENGTH + size + chunks * TAG_LENGTH, streamEncrypted.length, message);
+                assertEquals(streamEncrypted.length, fileEncrypted.length, message);
+                assertFalse(Arrays.equals(streamEncrypted, fileEncrypted), message);
+
+                // Stream and file formats are interchangeable.
+                for (byte[] encrypted : List.of(streamEncrypted, fileEncrypted)) {
+                    assertArrayEquals(plain, decryptStream(cipher, encrypted), message);
+                    assertArrayEquals(plain, decryptFile(cipher, encrypted), message);
+                    assertArrayEquals(plain, readByteByByte(cipher.decryptingStream(new ByteArrayInputStream(encrypted))), message);
+                    // The header carries the settings, decryption only needs the password.
+                    assertArrayEquals(plain, decryptStream(JasyptUtils.streamCipher(PASSWORD), encrypted), message);
+                }
+
+                ByteArrayOutputStream target = new ByteArrayOutputStream();
+                try (OutputStream encrypting = cipher.encryptingStream(target)) {
+                    for (byte b : plain) {
+                        encrypting.write(b);
+                    }
+                }
+                assertArrayEquals(plain, decryptFile(cipher, target.toByteArray()), message);
+            }
+        }
+    }
+
+    @Test
+    void rejectsTamperedData() throws IOException {
+        ChunkedStreamCipher cipher = cipher(JasyptUtils.DEFAULT_ALGORITHM);
+        byte[] encrypted = encryptStream(cipher, randomBytes(3 * CHUNK_SIZE + 7));
+
+        // Every header field, the first and last byte of each chunk and of each tag.
+        TreeSet<Integer> positions = new TreeSet<>();
+        for (int i = 0; i < HEADER_LENGTH; i++) {
+            positions.add(i);
+        }
+        for (int start = HEADER_LENGTH; start < encrypted.length; start += SEALED_CHUNK_SIZE) {
+            int end = Math.min(encrypted.length, start + SEALED_CHUNK_SIZE);
+            positions.addAll(List.of(start, start + 1, end - TAG_LENGTH - 1, end - TAG_LENGTH, end - 1));
+        }
+        for (int position : positions) {
+            byte[] tampered = encrypted.clone();
+            tampered[position] ^= 0x01;
+            assertRejected(cipher, tampered, "flipped byte " + position);
+        }
+
+        byte[] swapped = encrypted.clone();
+        System.arraycopy(encrypted, HEADER_LENGTH, swapped, HEADER_LENGTH + SEALED_CHUNK_SIZE, SEALED_CHUNK_SIZE);
+        System.arraycopy(encrypted, HEADER_LENGTH + SEALED_CHUNK_SIZE, swapped, HEADER_LENGTH, SEALED_CHUNK_SIZE);
+        assertRejected(cipher, swapped, "swapped chunks");
+
+        byte[] appended = Arrays.copyOf(encrypted, encrypted.length + 1);
+        assertRejected(cipher, appended, "appended byte");
+
+        assertRejected(JasyptUtils.streamCipher("wrong password"), encrypted, "wrong password");
+    }
+
+    @Test
+    void rejectsTruncationAtAndAroundChunkBoundaries() throws IOException {
+        ChunkedStreamCipher cipher = cipher(JasyptUtils.DEFAULT_ALGORITHM);
+        for (int size : new int[]{3 * CHUNK_SIZE, 3 * CHUNK_SIZE + 7}) {
+            byte[] encrypted = encryptStream(cipher, randomBytes(size));
+            List<Integer> lengths = new ArrayList<>(List.of(0, 1, HEADER_LENGTH - 1, HEADER_LENGTH, HEADER_LENGTH + 1, encrypted.length - 1));
+            for (int boundary = HEADER_LENGTH + SEALED_CHUNK_SIZE; boundary < encrypted.length; boundary += SEALED_CHUNK_SIZE) {
+                // Whole chunks dropped, and cuts in the tag or data next to the boundary.
+                lengths.addAll(List.of(boundary - TAG_LENGTH, boundary - 1, boundary, boundary + 1, boundary + TAG_LENGTH));
+            }
+            // Past the last boundary of a multiple of the chunk size only the empty last chunk remains, whole.
+            lengths.removeIf(length -> length >= encrypted.length);
+            for (int length : lengths) {
+                assertRejected(cipher, Arrays.copyOf(encrypted, length), size + " bytes truncated to " + length);
+            }
+        }
+    }
+
+    private void assertRejected(ChunkedStreamCipher cipher, byte[] encrypted, String message) throws IOException {
+        assertThrows(EncryptionOperationNotPossibleException.class, () -> decryptStream(cipher, encrypted), message);
+
+        Path source = Files.write(directory.resolve("rejected.enc"), encrypted);
+        Path target = directory.resolve("rejected.bin");
+        assertThrows(EncryptionOperationNotPossibleException.class, () -> cipher.decrypt(source, target), message);
+        assertFalse(Files.exists(target), message);
+    }
+
+    private static ChunkedStreamCipher cipher(String algorithm) {
+        return JasyptUtils.streamCipher(algorithm, PASSWORD).chunkSize(CHUNK_SIZE).parallelism(3);
+    }
+
+    private static byte[] encryptStream(ChunkedStreamCipher cipher, byte[] plain) {
+        ByteArrayOutputStream target = new ByteArrayOutputStream();
+        assertEquals(plain.length, cipher.encrypt(new ByteArrayInputStream(plain), target));
+        return target.toByteArray();
+    }
+
+    private static byte[] decryptStream(ChunkedStreamCipher cipher, byte[] encrypted) {
+        ByteArrayOutputStream target = new ByteArrayOutputStream();
+        long length = cipher.decrypt(new ByteArrayInputStream(encrypted), target);
+        assertEquals(target.size(), length);
+        return target.toByteArray();
+    }
+
+    private byte[] encryptFile(ChunkedStreamCipher cipher, byte[] plain) throws IOException {
+        Path source = Files.write(directory.resolve("plain.bin"), plain);
+        Path target = directory.resolve("encrypted.enc");
+        assertEquals(plain.length, cipher.encrypt(source, target));
+        return Files.readAllBytes(target);
+    }
+
+    private byte[] decryptFile(ChunkedStreamCipher cipher, byte[] encrypted) throws IOException {
+        Path source = Files.write(directory.resolve("encrypted.enc"), encrypted);
+        Path target = directory.resolve("decrypted.bin");
+        long length = cipher.decrypt(source, target);
+        byte[] plain = Files.readAllBytes(target);
+        assertEquals(plain.length, length);
+        return plain;
+    }
+
+    private static byte[] readByteByByte(InputStream decrypting) throws IOException {
+        ByteArrayOutputStream plain = new ByteArrayOutputStream();
+        try (decrypting) {
+            for (int b = decrypting.read(); b >= 0; b = decrypting.read()) {
+                plain.write(b);
+            }
+        }
+        return plain.toByteArray();
+    }
+
+    private static byte[] randomBytes(int size) {
+        byte[] bytes = new byte[size];
+        new Random(size).nextBytes(bytes);
+        return bytes;
+    }
+}
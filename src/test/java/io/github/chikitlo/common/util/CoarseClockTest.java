@@ -0,0 +1,77 @@
+package io.github.chikitlo.common.util;
+
+import io.github.chikitlo.common.constant.DateConstants;
+import org.junit.jupiter.api.Test;
+
+import java.lang.management.ManagementFactory;
+import java.time.Duration;
+import java.time.ZoneId;
+import java.util.TimeZone;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * CoarseClock reads: cached without allocating, and following the system default zone.
+ *
+ * @author Jack Lo
+ * @version 1.0
+ * @date 2026/10/18 22:05
+ */
+class CoarseClockTest {
+    private static final int CALLS = 200_000;
+
+    @Test
+    void sharedClockReadsDoNotAllocate() {
+        com.sun.management.ThreadMXBean threads = (com.sun.management.ThreadMXBean) ManagementFactory.getThreadMXBean();
+        long threadId = Thread.currentThread().getId();
+        int sink = 0;
+        for (int round = 0; round < 5; round++) {
+            for (int i = 0; i < CALLS; i++) {
+                sink += DateUtils.getCurrentTime(DateConstants.YYYY_MM_DD_HH_MM_SS).length();
+                sink += DateUtils.getClock().localDateTime().getNano();
+            }
+        }
+
+        long before = threads.getThreadAllocatedBytes(threadId);
+        for (int i = 0; i < CALLS; i++) {
+            sink += DateUtils.getCurrentTime(DateConstants.YYYY_MM_DD_HH_MM_SS).length();
+            sink += DateUtils.getClock().localDateTime().getNano();
+        }
+        long allocated = threads.getThreadAllocatedBytes(threadId) - before;
+
+        // Refreshing a value once per tick or second allocates, resolving the zone on every read would cost 50+ bytes.
+        assertTrue(allocated < CALLS, () -> allocated + " bytes allocated by " + CALLS + " reads");
+        assertNotEquals(42, sink);
+    }
+
+    @Test
+    void followsTheSystemDefaultZone() throws InterruptedException {
+        TimeZone original = TimeZone.getDefault();
+        try (CoarseClock clock = new CoarseClock(null, Duration.ofMillis(5))) {
+            TimeZone.setDefault(TimeZone.getTimeZone("Asia/Tokyo"));
+            Thread.sleep(50);
+            assertEquals(ZoneId.of("Asia/Tokyo"), clock.getZone());
+            String tokyo = clock.format(FixedDateLayout.YYYY_MM_DD_HH_MM_SS);
+
+            TimeZone.setDefault(TimeZone.getTimeZone("America/New_York"));
+            Thread.sleep(50);
+            assertEquals(ZoneId.of("America/New_York"), clock.getZone());
+            assertNotEquals(tokyo, clock.format(FixedDateLayout.YYYY_MM_DD_HH_MM_SS));
+            assertSame(clock.format(FixedDateLayout.YYYY_MM_DD), clock.format(FixedDateLayout.YYYY_MM_DD));
+        } finally {
+            TimeZone.setDefault(original);
+        }
+    }
+
+    @Test
+    void fixedZoneIgnoresTheSystemDefault() throws InterruptedException {
+        TimeZone original = TimeZone.getDefault();
+        try (CoarseClock clock = new CoarseClock(ZoneId.of("UTC"), Duration.ofMillis(5))) {
+            TimeZone.setDefault(TimeZone.getTimeZone("Asia/Tokyo"));
+            Thread.sleep(20);
+            assertEquals(ZoneId.of("UTC"), clock.getZone());
+        } finally {
+            TimeZone.setDefault(original);
+        }
+    }
+}
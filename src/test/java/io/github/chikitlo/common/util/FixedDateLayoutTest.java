@@ -0,0 +1,184 @@
+package io.github.chikitlo.common.util;
+
+import org.junit.jupiter.api.Test;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.time.ZoneOffset;
+import java.time.zone.ZoneOffsetTransition;
+import java.time.zone.ZoneRules;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.Callable;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * FixedDateLayout against the generic {@link java.time.format.DateTimeFormatter} path it replaces: same epoch millis,
+ * same text and the same exceptions, for every layout.
+ *
+ * @author Jack Lo
+ * @version 1.0
+ * @date 2026/10/18 21:49
+ */
+class FixedDateLayoutTest {
+    private static final List<ZoneId> ZONES = List.of(
+            ZoneOffset.UTC,
+            ZoneId.of("Asia/Shanghai"),
+            ZoneId.of("Europe/London"),
+            ZoneId.of("America/New_York"),
+            // DST transitions at midnight, so some days have no start of day.
+            ZoneId.of("America/Sao_Paulo"),
+            // Half-hour DST shift.
+            ZoneId.of("Australia/Lord_Howe"),
+            // A whole day skipped in 2011.
+            ZoneId.of("Pacific/Apia"));
+
+    @Test
+    void parsesAndFormatsAroundDstTransitions() {
+        for (ZoneId zone : ZONES) {
+            ZoneRules rules = zone.getRules();
+            ZoneOffsetTransition transition = rules.nextTransition(Instant.parse("1985-01-01T00:00:00Z"));
+            for (int i = 0; i < 200 && transition != null && transition.getInstant().isBefore(Instant.parse("2040-01-01T00:00:00Z")); i++) {
+                LocalDateTime before = transition.getDateTimeBefore();
+                LocalDateTime after = transition.getDateTimeAfter();
+                LocalDateTime from = (before.isBefore(after) ? before : after).minusHours(2);
+                LocalDateTime to = (before.isBefore(after) ? after : before).plusHours(2);
+                // Local times through the gap or overlap, every 15 minutes and just around the transition.
+                for (LocalDateTime local = from; !local.isAfter(to); local = local.plusMinutes(15)) {
+                    checkParse(local, zone);
+                }
+                for (LocalDateTime local : List.of(before, after, before.minusNanos(1_000_000), after.minusNanos(1_000_000),
+                        before.plusSeconds(1), after.plusSeconds(1))) {
+                    checkParse(local, zone);
+                }
+
+                long epochMillis = transition.toEpochSecond() * 1000L;
+                for (long delta = -7_200_000L; delta <= 7_200_000L; delta += 900_000L) {
+                    checkFormat(epochMillis + delta, zone);
+                }
+                checkFormat(epochMillis - 1, zone);
+                transition = rules.nextTransition(transition.getInstant());
+            }
+        }
+    }
+
+    @Test
+    void delegatesSmartResolverCorrections() {
+        for (ZoneId zone : ZONES) {
+            // Day past the end of the month, clamped by the SMART resolver.
+            checkParse("2024-04-31 10:00:00", zone);
+            checkParse("2023-02-29", zone);
+            checkParse("2024-02-30 00:00:00.000", zone);
+            checkParse("20240431", zone);
+            checkParse("20240631123000", zone);
+            // End of day as hour 24, only accepted at 24:00:00.
+            checkParse("2024-03-10 24:00:00", zone);
+            checkParse("2024-03-10 24:00:00.000", zone);
+            checkParse("2024-03-10 24:00:01", zone);
+            checkParse("20240310240000", zone);
+            checkParse("20240310240000000", zone);
+            // Fields out of range.
+            checkParse("2024-13-01", zone);
+            checkParse("2024-00-10", zone);
+            checkParse("2024-01-00 00:00:00", zone);
+            checkParse("2024-01-01 23:60:00", zone);
+            checkParse("2024-01-01 23:59:60", zone);
+            checkParse("2024-01-01 25:00:00", zone);
+            // Malformed text.
+            checkParse("2024-01-01T10:00:00", zone);
+            checkParse("2024-01-0a", zone);
+            checkParse("2024-1-01", zone);
+            checkParse("2024-01-01 10:00:00 ", zone);
+            checkParse("", zone);
+        }
+    }
+
+    @Test
+    void handlesYearsOutsideTheFastRange() {
+        for (ZoneId zone : ZONES) {
+            for (String year : List.of("0000", "0001", "9999")) {
+                checkParse(year + "-01-01 00:00:00", zone);
+                checkParse(year + "-12-31 23:59:59.999", zone);
+                checkParse(year + "0101", zone);
+                checkParse(year + "1231", zone);
+            }
+
+            for (LocalDateTime local : List.of(LocalDateTime.of(0, 12, 31, 23, 59, 59), LocalDateTime.of(1, 1, 1, 0, 0),
+                    LocalDateTime.of(-1, 6, 15, 12, 0), LocalDateTime.of(9999, 12, 31, 23, 59, 59),
+                    LocalDateTime.of(10000, 1, 1, 0, 0), LocalDateTime.of(12345, 6, 7, 8, 9))) {
+                long epochMillis = local.toInstant(ZoneOffset.UTC).toEpochMilli();
+                for (long delta : new long[]{-86_400_000L, -1, 0, 1, 86_400_000L}) {
+                    checkFormat(epochMillis + delta, zone);
+                }
+            }
+        }
+    }
+
+    @Test
+    void matchesOnRandomInstants() {
+        Random random = new Random(20261018L);
+        long min = LocalDateTime.of(1, 1, 1, 0, 0).toInstant(ZoneOffset.UTC).toEpochMilli();
+        long max = LocalDateTime.of(9999, 12, 31, 23, 59, 59).toInstant(ZoneOffset.UTC).toEpochMilli();
+        long recentMin = Instant.parse("1900-01-01T00:00:00Z").toEpochMilli();
+        long recentMax = Instant.parse("2100-01-01T00:00:00Z").toEpochMilli();
+        for (int i = 0; i < 20_000; i++) {
+            // Zones interleaved so the cached offset windows keep moving.
+            ZoneId zone = ZONES.get(random.nextInt(ZONES.size()));
+            long epochMillis = i % 4 == 0 ? min + (long) (random.nextDouble() * (max - min)) : recentMin + (long) (random.nextDouble() * (recentMax - recentMin));
+            checkFormat(epochMillis, zone);
+            checkParse(LocalDateTime.ofInstant(Instant.ofEpochMilli(epochMillis), zone), zone);
+        }
+    }
+
+    private static void checkParse(LocalDateTime local, ZoneId zone) {
+        for (FixedDateLayout layout : FixedDateLayout.values()) {
+            checkParse(layout, local.format(layout.getFormatter()), zone);
+        }
+    }
+
+    private static void checkParse(String text, ZoneId zone) {
+        for (FixedDateLayout layout : FixedDateLayout.values()) {
+            checkParse(layout, text, zone);
+        }
+    }
+
+    private static void checkParse(FixedDateLayout layout, String text, ZoneId zone) {
+        String expected = outcome(() -> layout.hasTime()
+                ? LocalDateTime.parse(text, layout.getFormatter()).atZone(zone).toInstant().toEpochMilli()
+                : LocalDate.parse(text, layout.getFormatter()).atStartOfDay(zone).toInstant().toEpochMilli());
+        assertEquals(expected, outcome(() -> layout.parseEpochMillis(text, zone)), () -> layout + " parse of " + text + " in " + zone);
+        byte[] bytes = ("#" + text).getBytes(StandardCharsets.US_ASCII);
+        if (text.length() == layout.getLength()) {
+            assertEquals(expected, outcome(() -> layout.parseEpochMillis(bytes, 1, zone)), () -> layout + " byte parse of " + text + " in " + zone);
+        }
+    }
+
+    private static void checkFormat(long epochMillis, ZoneId zone) {
+        for (FixedDateLayout layout : FixedDateLayout.values()) {
+            String expected = outcome(() -> LocalDateTime.ofInstant(Instant.ofEpochMilli(epochMillis), zone).format(layout.getFormatter()));
+            assertEquals(expected, outcome(() -> layout.format(epochMillis, zone)), () -> layout + " format of " + epochMillis + " in " + zone);
+            assertEquals(expected, outcome(() -> layout.format(epochMillis, zone, new StringBuilder(">")).substring(1)),
+                    () -> layout + " append of " + epochMillis + " in " + zone);
+            assertEquals(expected, outcome(() -> {
+                char[] out = new char[layout.getLength() + 8];
+                int end = layout.format(epochMillis, zone, out, 2);
+                return new String(out, 2, end - 2);
+            }), () -> layout + " char format of " + epochMillis + " in " + zone);
+        }
+    }
+
+    /**
+     * The value, or the type and message of the exception.
+     */
+    private static String outcome(Callable<Object> call) {
+        try {
+            return String.valueOf(call.call());
+        } catch (Exception e) {
+            return e.getClass().getName() + ": " + e.getMessage();
+        }
+    }
+}
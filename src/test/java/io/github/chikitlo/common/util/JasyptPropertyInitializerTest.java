@@ -0,0 +1,89 @@
+package io.github.chikitlo.common.util;
+
+import com.ulisesbocchio.jasyptspringboot.EncryptablePropertyResolver;
+import org.junit.jupiter.api.Test;
+import org.springframework.context.support.GenericApplicationContext;
+import org.springframework.core.env.MapPropertySource;
+
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * JasyptPropertyInitializer serving the jasypt starter from values decrypted up front.
+ *
+ * @author Jack Lo
+ * @version 1.0
+ * @date 2026/10/18 22:13
+ */
+class JasyptPropertyInitializerTest {
+    private static final String ALGORITHM = "PBEWITHHMACSHA512ANDAES_256";
+
+    @Test
+    void decryptsEnvironmentUpFrontAndServesTheStarter() {
+        String password = UUID.randomUUID().toString();
+        Map<String, Object> properties = new HashMap<>();
+        properties.put("jasypt.encryptor.password", password);
+        properties.put("db.password", "ENC(" + JasyptUtils.encrypt("db-secret", ALGORITHM, password) + ")");
+        properties.put("mq.password", "  ENC(" + JasyptUtils.encrypt("mq-secret", ALGORITHM, password) + ") ");
+        properties.put("db.url", "jdbc:postgresql://db/app");
+        GenericApplicationContext context = context(properties);
+
+        new JasyptPropertyInitializer().initialize(context);
+
+        EncryptablePropertyResolver resolver = context.getBeanFactory().getBean(JasyptPropertyInitializer.RESOLVER_BEAN_NAME, EncryptablePropertyResolver.class);
+        assertEquals(2, JasyptUtils.decryptedValues(ALGORITHM, password).size());
+        assertEquals("db-secret", resolver.resolvePropertyValue(context.getEnvironment().getProperty("db.password")));
+        assertEquals("mq-secret", resolver.resolvePropertyValue(context.getEnvironment().getProperty("mq.password")));
+        assertEquals("jdbc:postgresql://db/app", resolver.resolvePropertyValue("jdbc:postgresql://db/app"));
+        assertNull(resolver.resolvePropertyValue(null));
+
+        // A value not in the environment at startup is decrypted on access and memoized.
+        assertEquals("late", resolver.resolvePropertyValue("ENC(" + JasyptUtils.encrypt("late", ALGORITHM, password) + ")"));
+        assertEquals(3, JasyptUtils.decryptedValues(ALGORITHM, password).size());
+        JasyptUtils.evictEncryptor(ALGORITHM, password);
+    }
+
+    @Test
+    void followsStarterPrefixSuffixAndAlgorithm() {
+        String password = UUID.randomUUID().toString();
+        String algorithm = JasyptUtils.PBE_ALGORITHMS_HMAC_AES_128;
+        GenericApplicationContext context = context(Map.of(
+                "jasypt.encryptor.password", password,
+                "jasypt.encryptor.algorithm", algorithm,
+                "jasypt.encryptor.key-obtention-iterations", "1000",
+                "jasypt.encryptor.property.prefix", "SECRET[",
+                "jasypt.encryptor.property.suffix", "]",
+                "api.key", "SECRET[" + JasyptUtils.encrypt("api-key", algorithm, password) + "]"));
+
+        new JasyptPropertyInitializer().initialize(context);
+
+        EncryptablePropertyResolver resolver = context.getBeanFactory().getBean(JasyptPropertyInitializer.RESOLVER_BEAN_NAME, EncryptablePropertyResolver.class);
+        assertEquals(1, JasyptUtils.decryptedValues(algorithm, password).size());
+        assertEquals("api-key", resolver.resolvePropertyValue(context.getEnvironment().getProperty("api.key")));
+        JasyptUtils.evictEncryptor(algorithm, password);
+    }
+
+    @Test
+    void leavesUnsupportedConfigurationsToTheStarter() {
+        for (Map<String, Object> properties : List.<Map<String, Object>>of(
+                Map.of("db.password", "ENC(abc)"),
+                Map.of("jasypt.encryptor.password", "secret", "jasypt.encryptor.bean", "customEncryptor"),
+                Map.of("jasypt.encryptor.password", "secret", "jasypt.encryptor.key-obtention-iterations", "5000"),
+                Map.of("jasypt.encryptor.password", "secret", "jasypt.encryptor.iv-generator-classname", "org.jasypt.iv.NoIvGenerator"),
+                Map.of("jasypt.encryptor.password", "secret", "jasypt.encryptor.private-key-location", "classpath:key.pem"))) {
+            GenericApplicationContext context = context(properties);
+            new JasyptPropertyInitializer().initialize(context);
+            assertFalse(context.getBeanFactory().containsBean(JasyptPropertyInitializer.RESOLVER_BEAN_NAME), properties::toString);
+        }
+    }
+
+    private static GenericApplicationContext context(Map<String, Object> properties) {
+        GenericApplicationContext context = new GenericApplicationContext();
+        context.getEnvironment().getPropertySources().addFirst(new MapPropertySource("test", properties));
+        return context;
+    }
+}
@@ -0,0 +1,127 @@
+package io.github.chikitlo.common.util;
+
+import org.junit.jupiter.api.Test;
+import tools.jackson.databind.JsonNode;
+import tools.jackson.databind.ObjectMapper;
+import tools.jackson.databind.json.JsonMapper;
+
+import java.io.ByteArrayInputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.Map;
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * JsonFieldExtractor against {@link JsonNode#findValue(String)} and {@link JsonNode#at(String)}.
+ *
+ * @author Jack Lo
+ * @version 1.0
+ * @date 2026/10/18 21:45
+ */
+class JsonFieldExtractorTest {
+    private static final ObjectMapper MAPPER = JsonMapper.builder().build();
+    private static final String[] NAMES = {"id", "a", "b"};
+
+    @Test
+    void topLevelPropertyBeatsEarlierNestedMatch() {
+        assertEquals("2", JsonUtils.getValue("{\"a\":{\"id\":1},\"id\":2}", "id"));
+        assertEquals("3", JsonUtils.getValue("{\"a\":{\"b\":{\"id\":1}},\"b\":{\"id\":2},\"id\":3}", "id"));
+        assertEquals("1", JsonUtils.getValue("{\"a\":{\"b\":{\"id\":1},\"c\":3},\"b\":{\"id\":2}}", "id"));
+    }
+
+    @Test
+    void propertyOfNestedObjectBeatsDeeperMatch() {
+        assertEquals("2", JsonUtils.getValue("{\"a\":{\"b\":{\"id\":1},\"id\":2},\"c\":3}", "id"));
+    }
+
+    @Test
+    void topLevelPropertyEndsTheRead() {
+        // The document is malformed after the property, it must not be read that far.
+        assertEquals("1", JsonUtils.getValue("{\"id\":1,\"a\":{\"id\":2}, !!!", "id"));
+        assertEquals("1", JsonUtils.getValue("{\"a\":{\"id\":2},\"id\":1, !!!", "id"));
+    }
+
+    @Test
+    void firstArrayElementWins() {
+        assertEquals("1", JsonUtils.getValue("[{\"x\":{\"id\":1}},{\"id\":2}]", "id"));
+        assertEquals("3", JsonUtils.getValue("[[{\"id\":3}],{\"id\":4}]", "id"));
+        // Nothing after the first match in an array of arrays can take precedence.
+        assertEquals("3", JsonUtils.getValue("[[{\"id\":3}], !!!", "id"));
+    }
+
+    @Test
+    void containerValuesAreRenderedAsJson() {
+        assertEquals("{\"id\":1}", JsonUtils.getValue("{\"a\":{\"b\":{\"id\":1}},\"b\":{\"id\":1}}", "b"));
+        assertEquals("[1,2]", JsonUtils.getValue("{\"a\":{\"id\":[0]},\"id\":[1,2]}", "id"));
+    }
+
+    @Test
+    void firstOfDuplicatePropertiesWins() {
+        assertEquals("1", JsonUtils.getValue("{\"id\":1,\"id\":2}", "id"));
+    }
+
+    @Test
+    void namesAndPointersInOnePass() {
+        String json = "{\"a\":{\"id\":1,\"list\":[{\"b\":true},{\"b\":false}]},\"id\":2}";
+        Map<String, String> values = JsonUtils.getValues(json, "id", "b", "/a/list/1/b", "/a/id", "/missing");
+        assertEquals(Map.of("id", "2", "b", "true", "/a/list/1/b", "false", "/a/id", "1"), values);
+        assertEquals(values, JsonUtils.fieldExtractor("id", "b", "/a/list/1/b", "/a/id", "/missing")
+                .extract(new ByteArrayInputStream(json.getBytes(StandardCharsets.UTF_8))));
+    }
+
+    @Test
+    void matchesFindValueOnRandomDocuments() {
+        Random random = new Random(20261018L);
+        JsonFieldExtractor extractor = JsonUtils.fieldExtractor(NAMES);
+        for (int run = 0; run < 5000; run++) {
+            String json = randomValue(random, 0);
+            JsonNode tree = MAPPER.readTree(json);
+            Map<String, String> values = extractor.extract(json.getBytes(StandardCharsets.UTF_8));
+            for (String name : NAMES) {
+                JsonNode expected = tree.findValue(name);
+                String expectedText = expected == null ? null : expected.isContainer() ? expected.toString() : expected.asString();
+                assertEquals(expectedText, values.get(name), () -> name + " in " + json);
+                assertEquals(expectedText, JsonUtils.getValue(json, name), () -> name + " in " + json);
+            }
+        }
+    }
+
+    /**
+     * A random document without duplicate property names in an object.
+     */
+    private static String randomValue(Random random, int depth) {
+        int kind = depth >= 4 ? 2 + random.nextInt(3) : random.nextInt(5);
+        switch (kind) {
+            case 0: {
+                StringBuilder json = new StringBuilder("{");
+                String[] keys = {"id", "a", "b", "c", "d"};
+                int count = random.nextInt(keys.length + 1);
+                for (int i = keys.length - 1; i > 0; i--) {
+                    int j = random.nextInt(i + 1);
+                    String key = keys[i];
+                    keys[i] = keys[j];
+                    keys[j] = key;
+                }
+                for (int i = 0; i < count; i++) {
+                    json.append(i == 0 ? "" : ",").append('"').append(keys[i]).append("\":").append(randomValue(random, depth + 1));
+                }
+                return json.append('}').toString();
+            }
+            case 1: {
+                StringBuilder json = new StringBuilder("[");
+                int count = random.nextInt(4);
+                for (int i = 0; i < count; i++) {
+                    json.append(i == 0 ? "" : ",").append(randomValue(random, depth + 1));
+                }
+                return json.append(']').toString();
+            }
+            case 2:
+                return String.valueOf(random.nextInt(100));
+            case 3:
+                return "\"s" + random.nextInt(100) + '"';
+            default:
+                return random.nextBoolean() ? "true" : "null";
+        }
+    }
+}
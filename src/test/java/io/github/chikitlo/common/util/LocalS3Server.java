@@ -0,0 +1,886 @@
+package io.github.chikitlo.common.util;
+
+import com.sun.net.httpserver.Headers;
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpServer;
+import lombok.extern.slf4j.Slf4j;
+
+import java.io.*;
+import java.net.InetSocketAddress;
+import java.net.URI;
+import java.net.URLDecoder;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.security.DigestOutputStream;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.ZoneOffset;
+import java.time.format.DateTimeFormatter;
+import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentSkipListMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/**
+ * Embedded, file-system backed S3-compatible HTTP stand-in.
+ * <p>
+ * Implements the subset of the S3 REST API used by S3Utils with path-style addressing: ListBuckets, CreateBucket,
+ * HeadBucket, ListObjectsV2, PutObject (including {@code aws-chunked} bodies), GetObject, HeadObject, CopyObject,
+ * DeleteObject and the multipart upload operations, including UploadPartCopy. Object data lives in files under the root directory, keys and
+ * metadata are kept in memory and in a sidecar file per object; pending multipart uploads are tracked in memory only.
+ * Latency, bandwidth and throttling (503 SlowDown) can be injected to reproduce remote stores. Requests are not
+ * authenticated.
+ * </p>
+ *
+ * @author Jack Lo
+ * @version 1.0
+ * @date 2026/10/18 18:05
+ */
+@Slf4j
+public final class LocalS3Server implements AutoCloseable {
+    private static final String S3_NAMESPACE = "http://s3.amazonaws.com/doc/2006-03-01/";
+    private static final String USER_METADATA_PREFIX = "x-amz-meta-";
+    private static final int CHUNK_SIZE = 64 * 1024;
+    private static final Pattern PART_NUMBER_PATTERN = Pattern.compile("<PartNumber>\\s*(\\d+)\\s*</PartNumber>");
+
+    static {
+        // Without TCP_NODELAY small responses wait for the client's delayed ACK, capping the server at ~25 requests/s
+        // per connection. Read once by the JDK server configuration, so it must be set before the first server starts.
+        System.setProperty("sun.net.httpserver.nodelay", "true");
+    }
+
+    private Path root;
+    private String host = "127.0.0.1";
+    private int port;
+    private int threads = 64;
+    private Duration latency = Duration.ZERO;
+    private long bandwidthBytesPerSecond;
+    private double throttleRate;
+
+    private HttpServer httpServer;
+    private final Map<String, Bucket> buckets = new ConcurrentHashMap<>();
+    private final Map<String, LongAdder> requestCounts = new ConcurrentHashMap<>();
+    private final Map<String, MultipartUpload> multipartUploads = new ConcurrentHashMap<>();
+
+    private LocalS3Server() {
+
+    }
+
+    public static LocalS3Server builder() {
+        return new LocalS3Server();
+    }
+
+    public LocalS3Server root(Path root) {
+        this.root = root;
+        return this;
+    }
+
+    public LocalS3Server host(String host) {
+        this.host = host;
+        return this;
+    }
+
+    /**
+     * Port to listen on, 0 picks a free port.
+     */
+    public LocalS3Server port(int port) {
+        this.port = port;
+        return this;
+    }
+
+    public LocalS3Server threads(int threads) {
+        this.threads = threads;
+        return this;
+    }
+
+    /**
+     * Delay added before every response.
+     */
+    public LocalS3Server latency(Duration latency) {
+        this.latency = latency;
+        return this;
+    }
+
+    /**
+     * Per-connection transfer rate of request and response bodies, 0 means unlimited.
+     */
+    public LocalS3Server bandwidthBytesPerSecond(long bandwidthBytesPerSecond) {
+        this.bandwidthBytesPerSecond = bandwidthBytesPerSecond;
+        return this;
+    }
+
+    /**
+     * Fraction of requests, between 0 and 1, answered with 503 SlowDown.
+     */
+    public LocalS3Server throttleRate(double throttleRate) {
+        this.throttleRate = throttleRate;
+        return this;
+    }
+
+    /**
+     * Load existing objects from the root directory and start listening.
+     *
+     * @param
+     * @return io.github.chikitlo.common.util.LocalS3Server
+     * @throws IOException
+     * @author Jack Lo
+     * @date 2026/10/18 18:12
+     */
+    public LocalS3Server start() throws IOException {
+        if (root == null) {
+            root = Files.createTempDirectory("local-s3-");
+        }
+        loadBuckets();
+
+        httpServer = HttpServer.create(new InetSocketAddress(host, port), 0);
+        httpServer.setExecutor(Executors.newFixedThreadPool(threads, runnable -> {
+            Thread thread = new Thread(runnable, "local-s3");
+            thread.setDaemon(true);
+            return thread;
+        }));
+        httpServer.createContext("/", this::handle);
+        httpServer.start();
+        log.info("Local S3 server listening on {}, root: {}", getEndpoint(), root);
+
+        return this;
+    }
+
+    @Override
+    public void close() {
+        if (httpServer != null) {
+            httpServer.stop(0);
+            httpServer = null;
+        }
+    }
+
+    public String getEndpoint() {
+        return "http://" + host + ":" + httpServer.getAddress().getPort();
+    }
+
+    public Path getRoot() {
+        return root;
+    }
+
+    /**
+     * Number of requests served for an operation name, e.g. {@code ListObjectsV2} or {@code GetObject}.
+     *
+     * @param operation
+     * @return long
+     * @throws
+     * @author Jack Lo
+     * @date 2026/10/18 18:15
+     */
+    public long getRequestCount(String operation) {
+        LongAdder count = requestCounts.get(operation);
+        return count == null ? 0 : count.sum();
+    }
+
+    public void resetRequestCounts() {
+        requestCounts.clear();
+    }
+
+    /**
+     * Number of multipart uploads started and neither completed nor aborted.
+     */
+    public int getPendingMultipartUploadCount() {
+        return multipartUploads.size();
+    }
+
+    public void createBucket(String name) throws IOException {
+        Files.createDirectories(root.resolve(name));
+        buckets.computeIfAbsent(name, Bucket::new);
+    }
+
+    private void handle(HttpExchange exchange) throws IOException {
+        try (exchange) {
+            if (!latency.isZero()) {
+                Thread.sleep(latency.toMillis());
+            }
+            if (throttleRate > 0 && ThreadLocalRandom.current().nextDouble() < throttleRate) {
+                count("Throttled");
+                sendError(exchange, 503, "SlowDown", "Please reduce your request rate.");
+                return;
+            }
+
+            String method = exchange.getRequestMethod();
+            String path = exchange.getRequestURI().getPath();
+            path = path.startsWith("/") ? path.substring(1) : path;
+            int slash = path.indexOf('/');
+            String bucketName = slash < 0 ? path : path.substring(0, slash);
+            String key = slash < 0 ? "" : path.substring(slash + 1);
+            Map<String, String> query = parseQuery(exchange.getRequestURI());
+
+            if (bucketName.isEmpty()) {
+                count("ListBuckets");
+                listBuckets(exchange);
+            } else if (key.isEmpty()) {
+                switch (method) {
+                    case "PUT" -> {
+                        count("CreateBucket");
+                        createBucket(bucketName);
+                        sendEmpty(exchange, 200);
+                    }
+                    case "HEAD" -> {
+                        count("HeadBucket");
+                        sendEmpty(exchange, buckets.containsKey(bucketName) ? 200 : 404);
+                    }
+                    case "GET" -> {
+                        count("ListObjectsV2");
+                        listObjects(exchange, bucketName, query);
+                    }
+                    default -> sendError(exchange, 405, "MethodNotAllowed", method + " is not supported on a bucket");
+                }
+            } else {
+                Bucket bucket = buckets.get(bucketName);
+                if (bucket == null) {
+                    sendError(exchange, 404, "NoSuchBucket", "The specified bucket does not exist");
+                    return;
+                }
+
+                if (query.containsKey("uploads") || query.containsKey("uploadId")) {
+                    handleMultipart(exchange, method, bucket, key, query);
+                    return;
+                }
+
+                switch (method) {
+                    case "PUT" -> {
+                        String copySource = exchange.getRequestHeaders().getFirst("x-amz-copy-source");
+                        if (copySource == null) {
+                            count("PutObject");
+                            putObject(exchange, bucket, key);
+                        } else {
+                            count("CopyObject");
+                            copyObject(exchange, bucket, key, copySource);
+                        }
+                    }
+                    case "GET" -> {
+                        count("GetObject");
+                        getObject(exchange, bucket, key, true);
+                    }
+                    case "HEAD" -> {
+                        count("HeadObject");
+                        getObject(exchange, bucket, key, false);
+                    }
+                    case "DELETE" -> {
+                        count("DeleteObject");
+                        deleteObject(bucket, key);
+                        sendEmpty(exchange, 204);
+                    }
+                    default -> sendError(exchange, 405, "MethodNotAllowed", method + " is not supported on an object");
+                }
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        } catch (IOException | RuntimeException e) {
+            log.warn("Local S3 request failed: {} {}: {}", exchange.getRequestMethod(), exchange.getRequestURI(), e.getMessage());
+            try {
+                sendError(exchange, 500, "InternalError", String.valueOf(e.getMessage()));
+            } catch (IOException | RuntimeException ignored) {
+                // Response already started.
+            }
+        }
+    }
+
+    private void listBuckets(HttpExchange exchange) throws IOException {
+        StringBuilder xml = new StringBuilder("<ListAllMyBucketsResult xmlns=\"" + S3_NAMESPACE + "\">")
+                .append("<Owner><ID>local</ID><DisplayName>local</DisplayName></Owner><Buckets>");
+        for (Bucket bucket : new TreeMap<>(buckets).values()) {
+            xml.append("<Bucket><Name>").append(escapeXml(bucket.name)).append("</Name><CreationDate>")
+                    .append(bucket.creationDate).append("</CreationDate></Bucket>");
+        }
+        xml.append("</Buckets></ListAllMyBucketsResult>");
+
+        sendXml(exchange, 200, xml.toString());
+    }
+
+    private void listObjects(HttpExchange exchange, String bucketName, Map<String, String> query) throws IOException, InterruptedException {
+        Bucket bucket = buckets.get(bucketName);
+        if (bucket == null) {
+            sendError(exchange, 404, "NoSuchBucket", "The specified bucket does not exist");
+            return;
+        }
+
+        String prefix = query.getOrDefault("prefix", "");
+        int maxKeys = Integer.parseInt(query.getOrDefault("max-keys", "1000"));
+        String continuationToken = query.get("continuation-token");
+        String startAfter = continuationToken != null
+                ? new String(Base64.getUrlDecoder().decode(continuationToken), StandardCharsets.UTF_8)
+                : query.getOrDefault("start-after", "");
+
+        String from = startAfter.compareTo(prefix) > 0 ? startAfter : prefix;
+        NavigableMap<String, ObjectMeta> candidates = bucket.objects.tailMap(from, !from.equals(startAfter));
+
+        StringBuilder contents = new StringBuilder();
+        int keyCount = 0;
+        String lastKey = null;
+        boolean truncated = false;
+        for (ObjectMeta meta : candidates.values()) {
+            if (!meta.key.startsWith(prefix)) {
+                break;
+            }
+            if (keyCount == maxKeys) {
+                truncated = true;
+                break;
+            }
+
+            contents.append("<Contents><Key>").append(escapeXml(meta.key)).append("</Key><LastModified>")
+                    .append(DateTimeFormatter.ISO_INSTANT.format(meta.lastModified)).append("</LastModified><ETag>&quot;")
+                    .append(meta.eTag).append("&quot;</ETag><Size>").append(meta.size)
+                    .append("</Size><StorageClass>STANDARD</StorageClass></Contents>");
+            keyCount++;
+            lastKey = meta.key;
+        }
+
+        StringBuilder xml = new StringBuilder("<ListBucketResult xmlns=\"" + S3_NAMESPACE + "\">")
+                .append("<Name>").append(escapeXml(bucketName)).append("</Name>")
+                .append("<Prefix>").append(escapeXml(prefix)).append("</Prefix>")
+                .append("<KeyCount>").append(keyCount).append("</KeyCount>")
+                .append("<MaxKeys>").append(maxKeys).append("</MaxKeys>")
+                .append("<IsTruncated>").append(truncated).append("</IsTruncated>");
+        if (continuationToken != null) {
+            xml.append("<ContinuationToken>").append(continuationToken).append("</ContinuationToken>");
+        }
+        if (truncated) {
+            String nextToken = Base64.getUrlEncoder().withoutPadding().encodeToString(lastKey.getBytes(StandardCharsets.UTF_8));
+            xml.append("<NextContinuationToken>").append(nextToken).append("</NextContinuationToken>");
+        }
+        xml.append(contents).append("</ListBucketResult>");
+
+        sendXml(exchange, 200, xml.toString());
+    }
+
+    private void putObject(HttpExchange exchange, Bucket bucket, String key) throws IOException, InterruptedException {
+        Headers headers = exchange.getRequestHeaders();
+        Path tempFile = Files.createTempFile(bucket.directory(root), "upload-", ".tmp");
+        MessageDigest md5 = md5();
+        long size = receiveBody(exchange, tempFile, md5);
+
+        ObjectMeta meta = new ObjectMeta(key, size, HexFormat.of().formatHex(md5.digest()), Instant.now(), userMetadata(headers));
+        bucket.store(root, meta, tempFile);
+
+        exchange.getResponseHeaders().set("ETag", "\"" + meta.eTag + "\"");
+        sendEmpty(exchange, 200);
+    }
+
+    private void handleMultipart(HttpExchange exchange, String method, Bucket bucket, String key, Map<String, String> query) throws IOException, InterruptedException {
+        if ("POST".equals(method) && query.containsKey("uploads")) {
+            count("CreateMultipartUpload");
+            String uploadId = UUID.randomUUID().toString();
+            multipartUploads.put(uploadId, new MultipartUpload(bucket, key, userMetadata(exchange.getRequestHeaders())));
+            sendXml(exchange, 200, "<InitiateMultipartUploadResult xmlns=\"" + S3_NAMESPACE + "\"><Bucket>" + escapeXml(bucket.name)
+                    + "</Bucket><Key>" + escapeXml(key) + "</Key><UploadId>" + uploadId + "</UploadId></InitiateMultipartUploadResult>");
+            return;
+        }
+
+        MultipartUpload upload = multipartUploads.get(query.get("uploadId"));
+        if (upload == null || upload.bucket != bucket || !upload.key.equals(key)) {
+            sendError(exchange, 404, "NoSuchUpload", "The specified multipart upload does not exist.");
+            return;
+        }
+
+        switch (method) {
+            case "PUT" -> {
+                int partNumber = Integer.parseInt(query.getOrDefault("partNumber", "0"));
+                String copySource = exchange.getRequestHeaders().getFirst("x-amz-copy-source");
+                Path partFile = Files.createTempFile(bucket.directory(root), "part-", ".tmp");
+                MessageDigest md5 = md5();
+                long size;
+                if (copySource == null) {
+                    count("UploadPart");
+                    size = receiveBody(exchange, partFile, md5);
+                } else {
+                    count("UploadPartCopy");
+                    size = copyPart(exchange, copySource, partFile, md5);
+                    if (size < 0) {
+                        Files.deleteIfExists(partFile);
+                        return;
+                    }
+                }
+                Part previous = upload.parts.put(partNumber, new Part(partFile, size, md5.digest()));
+                if (previous != null) {
+                    Files.deleteIfExists(previous.file);
+                }
+
+                String eTag = HexFormat.of().formatHex(upload.parts.get(partNumber).md5);
+                if (copySource == null) {
+                    exchange.getResponseHeaders().set("ETag", "\"" + eTag + "\"");
+                    sendEmpty(exchange, 200);
+                } else {
+                    sendXml(exchange, 200, "<CopyPartResult xmlns=\"" + S3_NAMESPACE + "\"><LastModified>"
+                            + DateTimeFormatter.ISO_INSTANT.format(Instant.now()) + "</LastModified><ETag>&quot;" + eTag
+                            + "&quot;</ETag></CopyPartResult>");
+                }
+            }
+            case "POST" -> {
+                count("CompleteMultipartUpload");
+                completeMultipartUpload(exchange, upload, query.get("uploadId"));
+            }
+            case "DELETE" -> {
+                count("AbortMultipartUpload");
+                multipartUploads.remove(query.get("uploadId"));
+                upload.deleteParts();
+                sendEmpty(exchange, 204);
+            }
+            default -> sendError(exchange, 405, "MethodNotAllowed", method + " is not supported on a multipart upload");
+        }
+    }
+
+    /**
+     * Concatenate the listed parts into the object. The ETag follows S3: the MD5 of the part MD5s, then the part count.
+     */
+    private void completeMultipartUpload(HttpExchange exchange, MultipartUpload upload, String uploadId) throws IOException {
+        String body = new String(exchange.getRequestBody().readAllBytes(), StandardCharsets.UTF_8);
+        List<Integer> partNumbers = new ArrayList<>();
+        Matcher matcher = PART_NUMBER_PATTERN.matcher(body);
+        while (matcher.find()) {
+            partNumbers.add(Integer.parseInt(matcher.group(1)));
+        }
+        for (Integer partNumber : partNumbers) {
+            if (!upload.parts.containsKey(partNumber)) {
+                sendError(exchange, 400, "InvalidPart", "Part " + partNumber + " has not been uploaded.");
+                return;
+            }
+        }
+
+        Path tempFile = Files.createTempFile(upload.bucket.directory(root), "complete-", ".tmp");
+        MessageDigest md5OfMd5s = md5();
+        long size = 0;
+        try (OutputStream out = Files.newOutputStream(tempFile)) {
+            for (Integer partNumber : partNumbers) {
+                Part part = upload.parts.get(partNumber);
+                Files.copy(part.file, out);
+                md5OfMd5s.update(part.md5);
+                size += part.size;
+            }
+        }
+
+        String eTag = HexFormat.of().formatHex(md5OfMd5s.digest()) + "-" + partNumbers.size();
+        ObjectMeta meta = new ObjectMeta(upload.key, size, eTag, Instant.now(), upload.userMetadata);
+        upload.bucket.store(root, meta, tempFile);
+        multipartUploads.remove(uploadId);
+        upload.deleteParts();
+
+        sendXml(exchange, 200, "<CompleteMultipartUploadResult xmlns=\"" + S3_NAMESPACE + "\"><Bucket>" + escapeXml(upload.bucket.name)
+                + "</Bucket><Key>" + escapeXml(upload.key) + "</Key><ETag>&quot;" + eTag + "&quot;</ETag></CompleteMultipartUploadResult>");
+    }
+
+    /**
+     * Copy the {@code x-amz-copy-source-range} of the source object, or all of it, into a part file.
+     *
+     * @return the part size, or -1 when an error response was sent
+     */
+    private long copyPart(HttpExchange exchange, String copySource, Path partFile, MessageDigest md5) throws IOException {
+        CopySource resolved = resolveCopySource(copySource);
+        if (resolved == null) {
+            sendError(exchange, 404, "NoSuchKey", "The specified key does not exist.");
+            return -1;
+        }
+
+        Path sourceFile = resolved.bucket.dataFile(root, resolved.meta.key);
+        long sourceSize = resolved.meta.size;
+        long first = 0;
+        long last = sourceSize - 1;
+        String range = exchange.getRequestHeaders().getFirst("x-amz-copy-source-range");
+        if (range != null) {
+            String[] bounds = range.substring("bytes=".length()).split("-");
+            first = Long.parseLong(bounds[0]);
+            last = Long.parseLong(bounds[1]);
+            if (first > last || last >= sourceSize) {
+                sendError(exchange, 400, "InvalidArgument", "The x-amz-copy-source-range value must be within the source object.");
+                return -1;
+            }
+        }
+
+        try (InputStream in = Files.newInputStream(sourceFile);
+             OutputStream out = new DigestOutputStream(Files.newOutputStream(partFile), md5)) {
+            in.skipNBytes(first);
+            long remaining = last - first + 1;
+            byte[] buffer = new byte[CHUNK_SIZE];
+            while (remaining > 0) {
+                int read = in.read(buffer, 0, (int) Math.min(buffer.length, remaining));
+                out.write(buffer, 0, read);
+                remaining -= read;
+            }
+        }
+        return last - first + 1;
+    }
+
+    /**
+     * Bucket and object named by an {@code x-amz-copy-source} header, null if the object does not exist.
+     */
+    private CopySource resolveCopySource(String copySource) {
+        String source = URLDecoder.decode(copySource, StandardCharsets.UTF_8);
+        source = source.startsWith("/") ? source.substring(1) : source;
+        int versionIndex = source.indexOf("?versionId=");
+        source = versionIndex < 0 ? source : source.substring(0, versionIndex);
+        int slash = source.indexOf('/');
+        Bucket sourceBucket = slash < 0 ? null : buckets.get(source.substring(0, slash));
+        ObjectMeta sourceMeta = sourceBucket == null ? null : sourceBucket.objects.get(source.substring(slash + 1));
+        return sourceMeta == null ? null : new CopySource(sourceBucket, sourceMeta);
+    }
+
+    private void copyObject(HttpExchange exchange, Bucket bucket, String key, String copySource) throws IOException {
+        CopySource resolved = resolveCopySource(copySource);
+        if (resolved == null) {
+            sendError(exchange, 404, "NoSuchKey", "The specified key does not exist.");
+            return;
+        }
+        Bucket sourceBucket = resolved.bucket;
+        ObjectMeta sourceMeta = resolved.meta;
+
+        Headers headers = exchange.getRequestHeaders();
+        Map<String, String> metadata = "REPLACE".equalsIgnoreCase(headers.getFirst("x-amz-metadata-directive"))
+                ? userMetadata(headers)
+                : sourceMeta.userMetadata;
+
+        Path tempFile = Files.createTempFile(bucket.directory(root), "copy-", ".tmp");
+        Files.copy(sourceBucket.dataFile(root, sourceMeta.key), tempFile, StandardCopyOption.REPLACE_EXISTING);
+        ObjectMeta meta = new ObjectMeta(key, sourceMeta.size, sourceMeta.eTag, Instant.now(), metadata);
+        bucket.store(root, meta, tempFile);
+
+        sendXml(exchange, 200, "<CopyObjectResult xmlns=\"" + S3_NAMESPACE + "\"><LastModified>"
+                + DateTimeFormatter.ISO_INSTANT.format(meta.lastModified) + "</LastModified><ETag>&quot;" + meta.eTag
+                + "&quot;</ETag></CopyObjectResult>");
+    }
+
+    private void getObject(HttpExchange exchange, Bucket bucket, String key, boolean withBody) throws IOException, InterruptedException {
+        ObjectMeta meta = bucket.objects.get(key);
+        if (meta == null) {
+            if (withBody) {
+                sendError(exchange, 404, "NoSuchKey", "The specified key does not exist.");
+            } else {
+                sendEmpty(exchange, 404);
+            }
+            return;
+        }
+
+        Headers responseHeaders = exchange.getResponseHeaders();
+        responseHeaders.set("Content-Type", "application/octet-stream");
+        responseHeaders.set("ETag", "\"" + meta.eTag + "\"");
+        responseHeaders.set("Last-Modified", DateTimeFormatter.RFC_1123_DATE_TIME.format(meta.lastModified.atOffset(ZoneOffset.UTC)));
+        meta.userMetadata.forEach((name, value) -> responseHeaders.set(USER_METADATA_PREFIX + name, value));
+
+        if (!withBody) {
+            responseHeaders.set("Content-Length", Long.toString(meta.size));
+            sendEmpty(exchange, 200);
+            return;
+        }
+
+        if (meta.size == 0) {
+            sendEmpty(exchange, 200);
+            return;
+        }
+
+        exchange.sendResponseHeaders(200, meta.size);
+        try (InputStream in = Files.newInputStream(bucket.dataFile(root, key))) {
+            transfer(in, exchange.getResponseBody());
+        }
+    }
+
+    private void deleteObject(Bucket bucket, String key) throws IOException {
+        ObjectMeta removed = bucket.objects.remove(key);
+        if (removed != null) {
+            Files.deleteIfExists(bucket.dataFile(root, key));
+            Files.deleteIfExists(bucket.metaFile(root, key));
+        }
+    }
+
+    private long receiveBody(HttpExchange exchange, Path file, MessageDigest md5) throws IOException, InterruptedException {
+        Headers headers = exchange.getRequestHeaders();
+        String contentSha256 = headers.getFirst("x-amz-content-sha256");
+        String contentEncoding = headers.getFirst("Content-Encoding");
+        boolean awsChunked = (contentSha256 != null && contentSha256.startsWith("STREAMING-"))
+                || (contentEncoding != null && contentEncoding.contains("aws-chunked"));
+
+        try (InputStream body = awsChunked ? new AwsChunkedInputStream(exchange.getRequestBody()) : exchange.getRequestBody();
+             OutputStream out = new DigestOutputStream(new BufferedOutputStream(Files.newOutputStream(file)), md5)) {
+            return transfer(body, out);
+        }
+    }
+
+    private long transfer(InputStream in, OutputStream out) throws IOException, InterruptedException {
+        byte[] buffer = new byte[CHUNK_SIZE];
+        long total = 0;
+        long startNanos = System.nanoTime();
+        int read;
+        while ((read = in.read(buffer)) != -1) {
+            out.write(buffer, 0, read);
+            total += read;
+            if (bandwidthBytesPerSecond > 0) {
+                long expectedNanos = total * 1_000_000_000L / bandwidthBytesPerSecond;
+                long aheadNanos = expectedNanos - (System.nanoTime() - startNanos);
+                if (aheadNanos > 0) {
+                    Thread.sleep(aheadNanos / 1_000_000, (int) (aheadNanos % 1_000_000));
+                }
+            }
+        }
+
+        return total;
+    }
+
+    private void loadBuckets() throws IOException {
+        if (!Files.isDirectory(root)) {
+            Files.createDirectories(root);
+            return;
+        }
+
+        try (var bucketDirectories = Files.list(root)) {
+            for (Path bucketDirectory : bucketDirectories.filter(Files::isDirectory).toList()) {
+                Bucket bucket = buckets.computeIfAbsent(bucketDirectory.getFileName().toString(), Bucket::new);
+                try (var metaFiles = Files.list(bucketDirectory)) {
+                    for (Path metaFile : metaFiles.filter(file -> file.toString().endsWith(".meta")).toList()) {
+                        ObjectMeta meta = ObjectMeta.read(metaFile);
+                        bucket.objects.put(meta.key, meta);
+                    }
+                }
+            }
+        }
+    }
+
+    private void count(String operation) {
+        requestCounts.computeIfAbsent(operation, name -> new LongAdder()).increment();
+    }
+
+    private static Map<String, String> userMetadata(Headers headers) {
+        Map<String, String> metadata = new TreeMap<>();
+        headers.forEach((name, values) -> {
+            String lowerName = name.toLowerCase(Locale.ROOT);
+            if (lowerName.startsWith(USER_METADATA_PREFIX) && !values.isEmpty()) {
+                metadata.put(lowerName.substring(USER_METADATA_PREFIX.length()), values.get(0));
+            }
+        });
+
+        return metadata;
+    }
+
+    private static Map<String, String> parseQuery(URI uri) {
+        Map<String, String> query = new HashMap<>();
+        String rawQuery = uri.getRawQuery();
+        if (rawQuery == null || rawQuery.isEmpty()) {
+            return query;
+        }
+
+        for (String parameter : rawQuery.split("&")) {
+            int equal = parameter.indexOf('=');
+            String name = URLDecoder.decode(equal < 0 ? parameter : parameter.substring(0, equal), StandardCharsets.UTF_8);
+            String value = equal < 0 ? "" : URLDecoder.decode(parameter.substring(equal + 1), StandardCharsets.UTF_8);
+            query.put(name, value);
+        }
+
+        return query;
+    }
+
+    private static void sendError(HttpExchange exchange, int status, String code, String message) throws IOException {
+        sendXml(exchange, status, "<Error><Code>" + code + "</Code><Message>" + escapeXml(message) + "</Message></Error>");
+    }
+
+    /**
+     * The JDK server closes the connection after a response without body unless the request body has been read to
+     * EOF, which makes pooled clients fail on their next request. Drain it first to keep the connection alive.
+     */
+    private static void sendEmpty(HttpExchange exchange, int status) throws IOException {
+        exchange.getRequestBody().transferTo(OutputStream.nullOutputStream());
+        exchange.sendResponseHeaders(status, -1);
+    }
+
+    private static void sendXml(HttpExchange exchange, int status, String body) throws IOException {
+        byte[] bytes = ("<?xml version=\"1.0\" encoding=\"UTF-8\"?>" + body).getBytes(StandardCharsets.UTF_8);
+        exchange.getRequestBody().transferTo(OutputStream.nullOutputStream());
+        exchange.getResponseHeaders().set("Content-Type", "application/xml");
+        exchange.sendResponseHeaders(status, bytes.length);
+        exchange.getResponseBody().write(bytes);
+    }
+
+    private static String escapeXml(String value) {
+        StringBuilder escaped = new StringBuilder(value.length());
+        for (int i = 0; i < value.length(); i++) {
+            char c = value.charAt(i);
+            switch (c) {
+                case '&' -> escaped.append("&amp;");
+                case '<' -> escaped.append("&lt;");
+                case '>' -> escaped.append("&gt;");
+                case '"' -> escaped.append("&quot;");
+                case '\'' -> escaped.append("&apos;");
+                default -> escaped.append(c);
+            }
+        }
+
+        return escaped.toString();
+    }
+
+    private static MessageDigest md5() {
+        try {
+            return MessageDigest.getInstance("MD5");
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("MD5 is not available", e);
+        }
+    }
+
+    private static final class Bucket {
+        private final String name;
+        private final String creationDate = DateTimeFormatter.ISO_INSTANT.format(Instant.now());
+        private final ConcurrentSkipListMap<String, ObjectMeta> objects = new ConcurrentSkipListMap<>();
+
+        private Bucket(String name) {
+            this.name = name;
+        }
+
+        private Path directory(Path root) {
+            return root.resolve(name);
+        }
+
+        private Path dataFile(Path root, String key) {
+            return directory(root).resolve(fileName(key) + ".data");
+        }
+
+        private Path metaFile(Path root, String key) {
+            return directory(root).resolve(fileName(key) + ".meta");
+        }
+
+        private void store(Path root, ObjectMeta meta, Path tempFile) throws IOException {
+            Files.move(tempFile, dataFile(root, meta.key), StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+            meta.write(metaFile(root, meta.key));
+            objects.put(meta.key, meta);
+        }
+
+        /**
+         * Keys may contain '/' and exceed file name limits, so objects are stored flat under a hash of the key.
+         */
+        private static String fileName(String key) {
+            try {
+                return HexFormat.of().formatHex(MessageDigest.getInstance("SHA-256").digest(key.getBytes(StandardCharsets.UTF_8)));
+            } catch (NoSuchAlgorithmException e) {
+                throw new IllegalStateException("SHA-256 is not available", e);
+            }
+        }
+    }
+
+    private record Part(Path file, long size, byte[] md5) {
+    }
+
+    private static final class MultipartUpload {
+        private final Bucket bucket;
+        private final String key;
+        private final Map<String, String> userMetadata;
+        private final ConcurrentSkipListMap<Integer, Part> parts = new ConcurrentSkipListMap<>();
+
+        private MultipartUpload(Bucket bucket, String key, Map<String, String> userMetadata) {
+            this.bucket = bucket;
+            this.key = key;
+            this.userMetadata = userMetadata;
+        }
+
+        private void deleteParts() throws IOException {
+            for (Part part : parts.values()) {
+                Files.deleteIfExists(part.file);
+            }
+            parts.clear();
+        }
+    }
+
+    private record CopySource(Bucket bucket, ObjectMeta meta) {
+    }
+
+    private record ObjectMeta(String key, long size, String eTag, Instant lastModified, Map<String, String> userMetadata) {
+        private void write(Path metaFile) throws IOException {
+            Properties properties = new Properties();
+            properties.setProperty("key", key);
+            properties.setProperty("size", Long.toString(size));
+            properties.setProperty("etag", eTag);
+            properties.setProperty("lastModified", lastModified.toString());
+            userMetadata.forEach((name, value) -> properties.setProperty(USER_METADATA_PREFIX + name, value));
+
+            try (Writer writer = Files.newBufferedWriter(metaFile, StandardCharsets.UTF_8)) {
+                properties.store(writer, null);
+            }
+        }
+
+        private static ObjectMeta read(Path metaFile) throws IOException {
+            Properties properties = new Properties();
+            try (Reader reader = Files.newBufferedReader(metaFile, StandardCharsets.UTF_8)) {
+                properties.load(reader);
+            }
+
+            Map<String, String> userMetadata = new TreeMap<>();
+            for (String name : properties.stringPropertyNames()) {
+                if (name.startsWith(USER_METADATA_PREFIX)) {
+                    userMetadata.put(name.substring(USER_METADATA_PREFIX.length()), properties.getProperty(name));
+                }
+            }
+
+            return new ObjectMeta(properties.getProperty("key"), Long.parseLong(properties.getProperty("size")),
+                    properties.getProperty("etag"), Instant.parse(properties.getProperty("lastModified")), userMetadata);
+        }
+    }
+
+    /**
+     * Decodes an {@code aws-chunked} body: {@code <hex-size>[;chunk-signature=...]\r\n<data>\r\n}, terminated by a
+     * zero-size chunk optionally followed by trailers.
+     */
+    private static final class AwsChunkedInputStream extends InputStream {
+        private final InputStream in;
+        private long remaining;
+        private boolean finished;
+
+        private AwsChunkedInputStream(InputStream in) {
+            this.in = new BufferedInputStream(in);
+        }
+
+        @Override
+        public int read() throws IOException {
+            byte[] single = new byte[1];
+            return read(single, 0, 1) == -1 ? -1 : single[0] & 0xFF;
+        }
+
+        @Override
+        public int read(byte[] buffer, int offset, int length) throws IOException {
+            if (finished) {
+                return -1;
+            }
+            if (remaining == 0) {
+                String header = readLine();
+                int semicolon = header.indexOf(';');
+                remaining = Long.parseLong((semicolon < 0 ? header : header.substring(0, semicolon)).trim(), 16);
+                if (remaining == 0) {
+                    // Skip trailers up to the terminating empty line.
+                    while (!readLine().isEmpty()) {
+                        // Trailing checksums are not verified.
+                    }
+                    finished = true;
+                    return -1;
+                }
+            }
+
+            int read = in.read(buffer, offset, (int) Math.min(length, remaining));
+            if (read == -1) {
+                throw new EOFException("Unexpected end of aws-chunked body");
+            }
+            remaining -= read;
+            if (remaining == 0) {
+                readLine();
+            }
+
+            return read;
+        }
+
+        private String readLine() throws IOException {
+            StringBuilder line = new StringBuilder();
+            int c;
+            while ((c = in.read()) != -1 && c != '\n') {
+                if (c != '\r') {
+                    line.append((char) c);
+                }
+            }
+
+            return line.toString();
+        }
+    }
+}
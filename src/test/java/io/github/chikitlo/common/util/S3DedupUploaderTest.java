@@ -0,0 +1,112 @@
+package io.github.chikitlo.common.util;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * S3DedupUploader against a {@link LocalS3Server}: multipart blobs, part-by-part copies and a blob deleted behind the
+ * cache.
+ *
+ * @author Jack Lo
+ * @version 1.0
+ * @date 2026/10/18 22:20
+ */
+class S3DedupUploaderTest {
+    private static final String BUCKET = "dedup";
+    private static final String STORE_PREFIX = "blobs/";
+    private static final int PART_SIZE = S3MultipartOutputStream.MIN_PART_SIZE;
+
+    @TempDir
+    Path directory;
+
+    private LocalS3Server server;
+    private S3Utils s3Utils;
+
+    @BeforeEach
+    void start() throws IOException {
+        server = LocalS3Server.builder().root(directory.resolve("s3")).start();
+        server.createBucket(BUCKET);
+        s3Utils = S3Utils.builder()
+                .endpoint(server.getEndpoint())
+                .accessKeyId("test")
+                .secretAccessKey("test")
+                .region("us-east-1")
+                .listingIndexDirectory(directory.resolve("index").toString())
+                .multipartPartSize(PART_SIZE)
+                .multipartCopyThreshold(2L * PART_SIZE)
+                .build();
+    }
+
+    @AfterEach
+    void stop() {
+        s3Utils.close();
+        server.close();
+    }
+
+    @Test
+    void uploadsMultipartBlobAndCopiesItPartByPart() throws IOException {
+        // Four parts and a tail, above the copy threshold.
+        byte[] content = randomBytes(21 * 1024 * 1024);
+        Path source = Files.write(directory.resolve("large.bin"), content);
+
+        S3DedupUploader.Result first = s3Utils.uploadFileDeduplicated(BUCKET, "releases/a.bin", source, STORE_PREFIX);
+        assertEquals(S3DedupUploader.Outcome.UPLOADED, first.outcome());
+        assertEquals(STORE_PREFIX + first.sha256(), first.blobKey());
+        assertEquals(5, server.getRequestCount("UploadPart"));
+        assertEquals(0, server.getRequestCount("PutObject"));
+        assertTrue(server.getRequestCount("UploadPartCopy") > 0);
+        assertEquals(0, server.getRequestCount("CopyObject"));
+
+        server.resetRequestCounts();
+        S3DedupUploader.Result second = s3Utils.uploadFileDeduplicated(BUCKET, "releases/b.bin", new ByteArrayInputStream(content), STORE_PREFIX);
+        assertEquals(S3DedupUploader.Outcome.COPIED, second.outcome());
+        assertEquals(first.sha256(), second.sha256());
+        assertEquals(0, server.getRequestCount("UploadPart"));
+        assertTrue(server.getRequestCount("UploadPartCopy") > 0);
+
+        server.resetRequestCounts();
+        assertEquals(S3DedupUploader.Outcome.SKIPPED, s3Utils.uploadFileDeduplicated(BUCKET, "releases/b.bin", source, STORE_PREFIX).outcome());
+        assertEquals(0, server.getRequestCount("UploadPartCopy"));
+        assertEquals(0, server.getPendingMultipartUploadCount());
+
+        for (String key : new String[]{"releases/a.bin", "releases/b.bin", first.blobKey()}) {
+            assertArrayEquals(content, s3Utils.getObject(BUCKET, key).asByteArray(), key);
+            assertEquals(first.sha256(), s3Utils.headObject(BUCKET, key).metadata().get(S3DedupUploader.CONTENT_SHA256_METADATA), key);
+        }
+    }
+
+    @Test
+    void uploadsBlobAgainWhenDeletedBehindTheCache() throws IOException {
+        for (int size : new int[]{1024, 3 * PART_SIZE}) {
+            byte[] content = randomBytes(size);
+            Path source = Files.write(directory.resolve("source.bin"), content);
+
+            S3DedupUploader.Result first = s3Utils.uploadFileDeduplicated(BUCKET, "a-" + size, source, STORE_PREFIX);
+            assertEquals(S3DedupUploader.Outcome.UPLOADED, first.outcome());
+            s3Utils.getClient().deleteObject(request -> request.bucket(BUCKET).key(first.blobKey()));
+
+            // The blob is still cached as present, the failed copy uploads it again.
+            assertEquals(S3DedupUploader.Outcome.UPLOADED, s3Utils.uploadFileDeduplicated(BUCKET, "b-" + size, source, STORE_PREFIX).outcome());
+            assertArrayEquals(content, s3Utils.getObject(BUCKET, "b-" + size).asByteArray());
+            assertArrayEquals(content, s3Utils.getObject(BUCKET, first.blobKey()).asByteArray());
+            assertEquals(S3DedupUploader.Outcome.COPIED, s3Utils.uploadFileDeduplicated(BUCKET, "c-" + size, source, STORE_PREFIX).outcome());
+        }
+        assertEquals(0, server.getPendingMultipartUploadCount());
+    }
+
+    private static byte[] randomBytes(int size) {
+        byte[] bytes = new byte[size];
+        new Random(size).nextBytes(bytes);
+        return bytes;
+    }
+}
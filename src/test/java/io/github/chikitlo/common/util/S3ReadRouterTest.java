@@ -0,0 +1,122 @@
+package io.github.chikitlo.common.util;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import software.amazon.awssdk.core.sync.RequestBody;
+import software.amazon.awssdk.services.s3.model.S3Exception;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.time.Duration;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * S3Utils read routing against two {@link LocalS3Server}s, a slow primary and a fast replica.
+ *
+ * @author Jack Lo
+ * @version 1.0
+ * @date 2026/10/18 22:25
+ */
+class S3ReadRouterTest {
+    private static final String BUCKET = "routing";
+    private static final String PROBE_THREAD_NAME = "s3-read-router-probe";
+
+    @TempDir
+    Path directory;
+
+    private LocalS3Server primary;
+    private LocalS3Server replica;
+    private S3Utils s3Utils;
+    private S3Utils replicaWriter;
+
+    @BeforeEach
+    void start() throws IOException {
+        primary = LocalS3Server.builder().root(directory.resolve("primary")).latency(Duration.ofMillis(20)).start();
+        replica = LocalS3Server.builder().root(directory.resolve("replica")).start();
+        primary.createBucket(BUCKET);
+        replica.createBucket(BUCKET);
+
+        s3Utils = S3Utils.builder()
+                .endpoint(primary.getEndpoint())
+                .readEndpoints(replica.getEndpoint())
+                .readEjectionThreshold(2)
+                .readProbeInterval(Duration.ofMillis(200))
+                .accessKeyId("test")
+                .secretAccessKey("test")
+                .region("us-east-1")
+                .build();
+        replicaWriter = S3Utils.builder()
+                .endpoint(replica.getEndpoint())
+                .accessKeyId("test")
+                .secretAccessKey("test")
+                .region("us-east-1")
+                .build();
+
+        // Replicated key.
+        s3Utils.uploadFile(BUCKET, "shared", RequestBody.fromString("shared"));
+        replicaWriter.uploadFile(BUCKET, "shared", RequestBody.fromString("shared"));
+    }
+
+    @AfterEach
+    void stop() {
+        s3Utils.close();
+        replicaWriter.close();
+        primary.close();
+        replica.close();
+    }
+
+    @Test
+    void readsGoToTheFasterReplica() {
+        for (int i = 0; i < 10; i++) {
+            s3Utils.getObject(BUCKET, "shared");
+        }
+        primary.resetRequestCounts();
+        replica.resetRequestCounts();
+
+        for (int i = 0; i < 20; i++) {
+            assertEquals("shared", s3Utils.getObject(BUCKET, "shared").asUtf8String());
+        }
+        assertTrue(replica.getRequestCount("GetObject") >= 18, () -> "replica served " + replica.getRequestCount("GetObject") + " of 20");
+    }
+
+    @Test
+    void retriesKeyMissingOnLaggingReplicaOnThePrimary() {
+        // Written to the primary only, the replica has not received it yet.
+        s3Utils.uploadFile(BUCKET, "fresh", RequestBody.fromString("fresh"));
+        primary.resetRequestCounts();
+        replica.resetRequestCounts();
+
+        assertEquals("fresh", s3Utils.getObject(BUCKET, "fresh").asUtf8String());
+        assertEquals(5, s3Utils.headObject(BUCKET, "fresh").contentLength());
+        assertEquals(1, replica.getRequestCount("GetObject"));
+        assertEquals(1, primary.getRequestCount("GetObject"));
+    }
+
+    @Test
+    void keyMissingEverywhereFailsWith404() {
+        S3Exception e = assertThrows(S3Exception.class, () -> s3Utils.getObject(BUCKET, "missing"));
+        assertEquals(404, e.statusCode());
+    }
+
+    @Test
+    void failsOverToThePrimaryAndEjectsReplicaDown() {
+        replica.close();
+        for (int i = 0; i < 5; i++) {
+            assertEquals("shared", s3Utils.getObject(BUCKET, "shared").asUtf8String());
+        }
+
+        S3ReadRouter.EndpointState replicaState = s3Utils.getReadRouter().getEndpointStates().get(1);
+        assertTrue(replicaState.ejected(), replicaState::toString);
+    }
+
+    @Test
+    void closeStopsTheProbe() throws InterruptedException {
+        s3Utils.close();
+        Thread.sleep(100);
+
+        assertTrue(Thread.getAllStackTraces().keySet().stream().noneMatch(thread -> PROBE_THREAD_NAME.equals(thread.getName())));
+    }
+}